@@ -0,0 +1,39 @@
+package com.trip.auth;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+/**
+ * 관리자 API({@code /apiv1/admin/**}) 요청의 공유 관리자 토큰 확인
+ * 사용자 역할 구분이 없으므로 회원 JWT 대신 운영자에게만 배포한 토큰을 {@value #HEADER} 헤더로 받습니다.
+ * 토큰을 설정하지 않으면 관리자 API 는 모두 거절합니다.
+ */
+@Component
+public class AdminTokenVerifier {
+
+    public static final String HEADER = "X-Admin-Token";
+
+    private final byte[] adminToken;
+
+    public AdminTokenVerifier(@Value("${member.admin.token:}") String adminToken) {
+        this.adminToken = adminToken.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * @param request 관리자 API 요청
+     * @return 설정된 관리자 토큰과 헤더 값이 같으면 {@code true}
+     */
+    public boolean matches(HttpServletRequest request) {
+        String token = request.getHeader(HEADER);
+        if (adminToken.length == 0 || token == null) {
+            return false;
+        }
+
+        // 비교 시간으로 토큰이 추측되지 않도록 고정 시간 비교
+        return MessageDigest.isEqual(adminToken, token.getBytes(StandardCharsets.UTF_8));
+    }
+}
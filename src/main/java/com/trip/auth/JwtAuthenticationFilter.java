@@ -1,24 +1,52 @@
 package com.trip.auth;
 
+import com.trip.user.status.UserStatusBitmap;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.server.PathContainer;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.UrlPathHelper;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
 
 import java.io.IOException;
+import java.util.List;
 
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
-    private final JwtTokenProvider jwtTokenProvider;
+    private static final UrlPathHelper URL_PATH_HELPER = new UrlPathHelper();
 
-    public JwtAuthenticationFilter(JwtTokenProvider jwtTokenProvider) {
-        this.jwtTokenProvider = jwtTokenProvider;
+    private final JwtClaimsCache jwtClaimsCache;
+    private final UserStatusBitmap userStatusBitmap;
+    private final List<PathPattern> publicPaths;
+
+    public JwtAuthenticationFilter(JwtClaimsCache jwtClaimsCache,
+                                   UserStatusBitmap userStatusBitmap,
+                                   @Value("${member.jwt.public-paths:}") List<String> publicPaths) {
+        this.jwtClaimsCache = jwtClaimsCache;
+        this.userStatusBitmap = userStatusBitmap;
+        this.publicPaths = publicPaths.stream()
+                .filter(path -> !path.isBlank())
+                .map(PathPatternParser.defaultInstance::parse)
+                .toList();
+    }
+
+    /**
+     * 로그인, 토큰 재발급 등 인증이 필요 없는 경로는 토큰을 파싱하지 않습니다.
+     */
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        PathContainer path = PathContainer.parsePath(URL_PATH_HELPER.getPathWithinApplication(request));
+        return publicPaths.stream().anyMatch(pattern -> pattern.matches(path));
     }
 
     @Override
@@ -27,11 +55,23 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         if (authHeader != null && authHeader.startsWith("Bearer ")) {
             String token = authHeader.substring(7);
 
-            if (jwtTokenProvider.validateToken(token)) {
-                String idx = jwtTokenProvider.getSubject(token);
-                UsernamePasswordAuthenticationToken authenticationToken = new UsernamePasswordAuthenticationToken(idx, null, null);
-                SecurityContextHolder.getContext().setAuthentication(authenticationToken);
+            // 서명 검증과 subject 조회를 한 번의 파싱으로 처리하고, 같은 토큰은 캐시된 claims 를 사용
+            Claims claims = jwtClaimsCache.getVerifiedClaims(token);
+            // 필터의 예외는 컨트롤러 예외 처리기를 거치지 않아 500 이 되므로 직접 401 로 응답
+            long idx;
+            try {
+                idx = Long.parseLong(claims.getSubject());
+            } catch (NumberFormatException e) {
+                response.sendError(HttpServletResponse.SC_UNAUTHORIZED);
+                return;
+            }
+            // 정지, 탈퇴한 사용자는 토큰이 만료되기 전이라도 메모리 비트맵으로 거절
+            if (userStatusBitmap.isInactive(idx)) {
+                response.sendError(HttpServletResponse.SC_UNAUTHORIZED);
+                return;
             }
+            UsernamePasswordAuthenticationToken authenticationToken = new UsernamePasswordAuthenticationToken(claims.getSubject(), null, null);
+            SecurityContextHolder.getContext().setAuthentication(authenticationToken);
         }
 
         filterChain.doFilter(request, response);
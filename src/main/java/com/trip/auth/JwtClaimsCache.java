@@ -0,0 +1,118 @@
+package com.trip.auth;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.trip.auth.revocation.TokenRevocationList;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Date;
+
+/**
+ * 검증이 끝난 JWT claims 캐시
+ * 같은 토큰으로 반복되는 요청은 서명 검증 없이 claims 를 돌려줍니다.
+ * 키는 토큰 원문 대신 SHA-256 값이며, 항목은 토큰의 exp 또는 max-ttl 중 먼저 오는 시점에 만료됩니다.
+ * 검증에 실패한 토큰은 저장하지 않습니다.
+ * 폐기 여부는 캐시 적중 여부와 관계없이 매 요청 메모리 폐기 목록으로 확인합니다.
+ */
+@Component
+public class JwtClaimsCache {
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final TokenRevocationList tokenRevocationList;
+    private final Cache<String, Claims> cache;
+
+    private final Timer verifyTimer;
+    private final Counter invalidCounter;
+
+    @Autowired
+    public JwtClaimsCache(JwtTokenProvider jwtTokenProvider,
+                          TokenRevocationList tokenRevocationList,
+                          MeterRegistry meterRegistry,
+                          @Value("${member.jwt.claims-cache.maximum-size:100000}") long maximumSize,
+                          @Value("${member.jwt.claims-cache.max-ttl:5m}") Duration maxTtl) {
+        this(jwtTokenProvider, tokenRevocationList, meterRegistry, maximumSize, maxTtl, Ticker.systemTicker());
+    }
+
+    JwtClaimsCache(JwtTokenProvider jwtTokenProvider, TokenRevocationList tokenRevocationList, MeterRegistry meterRegistry,
+                   long maximumSize, Duration maxTtl, Ticker ticker) {
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.tokenRevocationList = tokenRevocationList;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new ExpireAtTokenExp(maxTtl))
+                .ticker(ticker)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "jwt.claims");
+        this.verifyTimer = Timer.builder("member.jwt.verify").register(meterRegistry);
+        this.invalidCounter = Counter.builder("member.jwt.invalid").register(meterRegistry);
+    }
+
+    /**
+     * 캐시된 claims 를 반환하고, 없으면 서명을 검증한 뒤 저장합니다.
+     *
+     * @param token JWT
+     * @return 검증된 claims (공유 객체이므로 수정하지 않음)
+     * @throws JwtException 토큰이 유효하지 않거나 폐기된 경우
+     */
+    public Claims getVerifiedClaims(String token) {
+        String digest = TokenDigest.sha256(token);
+        Claims claims = cache.get(digest, key -> verify(token));
+        if (tokenRevocationList.isRevoked(digest, claims)) {
+            throw new JwtException("Revoked JWT");
+        }
+        return claims;
+    }
+
+    private Claims verify(String token) {
+        try {
+            return verifyTimer.record(() -> jwtTokenProvider.parseClaims(token));
+        } catch (JwtException e) {
+            invalidCounter.increment();
+            throw e;
+        }
+    }
+
+
+    private static class ExpireAtTokenExp implements Expiry<String, Claims> {
+
+        private final long maxTtlNanos;
+
+        ExpireAtTokenExp(Duration maxTtl) {
+            this.maxTtlNanos = maxTtl.toNanos();
+        }
+
+        @Override
+        public long expireAfterCreate(String key, Claims claims, long currentTime) {
+            Date expiration = claims.getExpiration();
+            if (expiration == null) {
+                return maxTtlNanos;
+            }
+
+            long untilExp = Duration.ofMillis(expiration.getTime() - System.currentTimeMillis()).toNanos();
+            return Math.max(0, Math.min(untilExp, maxTtlNanos));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(String key, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
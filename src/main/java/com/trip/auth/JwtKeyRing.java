@@ -0,0 +1,174 @@
+package com.trip.auth;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.interfaces.ECPrivateKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * ES256 서명 키 모음
+ * 키 디렉토리의 {@code <kid>.pub}(X.509 PEM) 는 검증과 JWKS 공개에, {@code <kid>.key}(PKCS#8 PEM) 는 서명에 사용합니다.
+ * {@code member.jwt.signing.active-kid} 키로 발급하고, 디렉토리에 있는 모든 공개 키로 검증합니다.
+ * 디렉토리를 주기적으로 다시 읽으므로 새 공개 키를 먼저 배포하고, 다운스트림 JWKS 캐시가 갱신된 뒤 active-kid 를 바꾸는 순서로 교체합니다.
+ * 키 디렉토리를 설정하지 않으면 기동할 때마다 임시 키를 생성합니다 (로컬 단일 노드 전용).
+ */
+@Component
+public class JwtKeyRing extends SigningKeyResolverAdapter {
+
+    private static final Logger logger = LoggerFactory.getLogger(JwtKeyRing.class);
+
+    private static final String PUBLIC_KEY_SUFFIX = ".pub";
+    private static final String PRIVATE_KEY_SUFFIX = ".key";
+
+    private final Path keyDir;
+    private final String activeKid;
+
+    private volatile Map<String, ECPublicKey> publicKeys;
+    private volatile SigningKey signingKey;
+
+    public JwtKeyRing(@Value("${member.jwt.signing.key-dir:}") String keyDir,
+                      @Value("${member.jwt.signing.active-kid:}") String activeKid) {
+        this.keyDir = keyDir.isBlank() ? null : Path.of(keyDir);
+        this.activeKid = activeKid;
+
+        if (this.keyDir == null) {
+            generateEphemeralKey();
+        } else {
+            load();
+        }
+    }
+
+    /**
+     * 키 디렉토리를 다시 읽어 추가, 삭제된 공개 키를 반영합니다.
+     * 읽기에 실패하면 기존 키를 유지합니다.
+     */
+    @Scheduled(fixedDelayString = "${member.jwt.signing.reload-interval:1m}", initialDelayString = "${member.jwt.signing.reload-interval:1m}")
+    public void reload() {
+        if (keyDir == null) {
+            return;
+        }
+
+        try {
+            load();
+        } catch (IllegalStateException e) {
+            logger.error("JwtKeyRing-reload-Key reload failed, keep current keys : {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 현재 발급 키
+     */
+    SigningKey signingKey() {
+        return signingKey;
+    }
+
+    /**
+     * 검증에 사용하는 공개 키 (kid 기준, 읽기 전용)
+     */
+    public Map<String, ECPublicKey> publicKeys() {
+        return publicKeys;
+    }
+
+    /**
+     * 토큰 헤더의 kid 로 검증 키를 찾습니다. kid 가 없거나 모르는 키면 거부합니다.
+     */
+    @Override
+    public Key resolveSigningKey(JwsHeader header, Claims claims) {
+        String kid = header.getKeyId();
+        ECPublicKey publicKey = kid == null ? null : publicKeys.get(kid);
+        if (publicKey == null) {
+            throw new JwtException("Unknown kid");
+        }
+        return publicKey;
+    }
+
+    private void load() {
+        Map<String, ECPublicKey> loaded = new LinkedHashMap<>();
+        try (Stream<Path> files = Files.list(keyDir)) {
+            for (Path file : files.sorted().toList()) {
+                String fileName = file.getFileName().toString();
+                if (fileName.endsWith(PUBLIC_KEY_SUFFIX)) {
+                    String kid = fileName.substring(0, fileName.length() - PUBLIC_KEY_SUFFIX.length());
+                    loaded.put(kid, (ECPublicKey) keyFactory().generatePublic(new X509EncodedKeySpec(readPem(file))));
+                }
+            }
+        } catch (IOException | GeneralSecurityException | ClassCastException | IllegalArgumentException e) {
+            throw new IllegalStateException("Failed to read JWT keys from " + keyDir, e);
+        }
+
+        if (!loaded.containsKey(activeKid)) {
+            throw new IllegalStateException("Public key of active kid is missing : " + activeKid);
+        }
+
+        if (signingKey == null) {
+            signingKey = new SigningKey(activeKid, new JwtMinter(activeKid, readPrivateKey(keyDir.resolve(activeKid + PRIVATE_KEY_SUFFIX))));
+        }
+        publicKeys = Collections.unmodifiableMap(loaded);
+        logger.info("JwtKeyRing-load-activeKid={}, kids={}", activeKid, loaded.keySet());
+    }
+
+    private ECPrivateKey readPrivateKey(Path file) {
+        try {
+            return (ECPrivateKey) keyFactory().generatePrivate(new PKCS8EncodedKeySpec(readPem(file)));
+        } catch (IOException | GeneralSecurityException | ClassCastException | IllegalArgumentException e) {
+            throw new IllegalStateException("Failed to read JWT signing key " + file, e);
+        }
+    }
+
+    private void generateEphemeralKey() {
+        try {
+            KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+            generator.initialize(new ECGenParameterSpec("secp256r1"));
+            KeyPair keyPair = generator.generateKeyPair();
+
+            String kid = "ephemeral-" + Instant.now().getEpochSecond();
+            signingKey = new SigningKey(kid, new JwtMinter(kid, keyPair.getPrivate()));
+            publicKeys = Map.of(kid, (ECPublicKey) keyPair.getPublic());
+            logger.warn("JwtKeyRing-generateEphemeralKey-member.jwt.signing.key-dir is not set, tokens are valid on this instance only : kid={}", kid);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static byte[] readPem(Path file) throws IOException {
+        String pem = Files.readString(file)
+                .replaceAll("-----(BEGIN|END) [A-Z ]+-----", "")
+                .replaceAll("\\s", "");
+        return Base64.getDecoder().decode(pem);
+    }
+
+    private static KeyFactory keyFactory() throws GeneralSecurityException {
+        return KeyFactory.getInstance("EC");
+    }
+
+    /**
+     * 발급 키와 해당 키로 서명하는 발급기
+     */
+    record SigningKey(String kid, JwtMinter minter) {
+    }
+}
@@ -0,0 +1,219 @@
+package com.trip.auth;
+
+import javax.crypto.Mac;
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.PrivateKey;
+import java.security.Signature;
+import java.security.interfaces.ECPrivateKey;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * 고정된 claim 형태(sub, iat, exp, iat_ms)의 토큰 발급기 (HS256, ES256)
+ * jjwt 빌더와 같은 헤더, claims 바이트열을 만들되 헤더 세그먼트는 미리 인코딩해 두고,
+ * {@code Mac}/{@code Signature}와 버퍼는 작은 풀에서 빌려 재사용하여 발급마다 Map 직렬화와 서명 객체 생성을 하지 않습니다.
+ * 요청마다 새 가상 스레드가 실행되므로 스레드별 보관(ThreadLocal)으로는 재사용되지 않아 풀을 사용하며,
+ * 풀이 비어 있으면 새로 만들고 가득 차 있으면 반납하지 않고 버립니다.
+ */
+final class JwtMinter {
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+    // JWS 의 ES256 서명은 DER 이 아닌 R || S (각 32바이트) 형식
+    private static final String ECDSA_ALGORITHM = "SHA256withECDSAinP1363Format";
+    private static final byte[] BASE64_URL = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_"
+            .getBytes(StandardCharsets.US_ASCII);
+
+    private static final byte[] SUB_PREFIX = "{\"sub\":\"".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] IAT_PREFIX = "\",\"iat\":".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] EXP_PREFIX = ",\"exp\":".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] IAT_MILLIS_PREFIX = (",\"" + JwtTokenProvider.ISSUED_AT_MILLIS_CLAIM + "\":").getBytes(StandardCharsets.US_ASCII);
+
+    // claims JSON 최대 길이: 고정 문자 + long 4개(각 최대 20자)
+    private static final int MAX_CLAIMS_LENGTH = SUB_PREFIX.length + IAT_PREFIX.length + EXP_PREFIX.length + IAT_MILLIS_PREFIX.length + 1 + 20 * 4;
+    private static final int MAX_SIGNATURE_LENGTH = 64;
+    // 동시에 서명하는 수는 CPU 수를 넘지 않으므로 그 이상은 보관하지 않음
+    private static final int POOL_SIZE = Runtime.getRuntime().availableProcessors() * 2;
+
+    private final byte[] headerSegment;
+    private final Key key;
+    private final int maxTokenLength;
+    private final BlockingQueue<State> pool = new ArrayBlockingQueue<>(POOL_SIZE);
+
+    /**
+     * kid 없는 HS256 발급기
+     */
+    JwtMinter(Key key) {
+        this(null, key);
+    }
+
+    /**
+     * @param kid 헤더에 넣을 키 식별자, {@code null}이면 생략 ([A-Za-z0-9._-] 만 허용)
+     * @param key HS256 비밀 키 또는 P-256 EC 개인 키
+     */
+    JwtMinter(String kid, Key key) {
+        String alg = switch (key) {
+            case SecretKey secretKey when HMAC_ALGORITHM.equalsIgnoreCase(secretKey.getAlgorithm()) -> "HS256";
+            case ECPrivateKey ecPrivateKey when ecPrivateKey.getParams().getCurve().getField().getFieldSize() == 256 -> "ES256";
+            default -> throw new IllegalArgumentException("JwtMinter supports HmacSHA256 or P-256 EC keys only : " + key.getAlgorithm());
+        };
+        if (kid != null && !kid.matches("[A-Za-z0-9._-]+")) {
+            throw new IllegalArgumentException("Invalid kid : " + kid);
+        }
+
+        // jjwt 가 setHeaderParam("kid", ...).signWith(key) 로 만드는 헤더와 같은 순서
+        String header = kid == null
+                ? "{\"alg\":\"" + alg + "\"}"
+                : "{\"kid\":\"" + kid + "\",\"alg\":\"" + alg + "\"}";
+        this.headerSegment = encodeSegment(header.getBytes(StandardCharsets.US_ASCII));
+        this.key = key;
+        this.maxTokenLength = headerSegment.length + 1 + encodedLength(MAX_CLAIMS_LENGTH) + 1 + encodedLength(MAX_SIGNATURE_LENGTH);
+    }
+
+    /**
+     * 토큰을 발급합니다. 시각은 jjwt 와 같이 초 단위로 내림합니다.
+     *
+     * @param idx              subject 로 사용할 사용자 고유 식별자
+     * @param issuedAtMillis   발급 시각 (epoch millis)
+     * @param expirationMillis 만료 시각 (epoch millis)
+     * @return 서명된 compact JWT
+     */
+    String mint(long idx, long issuedAtMillis, long expirationMillis) {
+        State s = pool.poll();
+        if (s == null) {
+            s = new State(key, maxTokenLength);
+        }
+
+        byte[] claims = s.claims;
+        int claimsLength = 0;
+        claimsLength = put(claims, claimsLength, SUB_PREFIX);
+        claimsLength = putLong(claims, claimsLength, idx);
+        claimsLength = put(claims, claimsLength, IAT_PREFIX);
+        claimsLength = putLong(claims, claimsLength, issuedAtMillis / 1000);
+        claimsLength = put(claims, claimsLength, EXP_PREFIX);
+        claimsLength = putLong(claims, claimsLength, expirationMillis / 1000);
+        claimsLength = put(claims, claimsLength, IAT_MILLIS_PREFIX);
+        claimsLength = putLong(claims, claimsLength, issuedAtMillis);
+        claims[claimsLength++] = '}';
+
+        byte[] token = s.token;
+        int length = put(token, 0, headerSegment);
+        token[length++] = '.';
+        length = encode(claims, claimsLength, token, length);
+
+        int signatureLength;
+        try {
+            signatureLength = s.sign(token, length);
+        } catch (GeneralSecurityException e) {
+            // 서명 도중 실패한 상태는 반납하지 않음
+            throw new IllegalStateException(e);
+        }
+
+        token[length++] = '.';
+        length = encode(s.signature, signatureLength, token, length);
+        String jwt = new String(token, 0, length, StandardCharsets.US_ASCII);
+        pool.offer(s);
+        return jwt;
+    }
+
+    private static int put(byte[] dst, int offset, byte[] src) {
+        System.arraycopy(src, 0, dst, offset, src.length);
+        return offset + src.length;
+    }
+
+    private static int putLong(byte[] dst, int offset, long value) {
+        if (value < 0) {
+            // 음수는 발급 경로에서 나오지 않으므로 단순 경로로 처리
+            return put(dst, offset, Long.toString(value).getBytes(StandardCharsets.US_ASCII));
+        }
+
+        int digits = 1;
+        for (long v = value; v >= 10; v /= 10) {
+            digits++;
+        }
+        for (int i = offset + digits - 1; i >= offset; i--) {
+            dst[i] = (byte) ('0' + value % 10);
+            value /= 10;
+        }
+        return offset + digits;
+    }
+
+    /**
+     * padding 없는 Base64URL 인코딩을 dst 의 offset 위치에 기록합니다.
+     */
+    private static int encode(byte[] src, int srcLength, byte[] dst, int offset) {
+        int i = 0;
+        for (; i + 3 <= srcLength; i += 3) {
+            int bits = (src[i] & 0xff) << 16 | (src[i + 1] & 0xff) << 8 | (src[i + 2] & 0xff);
+            dst[offset++] = BASE64_URL[bits >>> 18 & 0x3f];
+            dst[offset++] = BASE64_URL[bits >>> 12 & 0x3f];
+            dst[offset++] = BASE64_URL[bits >>> 6 & 0x3f];
+            dst[offset++] = BASE64_URL[bits & 0x3f];
+        }
+
+        int remaining = srcLength - i;
+        if (remaining == 1) {
+            int bits = (src[i] & 0xff) << 16;
+            dst[offset++] = BASE64_URL[bits >>> 18 & 0x3f];
+            dst[offset++] = BASE64_URL[bits >>> 12 & 0x3f];
+        } else if (remaining == 2) {
+            int bits = (src[i] & 0xff) << 16 | (src[i + 1] & 0xff) << 8;
+            dst[offset++] = BASE64_URL[bits >>> 18 & 0x3f];
+            dst[offset++] = BASE64_URL[bits >>> 12 & 0x3f];
+            dst[offset++] = BASE64_URL[bits >>> 6 & 0x3f];
+        }
+        return offset;
+    }
+
+    private static int encodedLength(int length) {
+        return (length * 4 + 2) / 3;
+    }
+
+    private static byte[] encodeSegment(byte[] src) {
+        byte[] dst = new byte[encodedLength(src.length)];
+        encode(src, src.length, dst, 0);
+        return dst;
+    }
+
+    private static final class State {
+
+        private final Mac mac;
+        private final Signature ecdsa;
+        private final byte[] claims = new byte[MAX_CLAIMS_LENGTH];
+        private final byte[] token;
+        private final byte[] signature = new byte[MAX_SIGNATURE_LENGTH];
+
+        private State(Key key, int maxTokenLength) {
+            this.token = new byte[maxTokenLength];
+            try {
+                if (key instanceof PrivateKey privateKey) {
+                    this.mac = null;
+                    this.ecdsa = Signature.getInstance(ECDSA_ALGORITHM);
+                    this.ecdsa.initSign(privateKey);
+                } else {
+                    this.mac = Mac.getInstance(HMAC_ALGORITHM);
+                    this.mac.init(key);
+                    this.ecdsa = null;
+                }
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        /**
+         * signing input(token[0, length))을 서명하여 signature 에 기록하고 서명 길이를 반환합니다.
+         */
+        private int sign(byte[] input, int length) throws GeneralSecurityException {
+            if (mac != null) {
+                mac.update(input, 0, length);
+                mac.doFinal(signature, 0);
+                return mac.getMacLength();
+            }
+
+            ecdsa.update(input, 0, length);
+            return ecdsa.sign(signature, 0, signature.length);
+        }
+    }
+}
@@ -1,61 +1,61 @@
 package com.trip.auth;
 
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.SignatureAlgorithm;
 import org.springframework.stereotype.Component;
 
-import javax.crypto.spec.SecretKeySpec;
-import java.security.Key;
-import java.util.Base64;
-import java.util.Date;
-
 @Component
 public class JwtTokenProvider {
 
-    String base64SecretKey = Base64.getEncoder().encodeToString("YourSuperSecretKey1234567890123456".getBytes());
-    //    String base64SecretKey = System.getenv("JWT_SECRET_KEY");
-    byte[] decodedKey = Base64.getDecoder().decode(base64SecretKey);
-    private final Key key = new SecretKeySpec(decodedKey, SignatureAlgorithm.HS256.getJcaName());
+    // iat 는 초 단위이므로 사용자 전체 폐기 시각과 비교할 수 있도록 발급 시각을 ms 단위로 함께 기록
+    public static final String ISSUED_AT_MILLIS_CLAIM = "iat_ms";
+
+    private final JwtKeyRing jwtKeyRing;
+    // JwtParser 는 불변이고 스레드 안전하므로 요청마다 만들지 않고 재사용, 검증 키는 헤더의 kid 로 키 모음에서 찾음
+    private final JwtParser jwtParser;
+
+    public JwtTokenProvider(JwtKeyRing jwtKeyRing) {
+        this.jwtKeyRing = jwtKeyRing;
+        this.jwtParser = Jwts.parserBuilder().setSigningKeyResolver(jwtKeyRing).build();
+    }
 
     private final long accessTokenValidity = 1000 * 60 * 15;
     private final long refreshTokenValidity = 1000 * 60 * 15 * 24 * 7;
 
     public String generateAccessToken(Long idx) {
-        return Jwts.builder()
-                .setSubject(idx.toString())
-                .setIssuedAt(new Date())
-                .setExpiration(new Date(System.currentTimeMillis() + accessTokenValidity))
-                .signWith(key)
-                .compact();
+        long now = System.currentTimeMillis();
+        return jwtKeyRing.signingKey().minter().mint(idx, now, now + accessTokenValidity);
     }
 
     public String generateRefreshToken(Long idx) {
-        return Jwts.builder()
-                .setSubject(idx.toString())
-                .setIssuedAt(new Date())
-                .setExpiration(new Date(System.currentTimeMillis() + refreshTokenValidity))
-                .signWith(key)
-                .compact();
+        long now = System.currentTimeMillis();
+        return jwtKeyRing.signingKey().minter().mint(idx, now, now + refreshTokenValidity);
     }
 
-
-    public boolean validateToken(String token) {
+    /**
+     * 서명과 만료를 한 번에 검증하고 claims 를 반환합니다.
+     *
+     * @param token JWT
+     * @return 검증된 claims
+     * @throws JwtException 서명이 다르거나 만료되었거나 형식이 잘못된 경우
+     */
+    public Claims parseClaims(String token) {
         try {
-            Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
-            return true;
+            return jwtParser.parseClaimsJws(token).getBody();
         } catch (JwtException | IllegalArgumentException e) {
             throw new JwtException("Invalid JWT");
         }
     }
 
+    public boolean validateToken(String token) {
+        parseClaims(token);
+        return true;
+    }
+
     public String getSubject(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody()
-                .getSubject();
+        return parseClaims(token).getSubject();
     }
 
 }
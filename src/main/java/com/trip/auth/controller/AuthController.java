@@ -4,14 +4,19 @@ import com.trip.auth.dto.LoginUser;
 import com.trip.auth.dto.LogoutUser;
 import com.trip.auth.dto.RefreshToken;
 import com.trip.auth.dto.AuthToken;
+import com.trip.auth.exception.InvalidTokenException;
 import com.trip.auth.service.AuthService;
 import com.trip.user.controller.UserController;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -26,13 +31,14 @@ public class AuthController {
     /**
      * 사용자 계정 로그인을 합니다.
      *
-     * @param req {@code LoginUser.Req} 객체에 담긴 이메일, 비밀번호
+     * @param req     {@code LoginUser.Req} 객체에 담긴 이메일, 비밀번호
+     * @param request 접속 IP 확인용 요청 (로그인 실패 제한)
      * @return {@code LoginUser.Res} 객체에 담긴 access 토큰과 refresh 토큰을 포함하는 ResponseEntity
      */
     @PostMapping("/login")
-    public ResponseEntity<LoginUser.Res> loginUser(@RequestBody LoginUser.Req req) {
+    public ResponseEntity<LoginUser.Res> loginUser(@RequestBody LoginUser.Req req, HttpServletRequest request) {
         logger.info("AuthController-loginUser-{}", req);
-        AuthToken authToken = authService.loginUser(req.getEmail(), req.getPassword());
+        AuthToken authToken = authService.loginUser(req.getEmail(), req.getPassword(), request.getRemoteAddr());
 
         LoginUser.Res res = LoginUser.Res.builder()
                 .accessToken(authToken.getAccessToken())
@@ -44,20 +50,42 @@ public class AuthController {
     }
 
     /**
-     * 사용자 계정을 로그아웃하고, refresh 토큰을 삭제합니다.
+     * 사용자 계정을 로그아웃하고, refresh 토큰을 삭제합니다. access 토큰을 함께 보내면 만료 전까지 폐기합니다.
      *
-     * @param req {@code LogoutUser.Req} 객체에 담긴 refresh 토큰
+     * @param req           {@code LogoutUser.Req} 객체에 담긴 refresh 토큰
+     * @param authorization {@code Bearer} access 토큰 (선택)
      * @return 내용이 없는 ResponseEntity
      */
     @PostMapping("/logout")
-    public ResponseEntity<LogoutUser.Res> logoutUser(@RequestBody LogoutUser.Req req) {
+    public ResponseEntity<LogoutUser.Res> logoutUser(@RequestBody LogoutUser.Req req,
+                                                     @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization) {
         logger.info("AuthController-logoutUser-{}", req);
-        authService.logoutUser(req.getRefreshToken());
+        String accessToken = authorization != null && authorization.startsWith("Bearer ") ? authorization.substring(7) : null;
+        authService.logoutUser(req.getRefreshToken(), accessToken);
 
         logger.info("AuthController-logoutUser-end");
         return ResponseEntity.noContent().build();
     }
 
+    /**
+     * access 토큰의 사용자가 발급받은 모든 refresh 토큰을 삭제하고 access 토큰을 폐기합니다. (모든 기기에서 로그아웃)
+     *
+     * @param authentication access 토큰으로 인증된 사용자 (principal 은 사용자 idx)
+     * @return 내용이 없는 ResponseEntity
+     */
+    @PostMapping("/logout-all")
+    public ResponseEntity<LogoutUser.Res> logoutAllSessions(Authentication authentication) {
+        logger.info("AuthController-logoutAllSessions-{}", authentication);
+        if (authentication == null) {
+            throw new InvalidTokenException("Access token is required");
+        }
+
+        authService.logoutAllSessions(Long.valueOf(authentication.getName()));
+
+        logger.info("AuthController-logoutAllSessions-end");
+        return ResponseEntity.noContent().build();
+    }
+
     /**
      * access 토큰이 만료되었을 때 refresh 토큰을 통해 새로운 access 토큰을 발급받습니다.
      *
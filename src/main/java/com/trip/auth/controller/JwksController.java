@@ -0,0 +1,34 @@
+package com.trip.auth.controller;
+
+import com.trip.auth.JwtKeyRing;
+import com.trip.auth.dto.JwkSet;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+
+@RestController
+@RequiredArgsConstructor
+public class JwksController {
+    private final JwtKeyRing jwtKeyRing;
+
+    @Value("${member.jwt.jwks.max-age:5m}")
+    private Duration maxAge;
+
+    /**
+     * 다운스트림 서비스가 access 토큰을 직접 검증할 수 있도록 공개 키 목록을 반환합니다.
+     * 응답은 {@code member.jwt.jwks.max-age} 동안 캐시할 수 있습니다.
+     *
+     * @return {@code JwkSet} 객체를 포함하는 ResponseEntity
+     */
+    @GetMapping("/.well-known/jwks.json")
+    public ResponseEntity<JwkSet> getJwkSet() {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(maxAge).cachePublic())
+                .body(JwkSet.from(jwtKeyRing.publicKeys()));
+    }
+}
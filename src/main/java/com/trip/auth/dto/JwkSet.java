@@ -0,0 +1,64 @@
+package com.trip.auth.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.math.BigInteger;
+import java.security.interfaces.ECPublicKey;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 토큰 검증용 공개 키 목록 (RFC 7517 JWK Set)
+ */
+@Getter
+@Builder
+public class JwkSet {
+    private List<Key> keys;
+
+    @Getter
+    @Builder
+    public static class Key {
+        private String kty;
+        private String crv;
+        private String kid;
+        private String use;
+        private String alg;
+        private String x;
+        private String y;
+    }
+
+    /**
+     * P-256 공개 키를 JWK Set 으로 변환합니다.
+     *
+     * @param publicKeys kid 별 공개 키
+     * @return {@code JwkSet} 객체
+     */
+    public static JwkSet from(Map<String, ECPublicKey> publicKeys) {
+        List<Key> keys = publicKeys.entrySet().stream()
+                .map(entry -> Key.builder()
+                        .kty("EC")
+                        .crv("P-256")
+                        .kid(entry.getKey())
+                        .use("sig")
+                        .alg("ES256")
+                        .x(coordinate(entry.getValue().getW().getAffineX()))
+                        .y(coordinate(entry.getValue().getW().getAffineY()))
+                        .build())
+                .toList();
+
+        return JwkSet.builder()
+                .keys(keys)
+                .build();
+    }
+
+    // 좌표는 부호 없는 32바이트 big-endian 을 Base64URL 로 인코딩
+    private static String coordinate(BigInteger value) {
+        byte[] bytes = value.toByteArray();
+        byte[] fixed = new byte[32];
+        int length = Math.min(bytes.length, 32);
+        System.arraycopy(bytes, bytes.length - length, fixed, 32 - length, length);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(fixed);
+    }
+}
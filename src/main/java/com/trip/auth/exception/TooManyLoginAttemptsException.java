@@ -0,0 +1,15 @@
+package com.trip.auth.exception;
+
+import lombok.Getter;
+
+import java.time.Duration;
+
+@Getter
+public class TooManyLoginAttemptsException extends RuntimeException {
+    private final Duration retryAfter;
+
+    public TooManyLoginAttemptsException(Duration retryAfter) {
+        super("too many login attempts");
+        this.retryAfter = retryAfter;
+    }
+}
@@ -0,0 +1,101 @@
+package com.trip.auth.limiter;
+
+import com.trip.user.cache.UserCache;
+import com.trip.user.repository.FailedAttemptsUpdate;
+import com.trip.user.repository.UserBatchRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * users.failed_attempts 지연 반영 버퍼
+ * 로그인 실패마다 사용자 행을 UPDATE 하지 않고 메모리에 모았다가 주기적으로 한 번의 배치로 반영합니다.
+ * 노드마다 증가분만 보내므로 여러 노드에서 동시에 반영해도 합산됩니다.
+ * 반영한 사용자는 조회 캐시에서 제거합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class FailedAttemptsBuffer {
+
+    private static final Logger logger = LoggerFactory.getLogger(FailedAttemptsBuffer.class);
+
+    private static final Pending FAILURE = new Pending(false, 1);
+    private static final Pending RESET = new Pending(true, 0);
+
+    private final UserBatchRepository userBatchRepository;
+    private final UserCache userCache;
+
+    private final Map<Long, Pending> pending = new ConcurrentHashMap<>();
+
+    /**
+     * 로그인 실패를 1 더합니다.
+     *
+     * @param idx 사용자 고유 식별자 정보
+     */
+    public void recordFailure(Long idx) {
+        pending.merge(idx, FAILURE, Pending::then);
+    }
+
+    /**
+     * 로그인 성공 시 실패 횟수를 0 으로 되돌립니다. 저장된 값과 대기 중인 값이 모두 0 이면 아무것도 하지 않습니다.
+     *
+     * @param idx               사용자 고유 식별자 정보
+     * @param persistedFailures DB 에 저장된 실패 횟수
+     */
+    public void recordSuccess(Long idx, int persistedFailures) {
+        if (persistedFailures > 0) {
+            pending.put(idx, RESET);
+        } else {
+            pending.computeIfPresent(idx, (key, value) -> RESET);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${member.auth.failed-attempts.flush-interval:30s}", initialDelayString = "${member.auth.failed-attempts.flush-interval:30s}")
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        List<FailedAttemptsUpdate> updates = new ArrayList<>();
+        for (Long idx : pending.keySet()) {
+            Pending value = pending.remove(idx);
+            if (value != null) {
+                updates.add(new FailedAttemptsUpdate(idx, value.reset(), value.failures()));
+            }
+        }
+
+        try {
+            userBatchRepository.updateFailedAttempts(updates);
+            userCache.evictAll(updates.stream().map(FailedAttemptsUpdate::idx).toList());
+            logger.info("FailedAttemptsBuffer-flush-Flushed {} users", updates.size());
+        } catch (DataAccessException e) {
+            // 반영하지 못한 값은 그 사이 쌓인 값 앞에 다시 합쳐 다음 주기에 반영
+            for (FailedAttemptsUpdate update : updates) {
+                pending.merge(update.idx(), new Pending(update.reset(), update.failures()), (current, failed) -> failed.then(current));
+            }
+            logger.warn("FailedAttemptsBuffer-flush-Flush failed, retry next run : {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private record Pending(boolean reset, int failures) {
+
+        // this 다음에 next 가 일어났을 때의 결과
+        private Pending then(Pending next) {
+            return next.reset ? next : new Pending(reset, failures + next.failures);
+        }
+    }
+}
@@ -0,0 +1,214 @@
+package com.trip.auth.limiter;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.trip.auth.exception.TooManyLoginAttemptsException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 로그인 실패 슬라이딩 윈도우 제한기 (이메일별, 접속 IP별)
+ * Redis ZSET 에 실패 시각을 기록하고, 확인과 기록은 각각 Lua 스크립트 한 번으로 원자적으로 처리합니다.
+ * Redis 를 사용할 수 없으면 노드 내부의 잠금 분할(striped) 메모리 윈도우로 대신 처리합니다.
+ * DB 조회 전에 호출하므로 대입 공격 중에도 사용자 테이블에 부하를 주지 않습니다.
+ */
+@Component
+public class LoginAttemptLimiter {
+
+    public static final String EMAIL_KEY_PREFIX = "member:auth:login-fail:email:";
+    public static final String IP_KEY_PREFIX = "member:auth:login-fail:ip:";
+
+    private static final Logger logger = LoggerFactory.getLogger(LoginAttemptLimiter.class);
+
+    private static final int STRIPES = 64;
+
+    // KEYS[1]: 이메일 키, KEYS[2]: IP 키 / ARGV[1]: 현재 시각(ms), ARGV[2]: 윈도우(ms), ARGV[3]: 이메일 한도, ARGV[4]: IP 한도
+    // 한도에 도달한 키가 있으면 가장 오래된 실패가 윈도우를 벗어날 때까지 남은 시간(ms)을, 없으면 0을 반환
+    private static final RedisScript<Long> CHECK_SCRIPT = RedisScript.of("""
+            local now = tonumber(ARGV[1])
+            local window = tonumber(ARGV[2])
+            local retry = 0
+            for i = 1, 2 do
+                redis.call('ZREMRANGEBYSCORE', KEYS[i], '-inf', now - window)
+                if redis.call('ZCARD', KEYS[i]) >= tonumber(ARGV[i + 2]) then
+                    local oldest = redis.call('ZRANGE', KEYS[i], 0, 0, 'WITHSCORES')
+                    retry = math.max(retry, tonumber(oldest[2]) + window - now)
+                end
+            end
+            return retry
+            """, Long.class);
+
+    // KEYS[1]: 이메일 키, KEYS[2]: IP 키 / ARGV[1]: 현재 시각(ms), ARGV[2]: 윈도우(ms), ARGV[3]: 실패 식별자
+    private static final RedisScript<Long> RECORD_SCRIPT = RedisScript.of("""
+            local now = tonumber(ARGV[1])
+            local window = tonumber(ARGV[2])
+            for i = 1, 2 do
+                redis.call('ZREMRANGEBYSCORE', KEYS[i], '-inf', now - window)
+                redis.call('ZADD', KEYS[i], now, ARGV[3])
+                redis.call('PEXPIRE', KEYS[i], window)
+            end
+            return 1
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final long windowMillis;
+    private final int maxFailuresPerEmail;
+    private final int maxFailuresPerIp;
+
+    // Redis 장애 시 사용하는 메모리 윈도우, 키 해시로 잠금을 나눔
+    private final Cache<String, Deque<Long>> localWindows;
+    private final ReentrantLock[] stripes = new ReentrantLock[STRIPES];
+
+    private final Counter blockedCounter;
+    private final Counter fallbackCounter;
+
+    public LoginAttemptLimiter(StringRedisTemplate redisTemplate,
+                               MeterRegistry meterRegistry,
+                               @Value("${member.auth.login-limit.window:15m}") Duration window,
+                               @Value("${member.auth.login-limit.max-failures-per-email:5}") int maxFailuresPerEmail,
+                               @Value("${member.auth.login-limit.max-failures-per-ip:50}") int maxFailuresPerIp,
+                               @Value("${member.auth.login-limit.local.maximum-size:100000}") long localMaximumSize) {
+        this.redisTemplate = redisTemplate;
+        this.windowMillis = window.toMillis();
+        this.maxFailuresPerEmail = maxFailuresPerEmail;
+        this.maxFailuresPerIp = maxFailuresPerIp;
+        this.localWindows = Caffeine.newBuilder()
+                .maximumSize(localMaximumSize)
+                .expireAfterAccess(window)
+                .build();
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+
+        this.blockedCounter = Counter.builder("member.auth.login-limit.blocked").register(meterRegistry);
+        this.fallbackCounter = Counter.builder("member.auth.login-limit.fallback").register(meterRegistry);
+    }
+
+    /**
+     * 이메일 또는 IP 의 최근 실패 횟수가 한도에 도달했으면 거절합니다.
+     *
+     * @param email 로그인 이메일
+     * @param ip    접속 IP
+     * @throws TooManyLoginAttemptsException 한도에 도달한 경우
+     */
+    public void checkAllowed(String email, String ip) {
+        List<String> keys = keys(email, ip);
+        long now = System.currentTimeMillis();
+
+        long retryAfterMillis;
+        try {
+            Long result = redisTemplate.execute(CHECK_SCRIPT, keys,
+                    Long.toString(now), Long.toString(windowMillis), Integer.toString(maxFailuresPerEmail), Integer.toString(maxFailuresPerIp));
+            retryAfterMillis = result == null ? 0 : result;
+        } catch (DataAccessException e) {
+            fallback("checkAllowed", e);
+            retryAfterMillis = Math.max(
+                    localRetryAfter(keys.get(0), maxFailuresPerEmail, now),
+                    localRetryAfter(keys.get(1), maxFailuresPerIp, now));
+        }
+
+        if (retryAfterMillis > 0) {
+            blockedCounter.increment();
+            throw new TooManyLoginAttemptsException(Duration.ofMillis(retryAfterMillis));
+        }
+    }
+
+    /**
+     * 로그인 실패를 이메일, IP 윈도우에 기록합니다.
+     *
+     * @param email 로그인 이메일
+     * @param ip    접속 IP
+     */
+    public void recordFailure(String email, String ip) {
+        List<String> keys = keys(email, ip);
+        long now = System.currentTimeMillis();
+
+        try {
+            redisTemplate.execute(RECORD_SCRIPT, keys, Long.toString(now), Long.toString(windowMillis), UUID.randomUUID().toString());
+        } catch (DataAccessException e) {
+            fallback("recordFailure", e);
+            keys.forEach(key -> localRecord(key, now));
+        }
+    }
+
+    /**
+     * 로그인에 성공한 이메일의 실패 기록을 지웁니다. IP 기록은 유지합니다.
+     *
+     * @param email 로그인 이메일
+     */
+    public void reset(String email) {
+        String key = EMAIL_KEY_PREFIX + normalize(email);
+        localWindows.invalidate(key);
+        try {
+            redisTemplate.delete(key);
+        } catch (DataAccessException e) {
+            fallback("reset", e);
+        }
+    }
+
+    private long localRetryAfter(String key, int limit, long now) {
+        ReentrantLock lock = stripe(key);
+        lock.lock();
+        try {
+            Deque<Long> failures = localWindows.getIfPresent(key);
+            if (failures == null) {
+                return 0;
+            }
+
+            evictExpired(failures, now);
+            return failures.size() >= limit ? failures.peekFirst() + windowMillis - now : 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void localRecord(String key, long now) {
+        ReentrantLock lock = stripe(key);
+        lock.lock();
+        try {
+            Deque<Long> failures = localWindows.get(key, k -> new ArrayDeque<>());
+            evictExpired(failures, now);
+            failures.addLast(now);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void evictExpired(Deque<Long> failures, long now) {
+        while (!failures.isEmpty() && failures.peekFirst() <= now - windowMillis) {
+            failures.pollFirst();
+        }
+    }
+
+    private ReentrantLock stripe(String key) {
+        return stripes[(key.hashCode() & 0x7fffffff) % STRIPES];
+    }
+
+    private void fallback(String operation, DataAccessException e) {
+        fallbackCounter.increment();
+        logger.warn("LoginAttemptLimiter-{}-Redis unavailable, use local window : {}", operation, e.getMessage());
+    }
+
+    private List<String> keys(String email, String ip) {
+        return List.of(EMAIL_KEY_PREFIX + normalize(email), IP_KEY_PREFIX + (ip == null ? "" : ip));
+    }
+
+    private String normalize(String email) {
+        return email == null ? "" : email.trim().toLowerCase(Locale.ROOT);
+    }
+}
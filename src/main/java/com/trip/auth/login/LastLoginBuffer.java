@@ -0,0 +1,176 @@
+package com.trip.auth.login;
+
+import com.trip.user.cache.UserCache;
+import com.trip.user.entity.UserEntity;
+import com.trip.user.repository.LastLoginUpdate;
+import com.trip.user.repository.UserBatchRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * users.last_login_ip, last_login_at 지연 반영 버퍼
+ * 로그인마다 사용자 행을 UPDATE 하지 않고 사용자별로 가장 최근 로그인만 메모리에 남겼다가
+ * 주기적으로, 또는 대기 중인 사용자 수가 flush-size 에 도달하면 한 번의 배치로 반영합니다.
+ * 대기 항목은 max-pending 까지만 유지하며, 넘으면 새 사용자의 로그인 정보는 버립니다. (다음 로그인에 다시 기록됨)
+ * 반영한 사용자는 조회 캐시에서 제거합니다.
+ */
+@Component
+public class LastLoginBuffer {
+
+    private static final Logger logger = LoggerFactory.getLogger(LastLoginBuffer.class);
+
+    private final UserBatchRepository userBatchRepository;
+    private final UserCache userCache;
+    private final int flushSize;
+    private final int maxPending;
+
+    private final Map<Long, Pending> pending = new ConcurrentHashMap<>();
+    // 크기 도달 시 반영은 요청 스레드가 아닌 전용 스레드에서 실행, 이미 예약되어 있으면 다시 예약하지 않음
+    private final ExecutorService flushExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "last-login-flush");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    private final Timer flushLag;
+    private final DistributionSummary batchSize;
+    private final Counter droppedCounter;
+
+    public LastLoginBuffer(UserBatchRepository userBatchRepository,
+                           UserCache userCache,
+                           MeterRegistry meterRegistry,
+                           @Value("${member.auth.last-login.flush-size:1000}") int flushSize,
+                           @Value("${member.auth.last-login.max-pending:100000}") int maxPending) {
+        this.userBatchRepository = userBatchRepository;
+        this.userCache = userCache;
+        this.flushSize = flushSize;
+        this.maxPending = maxPending;
+
+        // 가장 오래 기다린 항목이 기록된 뒤 반영되기까지 걸린 시간
+        this.flushLag = Timer.builder("member.auth.last-login.flush.lag").register(meterRegistry);
+        this.batchSize = DistributionSummary.builder("member.auth.last-login.flush.batch-size").register(meterRegistry);
+        this.droppedCounter = Counter.builder("member.auth.last-login.dropped").register(meterRegistry);
+        Gauge.builder("member.auth.last-login.pending", pending, Map::size).register(meterRegistry);
+    }
+
+    /**
+     * 로그인 성공을 기록합니다. 같은 사용자는 가장 최근 로그인만 남깁니다.
+     *
+     * @param idx     사용자 고유 식별자 정보
+     * @param ip      접속 IP
+     * @param loginAt 로그인 시각
+     */
+    public void record(Long idx, String ip, LocalDateTime loginAt) {
+        if (pending.size() >= maxPending && !pending.containsKey(idx)) {
+            droppedCounter.increment();
+            requestFlush();
+            return;
+        }
+
+        String truncatedIp = ip != null && ip.length() > UserEntity.LAST_LOGIN_IP_MAX_LENGTH ? ip.substring(0, UserEntity.LAST_LOGIN_IP_MAX_LENGTH) : ip;
+        pending.merge(idx, new Pending(truncatedIp, loginAt, System.nanoTime()), Pending::latest);
+        if (pending.size() >= flushSize) {
+            requestFlush();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${member.auth.last-login.flush-interval:5s}", initialDelayString = "${member.auth.last-login.flush-interval:5s}")
+    public void flush() {
+        flushLock.lock();
+        try {
+            if (pending.isEmpty()) {
+                return;
+            }
+
+            long now = System.nanoTime();
+            long oldestQueuedAt = now;
+            List<LastLoginUpdate> updates = new ArrayList<>();
+            List<Pending> values = new ArrayList<>();
+            for (Long idx : pending.keySet()) {
+                Pending value = pending.remove(idx);
+                if (value != null) {
+                    updates.add(new LastLoginUpdate(idx, value.ip(), value.loginAt()));
+                    values.add(value);
+                    oldestQueuedAt = Math.min(oldestQueuedAt, value.queuedAt());
+                }
+            }
+
+            try {
+                userBatchRepository.updateLastLogins(updates);
+                userCache.evictAll(updates.stream().map(LastLoginUpdate::idx).toList());
+                batchSize.record(updates.size());
+                flushLag.record(System.nanoTime() - oldestQueuedAt, TimeUnit.NANOSECONDS);
+                logger.debug("LastLoginBuffer-flush-Flushed {} users", updates.size());
+            } catch (DataAccessException e) {
+                // 반영하지 못한 값은 그 사이 기록된 값과 합쳐 다음 주기에 반영, 한도를 넘는 만큼은 버림
+                for (int i = 0; i < updates.size(); i++) {
+                    Long idx = updates.get(i).idx();
+                    if (pending.size() >= maxPending && !pending.containsKey(idx)) {
+                        droppedCounter.increment();
+                        continue;
+                    }
+                    pending.merge(idx, values.get(i), Pending::latest);
+                }
+                logger.warn("LastLoginBuffer-flush-Flush failed, retry next run : {}", e.getMessage());
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() throws InterruptedException {
+        flushExecutor.shutdown();
+        flushExecutor.awaitTermination(5, TimeUnit.SECONDS);
+        flush();
+    }
+
+    private void requestFlush() {
+        if (!flushRequested.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            flushExecutor.execute(() -> {
+                flushRequested.set(false);
+                flush();
+            });
+        } catch (RejectedExecutionException e) {
+            // 종료 중에는 flushOnShutdown 이 반영
+            flushRequested.set(false);
+        }
+    }
+
+    private record Pending(String ip, LocalDateTime loginAt, long queuedAt) {
+
+        // 최근 로그인 정보를 남기고, 대기 시작 시각은 먼저 기록된 값을 유지
+        private Pending latest(Pending next) {
+            Pending newer = next.loginAt.isBefore(loginAt) ? this : next;
+            return new Pending(newer.ip, newer.loginAt, Math.min(queuedAt, next.queuedAt));
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.trip.auth.repository;
+
+import com.trip.auth.TokenDigest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Redis refresh 토큰 저장소
+ * 토큰은 원문 대신 SHA-256 값으로 저장하고({@code member:auth:refresh:<digest>} → 사용자 idx),
+ * 사용자별로 발급된 토큰 목록({@code member:auth:refresh-user:<idx>})을 함께 관리하여
+ * 전체 로그아웃과 탈퇴 시 세션 삭제가 키 스캔 없이 세션 수만큼만 동작합니다.
+ * 모든 변경은 Lua 스크립트로 한 번의 왕복에 원자적으로 처리합니다.
+ * 스크립트가 조회한 값으로 키를 만들기 때문에 단일 Redis(또는 같은 슬롯) 구성을 전제로 합니다.
+ */
+@Repository
+public class RefreshTokenStore {
+
+    public static final String TOKEN_KEY_PREFIX = "member:auth:refresh:";
+    public static final String USER_KEY_PREFIX = "member:auth:refresh-user:";
+
+    // KEYS[1]: 토큰 키, KEYS[2]: 사용자 토큰 목록 키 / ARGV[1]: idx, ARGV[2]: TTL(ms), ARGV[3]: 토큰 digest
+    private static final RedisScript<Long> SAVE_SCRIPT = RedisScript.of("""
+            redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[2])
+            redis.call('SADD', KEYS[2], ARGV[3])
+            if redis.call('PTTL', KEYS[2]) < tonumber(ARGV[2]) then
+                redis.call('PEXPIRE', KEYS[2], ARGV[2])
+            end
+            return 1
+            """, Long.class);
+
+    // KEYS[1]: 토큰 키 / ARGV[1]: 사용자 토큰 목록 키 접두어, ARGV[2]: 토큰 digest
+    private static final RedisScript<String> DELETE_SCRIPT = RedisScript.of("""
+            local idx = redis.call('GET', KEYS[1])
+            if not idx then
+                return false
+            end
+            redis.call('DEL', KEYS[1])
+            redis.call('SREM', ARGV[1] .. idx, ARGV[2])
+            return idx
+            """, String.class);
+
+    // KEYS[1]: 사용자 토큰 목록 키 / ARGV[1]: 토큰 키 접두어
+    private static final RedisScript<Long> DELETE_ALL_SCRIPT = RedisScript.of("""
+            local digests = redis.call('SMEMBERS', KEYS[1])
+            for _, digest in ipairs(digests) do
+                redis.call('DEL', ARGV[1] .. digest)
+            end
+            redis.call('DEL', KEYS[1])
+            return #digests
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final Duration ttl;
+
+    public RefreshTokenStore(StringRedisTemplate redisTemplate,
+                             @Value("${member.auth.refresh-token.ttl:42h}") Duration ttl) {
+        this.redisTemplate = redisTemplate;
+        this.ttl = ttl;
+    }
+
+    /**
+     * refresh 토큰을 저장하고 사용자 토큰 목록에 추가합니다.
+     *
+     * @param refreshToken refresh 토큰
+     * @param idx          사용자 고유 식별자 정보
+     */
+    public void save(String refreshToken, Long idx) {
+        String digest = TokenDigest.sha256(refreshToken);
+        redisTemplate.execute(SAVE_SCRIPT,
+                List.of(TOKEN_KEY_PREFIX + digest, USER_KEY_PREFIX + idx),
+                idx.toString(), Long.toString(ttl.toMillis()), digest);
+    }
+
+    /**
+     * refresh 토큰의 사용자를 조회합니다. (GET 한 번)
+     *
+     * @param refreshToken refresh 토큰
+     * @return 사용자 고유 식별자 정보, 만료되었거나 없는 토큰이면 {@code Optional.empty()}
+     */
+    public Optional<Long> findUserIdx(String refreshToken) {
+        return Optional.ofNullable(redisTemplate.opsForValue().get(TOKEN_KEY_PREFIX + TokenDigest.sha256(refreshToken)))
+                .map(Long::valueOf);
+    }
+
+    /**
+     * refresh 토큰을 삭제하고 사용자 토큰 목록에서 제거합니다.
+     *
+     * @param refreshToken refresh 토큰
+     * @return 삭제된 토큰의 사용자 고유 식별자 정보, 없는 토큰이면 {@code Optional.empty()}
+     */
+    public Optional<Long> delete(String refreshToken) {
+        String digest = TokenDigest.sha256(refreshToken);
+        return Optional.ofNullable(redisTemplate.execute(DELETE_SCRIPT,
+                        List.of(TOKEN_KEY_PREFIX + digest),
+                        USER_KEY_PREFIX, digest))
+                .map(Long::valueOf);
+    }
+
+    /**
+     * 사용자의 모든 refresh 토큰을 삭제합니다.
+     *
+     * @param idx 사용자 고유 식별자 정보
+     * @return 삭제한 토큰 수 (이미 만료된 토큰 포함)
+     */
+    public long deleteAll(Long idx) {
+        Long deleted = redisTemplate.execute(DELETE_ALL_SCRIPT, List.of(USER_KEY_PREFIX + idx), TOKEN_KEY_PREFIX);
+        return deleted == null ? 0 : deleted;
+    }
+}
@@ -0,0 +1,115 @@
+package com.trip.auth.revocation;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 폐기된 토큰 digest 용 Bloom filter
+ * digest 가 이미 SHA-256 값이므로 다시 해시하지 않고 앞 16바이트를 두 개의 64비트 값(h1, h2)으로 나눠
+ * h1 + i * h2 로 k 개의 비트 위치를 만듭니다.
+ * 조회는 잠금 없이 동작하며, 삭제를 지원하지 않으므로 만료된 항목은 필터를 새로 만들어 제거합니다.
+ */
+final class BloomFilter {
+
+    private final AtomicLongArray words;
+    private final long capacity;
+    private final long bitSize;
+    private final int hashCount;
+    private final AtomicLong insertions = new AtomicLong();
+
+    private BloomFilter(long capacity, long bitSize, int hashCount) {
+        this.capacity = capacity;
+        this.words = new AtomicLongArray(Math.toIntExact((bitSize + 63) >>> 6));
+        this.bitSize = words.length() * 64L;
+        this.hashCount = hashCount;
+    }
+
+    /**
+     * 예상 항목 수와 목표 오탐률로 비트 수(m = -n ln p / (ln 2)^2)와 해시 수(k = m / n ln 2)를 정합니다.
+     *
+     * @param expectedInsertions 예상 항목 수
+     * @param falsePositiveRate  목표 오탐률 (0, 1)
+     */
+    static BloomFilter create(long expectedInsertions, double falsePositiveRate) {
+        if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("falsePositiveRate must be between 0 and 1");
+        }
+
+        long n = Math.max(1, expectedInsertions);
+        long bits = Math.max(64, (long) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2))));
+        int hashCount = Math.max(1, (int) Math.round((double) bits / n * Math.log(2)));
+        return new BloomFilter(n, bits, hashCount);
+    }
+
+    /**
+     * @param value 확인할 값
+     * @return 64자 소문자 hex SHA-256 값인지 여부
+     */
+    static boolean isDigest(String value) {
+        if (value == null || value.length() != 64) {
+            return false;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if ((c < '0' || c > '9') && (c < 'a' || c > 'f')) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @param digest 64자 hex SHA-256 값
+     */
+    void put(String digest) {
+        long h1 = Long.parseUnsignedLong(digest, 0, 16, 16);
+        long h2 = Long.parseUnsignedLong(digest, 16, 32, 16);
+        long combined = h1;
+        for (int i = 0; i < hashCount; i++) {
+            long index = (combined & Long.MAX_VALUE) % bitSize;
+            words.accumulateAndGet((int) (index >>> 6), 1L << index, (current, mask) -> current | mask);
+            combined += h2;
+        }
+        insertions.incrementAndGet();
+    }
+
+    /**
+     * @param digest 64자 hex SHA-256 값
+     * @return {@code false} 이면 추가된 적이 없음, {@code true} 이면 추가되었거나 오탐
+     */
+    boolean mightContain(String digest) {
+        long h1 = Long.parseUnsignedLong(digest, 0, 16, 16);
+        long h2 = Long.parseUnsignedLong(digest, 16, 32, 16);
+        long combined = h1;
+        for (int i = 0; i < hashCount; i++) {
+            long index = (combined & Long.MAX_VALUE) % bitSize;
+            if ((words.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                return false;
+            }
+            combined += h2;
+        }
+        return true;
+    }
+
+    /**
+     * 현재 항목 수 기준 이론 오탐률 (1 - e^(-kn/m))^k
+     */
+    double expectedFalsePositiveRate() {
+        return Math.pow(1 - Math.exp(-hashCount * (double) insertions.get() / bitSize), hashCount);
+    }
+
+    /**
+     * @return 목표 오탐률을 유지할 수 있는 항목 수
+     */
+    long capacity() {
+        return capacity;
+    }
+
+    long insertions() {
+        return insertions.get();
+    }
+
+    long sizeInBytes() {
+        return words.length() * 8L;
+    }
+}
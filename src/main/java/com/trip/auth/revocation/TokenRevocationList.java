@@ -0,0 +1,294 @@
+package com.trip.auth.revocation;
+
+import com.trip.auth.JwtTokenProvider;
+import com.trip.auth.TokenDigest;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+
+/**
+ * access 토큰 폐기 목록
+ * 폐기 정보는 Redis 색인 ZSET(토큰: digest → exp, 사용자: idx → 폐기 시각)에 저장하고, 각 노드는 pub/sub 메시지로 메모리에 복제합니다.
+ * 토큰 폐기는 digest 의 Bloom filter 와 정확한 목록(digest → exp)으로, 사용자 전체 폐기는 사용자별 폐기 시각으로 확인하므로
+ * 요청 경로에서는 Redis 를 호출하지 않습니다. 대부분의 토큰은 Bloom filter 에서 바로 통과하고,
+ * 필터가 양성이면 정확한 목록으로 오탐을 걸러냅니다.
+ * 놓친 메시지와 만료된 항목은 주기적으로 색인을 점수 범위로 다시 읽고 필터를 새로 만들어 정리합니다.
+ * 전체 키 공간을 SCAN 하지 않으므로 Redis 의 다른 키 수와 관계없이 유효한 폐기 항목 수만큼만 읽습니다.
+ */
+@Component
+public class TokenRevocationList {
+
+    // score 는 토큰 exp (epoch ms)
+    public static final String TOKEN_INDEX_KEY = "member:auth:revoked:tokens";
+    // score 는 사용자 폐기 시각 (epoch ms)
+    public static final String USER_INDEX_KEY = "member:auth:revoked:users";
+    public static final String CHANNEL = "member:auth:revoked";
+
+    public static final String TOKEN_MESSAGE = "token";
+    public static final String USER_MESSAGE = "user";
+
+    private static final Logger logger = LoggerFactory.getLogger(TokenRevocationList.class);
+
+    private static final int LOAD_BATCH_SIZE = 1000;
+    // 정확한 목록 항목 하나의 대략적인 힙 사용량: 64자 digest String(~104B) + Long(16B) + ConcurrentHashMap Node(32B) + 테이블 슬롯
+    private static final long TOKEN_ENTRY_BYTES = 160;
+    // 사용자 폐기 항목 하나: Long 키(16B) + UserRevocation(24B) + Node(32B) + 테이블 슬롯
+    private static final long USER_ENTRY_BYTES = 80;
+
+    private final StringRedisTemplate redisTemplate;
+    private final long userTtlMillis;
+    private final long expectedInsertions;
+    private final double falsePositiveRate;
+
+    private final Map<String, Long> revokedTokens = new ConcurrentHashMap<>();
+    private final Map<Long, UserRevocation> revokedUsers = new ConcurrentHashMap<>();
+    // 조회는 잠금 없이 현재 필터를 읽고, 추가와 재생성은 bloomLock 으로 직렬화하여 재생성 중 추가된 항목이 빠지지 않게 함
+    private volatile BloomFilter bloomFilter;
+    private final Object bloomLock = new Object();
+
+    private final Counter checkCounter;
+    private final Counter bloomPositiveCounter;
+    private final Counter falsePositiveCounter;
+    private final Counter revokedCounter;
+    private final Counter redisErrorCounter;
+
+    public TokenRevocationList(StringRedisTemplate redisTemplate,
+                               MeterRegistry meterRegistry,
+                               @Value("${member.auth.revocation.user-ttl:15m}") Duration userTtl,
+                               @Value("${member.auth.revocation.bloom.expected-insertions:100000}") long expectedInsertions,
+                               @Value("${member.auth.revocation.bloom.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.redisTemplate = redisTemplate;
+        this.userTtlMillis = userTtl.toMillis();
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.bloomFilter = BloomFilter.create(expectedInsertions, falsePositiveRate);
+
+        this.checkCounter = Counter.builder("member.auth.revocation.checks").register(meterRegistry);
+        this.bloomPositiveCounter = Counter.builder("member.auth.revocation.bloom.positive").register(meterRegistry);
+        this.falsePositiveCounter = Counter.builder("member.auth.revocation.bloom.false-positive").register(meterRegistry);
+        this.revokedCounter = Counter.builder("member.auth.revocation.rejected").register(meterRegistry);
+        this.redisErrorCounter = Counter.builder("member.auth.revocation.redis.error").register(meterRegistry);
+
+        Gauge.builder("member.auth.revocation.tokens", revokedTokens, Map::size).register(meterRegistry);
+        Gauge.builder("member.auth.revocation.users", revokedUsers, Map::size).register(meterRegistry);
+        Gauge.builder("member.auth.revocation.bloom.expected-fpp", this, list -> list.bloomFilter.expectedFalsePositiveRate())
+                .register(meterRegistry);
+        Gauge.builder("member.auth.revocation.memory", this, list -> list.bloomFilter.sizeInBytes())
+                .tag("structure", "bloom").baseUnit("bytes").register(meterRegistry);
+        Gauge.builder("member.auth.revocation.memory", this, list -> list.revokedTokens.size() * TOKEN_ENTRY_BYTES)
+                .tag("structure", "tokens").baseUnit("bytes").register(meterRegistry);
+        Gauge.builder("member.auth.revocation.memory", this, list -> list.revokedUsers.size() * USER_ENTRY_BYTES)
+                .tag("structure", "users").baseUnit("bytes").register(meterRegistry);
+    }
+
+    /**
+     * 검증된 토큰이 폐기되었는지 메모리에서만 확인합니다.
+     *
+     * @param digest 토큰 SHA-256 값 ({@link TokenDigest#sha256(String)})
+     * @param claims 검증된 claims
+     * @return 토큰이 폐기되었거나 사용자 폐기 시각 이전에 발급된 경우 {@code true}
+     */
+    public boolean isRevoked(String digest, Claims claims) {
+        checkCounter.increment();
+        if (!revokedUsers.isEmpty() && isRevokedUser(claims)) {
+            revokedCounter.increment();
+            return true;
+        }
+
+        if (!bloomFilter.mightContain(digest)) {
+            return false;
+        }
+
+        bloomPositiveCounter.increment();
+        if (!revokedTokens.containsKey(digest)) {
+            falsePositiveCounter.increment();
+            return false;
+        }
+
+        revokedCounter.increment();
+        return true;
+    }
+
+    /**
+     * 토큰을 폐기합니다. 메모리에 먼저 반영하고 Redis 색인에 exp 를 점수로 저장한 뒤 다른 노드에 알립니다.
+     * Redis 에 실패하면 이 노드에서만 폐기되며, 토큰은 exp 에 자연 만료됩니다.
+     *
+     * @param token      폐기할 JWT
+     * @param expiration 토큰의 exp
+     */
+    public void revoke(String token, Date expiration) {
+        long expiresAt = expiration.getTime();
+        long ttlMillis = expiresAt - System.currentTimeMillis();
+        if (ttlMillis <= 0) {
+            return;
+        }
+
+        String digest = TokenDigest.sha256(token);
+        revokeLocal(digest, expiresAt);
+        try {
+            redisTemplate.opsForZSet().add(TOKEN_INDEX_KEY, digest, expiresAt);
+            redisTemplate.convertAndSend(CHANNEL, TOKEN_MESSAGE + ":" + digest + ":" + expiresAt);
+        } catch (DataAccessException e) {
+            redisErrorCounter.increment();
+            logger.warn("TokenRevocationList-revoke-Redis write failed : {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 사용자에게 지금까지 발급된 모든 access 토큰을 폐기합니다. (전체 로그아웃, 탈퇴)
+     * 폐기 시각은 access 토큰 유효 시간(user-ttl) 동안만 유지합니다.
+     *
+     * @param idx 사용자 고유 식별자 정보
+     */
+    public void revokeUser(Long idx) {
+        long revokedAt = System.currentTimeMillis();
+        revokeUserLocal(idx, revokedAt);
+        try {
+            redisTemplate.opsForZSet().add(USER_INDEX_KEY, idx.toString(), revokedAt);
+            redisTemplate.convertAndSend(CHANNEL, USER_MESSAGE + ":" + idx + ":" + revokedAt);
+        } catch (DataAccessException e) {
+            redisErrorCounter.increment();
+            logger.warn("TokenRevocationList-revokeUser-Redis write failed {} : {}", idx, e.getMessage());
+        }
+    }
+
+    /**
+     * 다른 노드에서 발행한 토큰 폐기를 메모리에만 반영합니다.
+     *
+     * @param digest    토큰 SHA-256 값
+     * @param expiresAt 토큰 exp (epoch ms)
+     * @throws IllegalArgumentException digest 형식이 아닌 경우
+     */
+    public void revokeLocal(String digest, long expiresAt) {
+        if (!BloomFilter.isDigest(digest)) {
+            throw new IllegalArgumentException("Invalid token digest");
+        }
+        if (revokedTokens.put(digest, expiresAt) != null) {
+            return;
+        }
+
+        synchronized (bloomLock) {
+            bloomFilter.put(digest);
+            // 예상 항목 수를 넘으면 오탐률이 올라가므로 더 큰 필터로 다시 만듦
+            if (bloomFilter.insertions() > bloomFilter.capacity()) {
+                rebuildBloomFilter();
+            }
+        }
+    }
+
+    /**
+     * 다른 노드에서 발행한 사용자 폐기를 메모리에만 반영합니다.
+     *
+     * @param idx       사용자 고유 식별자 정보
+     * @param revokedAt 폐기 시각 (epoch ms)
+     */
+    public void revokeUserLocal(Long idx, long revokedAt) {
+        UserRevocation revocation = new UserRevocation(revokedAt, revokedAt + userTtlMillis);
+        revokedUsers.merge(idx, revocation, (current, added) -> current.revokedAt() >= added.revokedAt() ? current : added);
+    }
+
+    /**
+     * Redis 색인에서 만료된 항목을 지우고 유효한 항목만 다시 읽어 놓친 메시지를 반영한 뒤,
+     * 메모리의 만료된 항목을 지우고 Bloom filter 를 새로 만듭니다.
+     * 초기 지연 없이 실행되므로 기동 직후 한 번 전체 목록을 적재합니다.
+     */
+    @Scheduled(fixedDelayString = "${member.auth.revocation.resync-interval:1m}")
+    public void resync() {
+        long now = System.currentTimeMillis();
+        long userRevokedAfter = now - userTtlMillis;
+        try {
+            redisTemplate.opsForZSet().removeRangeByScore(TOKEN_INDEX_KEY, Double.NEGATIVE_INFINITY, now);
+            load(TOKEN_INDEX_KEY, now, (digest, expiresAt) -> {
+                if (!BloomFilter.isDigest(digest)) {
+                    throw new IllegalArgumentException("Invalid token digest");
+                }
+                revokedTokens.putIfAbsent(digest, expiresAt);
+            });
+            redisTemplate.opsForZSet().removeRangeByScore(USER_INDEX_KEY, Double.NEGATIVE_INFINITY, userRevokedAfter);
+            load(USER_INDEX_KEY, userRevokedAfter, (idx, revokedAt) -> revokeUserLocal(Long.valueOf(idx), revokedAt));
+        } catch (DataAccessException e) {
+            redisErrorCounter.increment();
+            logger.warn("TokenRevocationList-resync-Redis load failed : {}", e.getMessage());
+        }
+
+        revokedTokens.values().removeIf(expiresAt -> expiresAt <= now);
+        revokedUsers.values().removeIf(revocation -> revocation.expiresAt() <= now);
+        synchronized (bloomLock) {
+            rebuildBloomFilter();
+        }
+        logger.debug("TokenRevocationList-resync-{} tokens, {} users", revokedTokens.size(), revokedUsers.size());
+    }
+
+    private void rebuildBloomFilter() {
+        BloomFilter rebuilt = BloomFilter.create(Math.max(expectedInsertions, revokedTokens.size() * 2L), falsePositiveRate);
+        revokedTokens.keySet().forEach(rebuilt::put);
+        bloomFilter = rebuilt;
+    }
+
+    private boolean isRevokedUser(Claims claims) {
+        UserRevocation revocation;
+        try {
+            revocation = revokedUsers.get(Long.valueOf(claims.getSubject()));
+        } catch (NumberFormatException e) {
+            return false;
+        }
+        if (revocation == null) {
+            return false;
+        }
+
+        // 폐기 시각보다 먼저 발급된 토큰만 폐기, 폐기 직후 다시 로그인해 발급된 토큰은 같은 초라도 허용
+        Long issuedAtMillis = claims.get(JwtTokenProvider.ISSUED_AT_MILLIS_CLAIM, Long.class);
+        if (issuedAtMillis != null) {
+            return issuedAtMillis < revocation.revokedAt();
+        }
+        // ms claim 이 없는 이전 토큰은 iat 가 초 단위라 폐기와 같은 초에 발급된 토큰도 폐기된 것으로 봄
+        Date issuedAt = claims.getIssuedAt();
+        return issuedAt == null || issuedAt.getTime() <= revocation.revokedAt();
+    }
+
+    // 점수가 min 이상인 항목을 점수 순서로 나누어 읽음
+    private void load(String key, long min, BiConsumer<String, Long> consumer) {
+        for (long offset = 0; ; offset += LOAD_BATCH_SIZE) {
+            Set<TypedTuple<String>> entries = redisTemplate.opsForZSet()
+                    .rangeByScoreWithScores(key, min, Double.POSITIVE_INFINITY, offset, LOAD_BATCH_SIZE);
+            if (entries == null || entries.isEmpty()) {
+                return;
+            }
+
+            for (TypedTuple<String> entry : entries) {
+                if (entry.getValue() == null || entry.getScore() == null) {
+                    continue;
+                }
+
+                try {
+                    consumer.accept(entry.getValue(), entry.getScore().longValue());
+                } catch (IllegalArgumentException e) {
+                    logger.warn("TokenRevocationList-load-Invalid entry {} : {}", key, entry.getValue());
+                }
+            }
+
+            if (entries.size() < LOAD_BATCH_SIZE) {
+                return;
+            }
+        }
+    }
+
+    private record UserRevocation(long revokedAt, long expiresAt) {
+    }
+}
@@ -0,0 +1,39 @@
+package com.trip.auth.revocation;
+
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 다른 노드에서 발행한 토큰 폐기 메시지를 메모리 폐기 목록에 반영합니다.
+ * 메시지 형식: {@code token:<digest>:<exp ms>}, {@code user:<idx>:<폐기 시각 ms>}
+ */
+@Component
+@RequiredArgsConstructor
+public class TokenRevocationListener implements MessageListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(TokenRevocationListener.class);
+    private final TokenRevocationList tokenRevocationList;
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        String[] parts = body.split(":");
+        try {
+            if (parts.length == 3 && TokenRevocationList.TOKEN_MESSAGE.equals(parts[0])) {
+                tokenRevocationList.revokeLocal(parts[1], Long.parseLong(parts[2]));
+            } else if (parts.length == 3 && TokenRevocationList.USER_MESSAGE.equals(parts[0])) {
+                tokenRevocationList.revokeUserLocal(Long.valueOf(parts[1]), Long.parseLong(parts[2]));
+            } else {
+                logger.warn("TokenRevocationListener-onMessage-Invalid message : {}", body);
+            }
+        } catch (IllegalArgumentException e) {
+            logger.warn("TokenRevocationListener-onMessage-Invalid message : {}", body);
+        }
+    }
+}
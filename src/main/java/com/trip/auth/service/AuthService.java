@@ -6,7 +6,8 @@ import org.springframework.stereotype.Service;
 
 @Service
 public interface AuthService {
-    AuthToken loginUser(String email, String password);
+    AuthToken loginUser(String email, String password, String ip);
     AuthToken refreshAccessToken(String refreshToken);
-    void logoutUser(String refreshToken);
+    void logoutUser(String refreshToken, String accessToken);
+    long logoutAllSessions(Long idx);
 }
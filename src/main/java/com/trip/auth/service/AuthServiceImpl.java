@@ -2,10 +2,13 @@ package com.trip.auth.service;
 
 import com.trip.auth.JwtTokenProvider;
 import com.trip.auth.dto.AuthToken;
-import com.trip.auth.entity.TokenEntity;
 import com.trip.auth.exception.ExpiredTokenException;
-import com.trip.auth.exception.InvalidTokenException;
-import com.trip.auth.repository.AuthRepository;
+import com.trip.auth.limiter.FailedAttemptsBuffer;
+import com.trip.auth.limiter.LoginAttemptLimiter;
+import com.trip.auth.login.LastLoginBuffer;
+import com.trip.auth.repository.RefreshTokenStore;
+import com.trip.auth.revocation.TokenRevocationList;
+import com.trip.common.password.PasswordHasher;
 import com.trip.kafka.KafkaEvent;
 import com.trip.kafka.KafkaProducer;
 import com.trip.kafka.code.KafkaActions;
@@ -13,46 +16,75 @@ import com.trip.user.dto.User;
 import com.trip.user.entity.UserEntity;
 import com.trip.user.exception.UserNotFoundException;
 import com.trip.user.repository.UserRepository;
+import com.trip.user.service.UserService;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
+import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
 public class AuthServiceImpl implements AuthService {
     private final UserRepository userRepository;
-    private final AuthRepository authRepository;
+    private final RefreshTokenStore refreshTokenStore;
+    private final TokenRevocationList tokenRevocationList;
+    private final UserService userService;
+    private final PasswordHasher passwordHasher;
+    private final LoginAttemptLimiter loginAttemptLimiter;
+    private final FailedAttemptsBuffer failedAttemptsBuffer;
+    private final LastLoginBuffer lastLoginBuffer;
 
     private final JwtTokenProvider jwtTokenProvider;
     private final KafkaProducer kafkaProducer;
 
     private static final Logger logger = LoggerFactory.getLogger(AuthServiceImpl.class);
 
+    // 인증 정보는 replica 지연으로 이전 비밀번호, 탈퇴 전 상태를 읽지 않도록 트랜잭션 없이 항상 primary 에서 조회
     @Override
-    public AuthToken loginUser(String email, String password) {
-        logger.info("AuthService-loginUser-email={}", email);
-        UserEntity userEntity = userRepository.findByEmail(email).orElseThrow(UserNotFoundException::new);
+    public AuthToken loginUser(String email, String password, String ip) {
+        logger.info("AuthService-loginUser-email={}, ip={}", email, ip);
+        // 실패 한도에 도달한 이메일, IP 는 DB 를 조회하기 전에 거절
+        loginAttemptLimiter.checkAllowed(email, ip);
+
+        Optional<UserEntity> foundUser = userRepository.findByEmail(email);
+        if (foundUser.isEmpty()) {
+            logger.info("AuthService-loginUser-user not found");
+            // 있는 이메일과 응답 시간이 같도록 같은 cost 의 해시를 검증
+            passwordHasher.matchesDummy(password);
+            loginAttemptLimiter.recordFailure(email, ip);
+            throw new UserNotFoundException();
+        }
 
+        UserEntity userEntity = foundUser.get();
         User user = User.formEntity(userEntity);
         String userPassword = userEntity.getPassword();
 
-        if (user == null || !userPassword.equals(password)) {
+        if (!passwordHasher.matches(password, userPassword)) {
             logger.info("AuthService-loginUser-user password is incorrect");
+            loginAttemptLimiter.recordFailure(email, ip);
+            failedAttemptsBuffer.recordFailure(user.getIdx());
             throw new UserNotFoundException();
         }
 
+        loginAttemptLimiter.reset(email);
+        failedAttemptsBuffer.recordSuccess(user.getIdx(), userEntity.getFailedAttempts());
+        // 마지막 로그인 IP, 시각은 사용자별로 모았다가 배치 반영
+        lastLoginBuffer.record(user.getIdx(), ip, LocalDateTime.now());
+
+        // 평문이거나 낮은 cost 로 저장된 비밀번호는 로그인 성공 후 비동기로 다시 해시
+        if (passwordHasher.needsRehash(userPassword)) {
+            userService.upgradePasswordHash(user.getIdx(), password, userPassword);
+        }
+
         String accessToken = jwtTokenProvider.generateAccessToken(user.getIdx());
         String refreshToken = jwtTokenProvider.generateRefreshToken(user.getIdx());
 
-        TokenEntity tokenEntity = TokenEntity.builder()
-                .token(refreshToken)
-                .idx(user.getIdx().toString())
-                .build();
-
-        authRepository.save(tokenEntity);
+        refreshTokenStore.save(refreshToken, user.getIdx());
 
         AuthToken authToken = AuthToken.builder()
                 .accessToken(accessToken)
@@ -75,17 +107,12 @@ public class AuthServiceImpl implements AuthService {
     public AuthToken refreshAccessToken(String refreshToken) {
         logger.info("AuthService-refreshAccessToken-refreshToken={}", refreshToken);
 
-        if (!authRepository.existsByRefreshToken(refreshToken)) {
+        Optional<Long> tokenOwner = refreshTokenStore.findUserIdx(refreshToken);
+        if (tokenOwner.isEmpty()) {
             logger.info("AuthService-refreshAccessToken-refreshToken is incorrect");
             throw new ExpiredTokenException("Expired token");
         }
-
-        TokenEntity tokenEntity = authRepository.findByRefreshToken(refreshToken);
-        if (tokenEntity.getIdx() == null) {
-            logger.info("AuthService-refreshAccessToken-user not found");
-            throw new InvalidTokenException("Invalid token");
-        }
-        Long idx = Long.valueOf(tokenEntity.getIdx());
+        Long idx = tokenOwner.get();
 
         String accessToken = jwtTokenProvider.generateAccessToken(idx);
 
@@ -110,21 +137,19 @@ public class AuthServiceImpl implements AuthService {
     }
 
     @Override
-    public void logoutUser(String refreshToken) {
+    public void logoutUser(String refreshToken, String accessToken) {
         logger.info("AuthService-logoutUser-refreshToken={}", refreshToken);
 
-        if (!authRepository.existsByRefreshToken(refreshToken)) {
+        // 조회와 삭제를 한 번의 스크립트로 처리
+        Optional<Long> tokenOwner = refreshTokenStore.delete(refreshToken);
+        if (tokenOwner.isEmpty()) {
             logger.info("AuthService-logoutUser-refreshToken is incorrect");
             throw new ExpiredTokenException("Expired token");
         }
-
-        TokenEntity tokenEntity = authRepository.findByRefreshToken(refreshToken);
-        if (tokenEntity.getIdx() == null) {
-            logger.info("AuthService-logoutUser-user not found");
-            throw new InvalidTokenException("Invalid token");
+        Long idx = tokenOwner.get();
+        if (accessToken != null) {
+            revokeAccessToken(accessToken, idx);
         }
-        Long idx = Long.valueOf(tokenEntity.getIdx());
-        authRepository.delete(tokenEntity);
 
         UserEntity userEntity = userRepository.findByIdx(idx).orElseThrow(UserNotFoundException::new);
         User user = User.formEntity(userEntity);
@@ -138,6 +163,41 @@ public class AuthServiceImpl implements AuthService {
         logger.info("AuthService-logoutUser-token is deleted");
     }
 
+    @Override
+    public long logoutAllSessions(Long idx) {
+        logger.info("AuthService-logoutAllSessions-idx={}", idx);
+
+        UserEntity userEntity = userRepository.findByIdx(idx).orElseThrow(UserNotFoundException::new);
+        long deletedCount = refreshTokenStore.deleteAll(idx);
+        // 이미 발급된 access 토큰도 만료 전까지 거절
+        tokenRevocationList.revokeUser(idx);
+
+        User user = User.formEntity(userEntity);
+        KafkaEvent kafkaEvent = KafkaEvent.builder()
+                .action(KafkaActions.LOGOUT)
+                .beforeUser(user)
+                .timestamp(LocalDateTime.now())
+                .build();
 
+        kafkaProducer.sendUserEvent(kafkaEvent);
+        logger.info("AuthService-logoutAllSessions-{} tokens are deleted", deletedCount);
+        return deletedCount;
+    }
 
+    /**
+     * refresh 토큰과 같은 사용자의 access 토큰이면 남은 유효 시간 동안 폐기합니다.
+     * 이미 만료되었거나 잘못된 access 토큰은 사용할 수 없으므로 무시합니다.
+     */
+    private void revokeAccessToken(String accessToken, Long idx) {
+        try {
+            Claims claims = jwtTokenProvider.parseClaims(accessToken);
+            if (!idx.toString().equals(claims.getSubject())) {
+                logger.info("AuthService-revokeAccessToken-access token owner mismatch");
+                return;
+            }
+            tokenRevocationList.revoke(accessToken, claims.getExpiration());
+        } catch (JwtException e) {
+            logger.info("AuthService-revokeAccessToken-access token is invalid");
+        }
+    }
 }
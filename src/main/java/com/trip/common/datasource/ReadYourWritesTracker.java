@@ -0,0 +1,34 @@
+package com.trip.common.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 최근에 쓰기를 커밋한 사용자를 기록합니다.
+ * 기록된 사용자는 window 동안 읽기 전용 트랜잭션도 primary 에서 읽어 자신이 쓴 값을 바로 볼 수 있습니다.
+ * 노드 단위 기록이므로 다른 노드로 간 요청에는 적용되지 않습니다.
+ */
+@Component
+public class ReadYourWritesTracker {
+
+    private final Cache<String, Boolean> recentWriters;
+
+    public ReadYourWritesTracker(@Value("${member.datasource.read-your-writes-window:5s}") Duration window) {
+        this.recentWriters = Caffeine.newBuilder()
+                .expireAfterWrite(window)
+                .maximumSize(1_000_000)
+                .build();
+    }
+
+    public void recordWrite(String principal) {
+        recentWriters.put(principal, Boolean.TRUE);
+    }
+
+    public boolean hasRecentWrite(String principal) {
+        return recentWriters.getIfPresent(principal) != null;
+    }
+}
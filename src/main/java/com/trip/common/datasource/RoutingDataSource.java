@@ -0,0 +1,80 @@
+package com.trip.common.datasource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 트랜잭션 속성에 따라 primary, replica 중 하나로 연결을 보냅니다.
+ * <ul>
+ *     <li>읽기 전용 트랜잭션: replica, 단 최근에 쓰기를 커밋한 사용자는 primary</li>
+ *     <li>그 외(쓰기 트랜잭션, 트랜잭션 없음): primary</li>
+ * </ul>
+ * 트랜잭션 시작 시점에는 읽기 전용 여부가 아직 설정되지 않으므로 반드시 {@code LazyConnectionDataSourceProxy}로 감싸
+ * 첫 쿼리 시점에 연결을 고르도록 해야 합니다.
+ */
+public class RoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Route {
+        PRIMARY,
+        REPLICA
+    }
+
+    private final ReadYourWritesTracker readYourWritesTracker;
+    private final MeterRegistry meterRegistry;
+
+    public RoutingDataSource(ReadYourWritesTracker readYourWritesTracker, MeterRegistry meterRegistry) {
+        this.readYourWritesTracker = readYourWritesTracker;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        String principal = currentPrincipal();
+
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            return route(Route.PRIMARY, "no-transaction");
+        }
+
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            recordWriteAfterCommit(principal);
+            return route(Route.PRIMARY, "write");
+        }
+
+        if (principal != null && readYourWritesTracker.hasRecentWrite(principal)) {
+            return route(Route.PRIMARY, "read-your-writes");
+        }
+        return route(Route.REPLICA, "read");
+    }
+
+    private Route route(Route route, String reason) {
+        meterRegistry.counter("member.datasource.route", "route", route.name().toLowerCase(), "reason", reason).increment();
+        return route;
+    }
+
+    // 롤백된 쓰기는 기록하지 않도록 커밋 후에 기록
+    private void recordWriteAfterCommit(String principal) {
+        if (principal == null || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                readYourWritesTracker.recordWrite(principal);
+            }
+        });
+    }
+
+    private String currentPrincipal() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return authentication.getName();
+    }
+}
@@ -1,10 +1,16 @@
 package com.trip.common.exception;
 
+import com.trip.auth.exception.ExpiredTokenException;
+import com.trip.auth.exception.InvalidTokenException;
+import com.trip.auth.exception.TooManyLoginAttemptsException;
 import com.trip.common.dto.ErrorRes;
 import com.trip.user.exception.EmailAlreadyExistsException;
+import com.trip.user.exception.ImportJobNotFoundException;
 import com.trip.user.exception.IncorrectPasswordException;
 import com.trip.user.exception.UserNotFoundException;
+import com.trip.user.exception.UserVersionMismatchException;
 import io.jsonwebtoken.JwtException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -43,6 +49,35 @@ public class CustomExceptionHandler {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(res);
     }
 
+    @ExceptionHandler(UserVersionMismatchException.class)
+    public ResponseEntity<ErrorRes> handleUserVersionMismatchException(UserVersionMismatchException e) {
+        ErrorRes res = ErrorRes.builder()
+                .message(e.getMessage())
+                .status(HttpStatus.PRECONDITION_FAILED)
+                .build();
+
+        return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).body(res);
+    }
+
+    @ExceptionHandler(ImportJobNotFoundException.class)
+    public ResponseEntity<ErrorRes> handleImportJobNotFoundException(ImportJobNotFoundException e) {
+        ErrorRes res = ErrorRes.builder()
+                .message(e.getMessage())
+                .status(HttpStatus.NOT_FOUND)
+                .build();
+
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(res);
+    }
+
+    @ExceptionHandler({ExpiredTokenException.class, InvalidTokenException.class})
+    public ResponseEntity<ErrorRes> handleTokenException(RuntimeException e) {
+        ErrorRes res = ErrorRes.builder()
+                .message(e.getMessage())
+                .status(HttpStatus.UNAUTHORIZED)
+                .build();
+
+        return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(res);
+    }
 
     @ExceptionHandler(JwtException.class)
     public ResponseEntity<ErrorRes> handleJwtException(JwtException e) {
@@ -54,6 +89,32 @@ public class CustomExceptionHandler {
         return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(res);
     }
 
+    @ExceptionHandler(TooManyLoginAttemptsException.class)
+    public ResponseEntity<ErrorRes> handleTooManyLoginAttemptsException(TooManyLoginAttemptsException e) {
+        ErrorRes res = ErrorRes.builder()
+                .message(e.getMessage())
+                .status(HttpStatus.TOO_MANY_REQUESTS)
+                .build();
+
+        // 초 단위로 올림
+        long retryAfterSeconds = Math.max(1, (e.getRetryAfter().toMillis() + 999) / 1000);
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds))
+                .body(res);
+    }
+
+    @ExceptionHandler(PasswordHashingBusyException.class)
+    public ResponseEntity<ErrorRes> handlePasswordHashingBusyException(PasswordHashingBusyException e) {
+        ErrorRes res = ErrorRes.builder()
+                .message(e.getMessage())
+                .status(HttpStatus.SERVICE_UNAVAILABLE)
+                .build();
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(res);
+    }
+
     @ExceptionHandler(IllegalArgumentException.class)
     public ResponseEntity<ErrorRes> handleIllegalArgumentException(IllegalArgumentException e) {
         ErrorRes res = ErrorRes.builder()
@@ -0,0 +1,7 @@
+package com.trip.common.exception;
+
+public class PasswordHashingBusyException extends RuntimeException {
+    public PasswordHashingBusyException() {
+        super("password hashing is busy, retry later");
+    }
+}
@@ -0,0 +1,264 @@
+package com.trip.common.password;
+
+import com.trip.common.exception.PasswordHashingBusyException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+
+/**
+ * 비밀번호 해시, 검증 전용 실행기
+ * BCrypt 는 CPU 를 오래 점유하므로 요청 스레드 대신 CPU 수 크기의 전용 풀에서 실행하고,
+ * 대기열이 가득 차면 기다리지 않고 {@code PasswordHashingBusyException}(503)으로 거절합니다.
+ * cost 를 지정하지 않으면 기동할 때 해시 1회가 목표 시간 안에 끝나는 가장 큰 cost 를 찾습니다.
+ * BCrypt 형식이 아닌 값은 이전 평문 비밀번호로 보고 비교하며, {@link #needsRehash}로 재해시 대상을 알려줍니다.
+ */
+@Component
+public class PasswordHasher {
+
+    private static final Logger logger = LoggerFactory.getLogger(PasswordHasher.class);
+
+    public static final int MIN_STRENGTH = 10;
+    public static final int MAX_STRENGTH = 16;
+
+    private static final Pattern BCRYPT_PATTERN = Pattern.compile("^\\$2[aby]?\\$(\\d\\d)\\$[./0-9A-Za-z]{53}$");
+
+    private final int strength;
+    private final BCryptPasswordEncoder encoder;
+    // 없는 이메일로 로그인해도 같은 시간이 걸리도록 비교하는 같은 cost 의 해시
+    private final String dummyHash;
+    private final ThreadPoolExecutor executor;
+    private final Duration timeout;
+    // 대량 생성은 풀의 절반까지만 사용하여 로그인 처리량을 남겨 둠
+    private final Semaphore bulkPermits;
+
+    private final Timer hashTimer;
+    private final Timer verifyTimer;
+    private final Counter rejectedCounter;
+    private final Counter legacyCounter;
+
+    @Autowired
+    public PasswordHasher(MeterRegistry meterRegistry,
+                          @Value("${member.password.bcrypt.strength:0}") int strength,
+                          @Value("${member.password.bcrypt.target-latency:100ms}") Duration targetLatency,
+                          @Value("${member.password.threads:0}") int threads,
+                          @Value("${member.password.queue-capacity:64}") int queueCapacity,
+                          @Value("${member.password.timeout:5s}") Duration timeout) {
+        this(meterRegistry,
+                strength > 0 ? strength : calibrate(targetLatency),
+                newExecutor(threads > 0 ? threads : Runtime.getRuntime().availableProcessors(), queueCapacity),
+                timeout);
+    }
+
+    PasswordHasher(MeterRegistry meterRegistry, int strength, ThreadPoolExecutor executor, Duration timeout) {
+        this.strength = strength;
+        this.encoder = new BCryptPasswordEncoder(strength);
+        this.dummyHash = encoder.encode("dummy-password");
+        this.executor = executor;
+        this.timeout = timeout;
+        this.bulkPermits = new Semaphore(Math.max(1, executor.getMaximumPoolSize() / 2));
+
+        ExecutorServiceMetrics.monitor(meterRegistry, executor, "password-hasher");
+        this.hashTimer = Timer.builder("member.password.hash").tag("operation", "hash").register(meterRegistry);
+        this.verifyTimer = Timer.builder("member.password.hash").tag("operation", "verify").register(meterRegistry);
+        this.rejectedCounter = Counter.builder("member.password.rejected").register(meterRegistry);
+        this.legacyCounter = Counter.builder("member.password.legacy").register(meterRegistry);
+
+        logger.info("PasswordHasher-init-strength={}, threads={}, queueCapacity={}",
+                strength, executor.getMaximumPoolSize(), executor.getQueue().remainingCapacity());
+    }
+
+    /**
+     * 비밀번호를 BCrypt 로 해시합니다.
+     *
+     * @param rawPassword 평문 비밀번호
+     * @return BCrypt 해시
+     * @throws PasswordHashingBusyException 해시 풀이 포화된 경우
+     */
+    public String hash(String rawPassword) {
+        return await(submit(() -> hashTimer.record(() -> encoder.encode(rawPassword))));
+    }
+
+    /**
+     * 여러 비밀번호를 해시합니다. 풀이 가득 차도 거절하지 않고 기다리며, 동시에 풀의 절반까지만 사용합니다.
+     *
+     * @param rawPasswords 평문 비밀번호 목록
+     * @return 입력 순서대로 BCrypt 해시 목록
+     */
+    public List<String> hashAll(List<String> rawPasswords) {
+        List<Future<String>> futures = new ArrayList<>(rawPasswords.size());
+        try {
+            for (String rawPassword : rawPasswords) {
+                bulkPermits.acquire();
+                try {
+                    futures.add(executor.submit(() -> {
+                        try {
+                            return hashTimer.record(() -> encoder.encode(rawPassword));
+                        } finally {
+                            bulkPermits.release();
+                        }
+                    }));
+                } catch (RejectedExecutionException e) {
+                    bulkPermits.release();
+                    rejectedCounter.increment();
+                    throw new PasswordHashingBusyException();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new PasswordHashingBusyException();
+        }
+
+        return futures.stream().map(this::await).toList();
+    }
+
+    /**
+     * 비밀번호가 저장된 값과 같은지 확인합니다. 저장된 값이 BCrypt 형식이 아니면 평문으로 비교합니다.
+     *
+     * @param rawPassword     입력한 비밀번호
+     * @param encodedPassword 저장된 비밀번호
+     * @return 일치 여부
+     * @throws PasswordHashingBusyException 해시 풀이 포화된 경우
+     */
+    public boolean matches(String rawPassword, String encodedPassword) {
+        if (rawPassword == null || encodedPassword == null) {
+            return false;
+        }
+
+        if (!BCRYPT_PATTERN.matcher(encodedPassword).matches()) {
+            legacyCounter.increment();
+            return MessageDigest.isEqual(rawPassword.getBytes(StandardCharsets.UTF_8), encodedPassword.getBytes(StandardCharsets.UTF_8));
+        }
+
+        return await(submit(() -> verifyTimer.record(() -> encoder.matches(rawPassword, encodedPassword))));
+    }
+
+    /**
+     * 현재 cost 의 dummy 해시와 비교합니다. 사용자가 없을 때 호출하여 응답 시간으로 이메일 존재 여부를 알 수 없게 합니다.
+     *
+     * @param rawPassword 입력한 비밀번호
+     * @throws PasswordHashingBusyException 해시 풀이 포화된 경우
+     */
+    public void matchesDummy(String rawPassword) {
+        matches(rawPassword == null ? "" : rawPassword, dummyHash);
+    }
+
+    /**
+     * 값이 BCrypt 해시 형식인지 확인합니다.
+     *
+     * @param password 확인할 값
+     * @return BCrypt 형식이면 {@code true}
+     */
+    public boolean isHashed(String password) {
+        return password != null && BCRYPT_PATTERN.matcher(password).matches();
+    }
+
+    /**
+     * 저장된 값이 평문이거나 현재 설정보다 낮은 cost 로 해시되었는지 확인합니다.
+     *
+     * @param encodedPassword 저장된 비밀번호
+     * @return 재해시가 필요하면 {@code true}
+     */
+    public boolean needsRehash(String encodedPassword) {
+        if (encodedPassword == null) {
+            return false;
+        }
+
+        var matcher = BCRYPT_PATTERN.matcher(encodedPassword);
+        return !matcher.matches() || Integer.parseInt(matcher.group(1)) < strength;
+    }
+
+    public int getStrength() {
+        return strength;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private <T> Future<T> submit(Callable<T> task) {
+        try {
+            return executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            throw new PasswordHashingBusyException();
+        }
+    }
+
+    private <T> T await(Future<T> future) {
+        try {
+            return future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw new PasswordHashingBusyException();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            throw new PasswordHashingBusyException();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+
+    private static ThreadPoolExecutor newExecutor(int threads, int queueCapacity) {
+        AtomicInteger sequence = new AtomicInteger();
+        return new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hasher-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * 최소 cost 의 해시 시간을 측정하고, cost 가 1 오를 때마다 시간이 두 배가 되는 것으로 계산하여
+     * 목표 시간을 넘지 않는 가장 큰 cost 를 반환합니다.
+     */
+    static int calibrate(Duration targetLatency) {
+        BCryptPasswordEncoder minimum = new BCryptPasswordEncoder(MIN_STRENGTH);
+        minimum.encode("calibration");
+
+        long nanos = Long.MAX_VALUE;
+        for (int i = 0; i < 3; i++) {
+            long startedAt = System.nanoTime();
+            minimum.encode("calibration");
+            nanos = Math.min(nanos, System.nanoTime() - startedAt);
+        }
+
+        int strength = MIN_STRENGTH;
+        while (strength < MAX_STRENGTH && nanos * 2 <= targetLatency.toNanos()) {
+            strength++;
+            nanos *= 2;
+        }
+
+        logger.info("PasswordHasher-calibrate-strength={} for target latency {}", strength, targetLatency);
+        return strength;
+    }
+}
@@ -0,0 +1,47 @@
+package com.trip.common.transaction;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 현재 트랜잭션이 커밋된 뒤 실행할 작업을 등록합니다.
+ * 캐시 무효화, 색인 갱신, 이벤트 발행을 커밋 전에 하면 동시에 조회한 요청이 커밋 전 값을 다시 캐시하거나
+ * 롤백된 변경의 이벤트가 발행되므로 커밋 후로 미룹니다. 트랜잭션이 없으면 바로 실행합니다.
+ */
+public final class AfterCommit {
+
+    private static final Logger logger = LoggerFactory.getLogger(AfterCommit.class);
+
+    private AfterCommit() {
+    }
+
+    /**
+     * 변경은 이미 커밋되었으므로 작업이 실패해도 요청을 실패로 만들지 않고 기록만 남깁니다.
+     *
+     * @param name 로그에 남길 작업 이름
+     * @param action 커밋 후 실행할 작업
+     */
+    public static void run(String name, Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            runSafely(name, action);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                runSafely(name, action);
+            }
+        });
+    }
+
+    private static void runSafely(String name, Runnable action) {
+        try {
+            action.run();
+        } catch (RuntimeException e) {
+            logger.warn("AfterCommit-run-{} failed : {}", name, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.trip.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+
+/**
+ * {@code @Async} 작업은 Spring Boot 기본 applicationTaskExecutor 를 사용합니다.
+ * {@code spring.threads.virtual.enabled=true}이면 작업마다 가상 스레드로 실행됩니다.
+ */
+@EnableAsync
+@Configuration
+public class AsyncConfig {
+}
@@ -1,9 +1,38 @@
 package com.trip.config;
 
+import com.trip.auth.revocation.TokenRevocationList;
+import com.trip.auth.revocation.TokenRevocationListener;
+import com.trip.user.cache.UserCache;
+import com.trip.user.cache.UserCacheInvalidationListener;
+import org.springframework.boot.thread.Threading;
 import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 
 @EnableCaching
 @Configuration
 public class CacheConfig {
+
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory redisConnectionFactory,
+                                                                       UserCacheInvalidationListener userCacheInvalidationListener,
+                                                                       TokenRevocationListener tokenRevocationListener,
+                                                                       Environment environment) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        if (Threading.VIRTUAL.isActive(environment)) {
+            // 직접 만든 컨테이너는 spring.threads.virtual.enabled 가 자동 적용되지 않으므로 리스너 실행 스레드를 지정
+            SimpleAsyncTaskExecutor taskExecutor = new SimpleAsyncTaskExecutor("redis-listener-");
+            taskExecutor.setVirtualThreads(true);
+            container.setTaskExecutor(taskExecutor);
+        }
+        container.addMessageListener(userCacheInvalidationListener, new ChannelTopic(UserCache.INVALIDATION_CHANNEL));
+        container.addMessageListener(tokenRevocationListener, new ChannelTopic(TokenRevocationList.CHANNEL));
+        return container;
+    }
 }
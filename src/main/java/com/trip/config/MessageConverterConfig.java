@@ -0,0 +1,49 @@
+package com.trip.config;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * 서비스 간 호출용 바이너리 응답 형식
+ * {@code Accept: application/cbor} 또는 {@code Accept: application/x-jackson-smile} 요청에 같은 DTO를 바이너리로 직렬화합니다.
+ * JSON 변환기가 앞에 있으므로 Accept 가 없거나 {@code *}{@code /*} 이면 JSON 으로 응답합니다.
+ * 스키마는 {@code resources/schema/member-user.cddl}을 참고합니다.
+ */
+@Configuration
+public class MessageConverterConfig implements WebMvcConfigurer {
+
+    private final Jackson2ObjectMapperBuilder jackson2ObjectMapperBuilder;
+
+    public MessageConverterConfig(Jackson2ObjectMapperBuilder jackson2ObjectMapperBuilder) {
+        this.jackson2ObjectMapperBuilder = jackson2ObjectMapperBuilder;
+    }
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        // 클래스패스에 있으면 기본 설정으로 등록되는 변환기를 Spring Boot Jackson 설정을 따르는 변환기로 교체
+        converters.removeIf(converter -> converter instanceof MappingJackson2CborHttpMessageConverter
+                || converter instanceof MappingJackson2SmileHttpMessageConverter);
+        converters.add(new MappingJackson2CborHttpMessageConverter(binaryObjectMapper(new CBORFactory())));
+        converters.add(new MappingJackson2SmileHttpMessageConverter(binaryObjectMapper(new SmileFactory())));
+    }
+
+    /**
+     * 날짜는 ISO 문자열 대신 숫자 배열로 기록하여 크기와 파싱 비용을 줄입니다.
+     */
+    private ObjectMapper binaryObjectMapper(JsonFactory jsonFactory) {
+        return jackson2ObjectMapperBuilder.factory(jsonFactory)
+                .featuresToEnable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+    }
+}
@@ -6,6 +6,7 @@ import lombok.Builder;
 import lombok.Getter;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Getter
 @Builder
@@ -13,6 +14,8 @@ public class KafkaEvent {
     private KafkaActions action;
     private User beforeUser;
     private User afterUser;
+    // 일괄 처리 시 묶음 단위로 전달
+    private List<User> afterUsers;
     private String searchKeyword;
     private LocalDateTime timestamp;
 }
@@ -8,6 +8,7 @@ public enum KafkaActions {
 
     GET_ALL_USERS("getAllUsers"),
     GET_USERS_BY_IDX("getUsersByIdx"),
+    GET_USERS_BY_IDX_LIST("getUsersByIdxList"),
     GET_USERS_BY_EMAIL("getUsersByEmail"),
     GET_USERS_BY_NAME("getUsersByName"),
 
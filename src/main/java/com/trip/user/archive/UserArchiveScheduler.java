@@ -0,0 +1,32 @@
+package com.trip.user.archive;
+
+import com.trip.user.service.UserArchiveService;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 주기적으로 삭제 사용자 보관 작업을 실행합니다. {@code member.archive.enabled=true} 일 때만 등록됩니다.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "member.archive", name = "enabled", havingValue = "true")
+public class UserArchiveScheduler {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserArchiveScheduler.class);
+
+    private final UserArchiveService userArchiveService;
+
+    @Scheduled(fixedDelayString = "${member.archive.interval:1h}", initialDelayString = "${member.archive.initial-delay:5m}")
+    public void archiveDeletedUsers() {
+        try {
+            userArchiveService.archiveDeletedUsers();
+        } catch (DataAccessException e) {
+            logger.error("UserArchiveScheduler-archiveDeletedUsers-Archive failed, retry next run", e);
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.trip.user.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.trip.user.dto.User;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * 리액티브 조회 API 용 사용자 캐시
+ * L1은 {@link UserCache}와 같은 Caffeine 캐시를 공유하고, L2 Redis 는 리액티브 클라이언트로 조회하여 이벤트 루프를 막지 않습니다.
+ * 무효화는 기존 {@link UserCache#evict(Long)} 경로를 그대로 사용하고, 적재는 {@link UserCache}와 같은 조건부 스크립트를 사용합니다.
+ */
+@Component
+public class ReactiveUserCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReactiveUserCache.class);
+
+    private final UserCache userCache;
+    private final ReactiveStringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    private final Counter redisHits;
+    private final Counter redisMisses;
+    private final Counter redisErrors;
+
+    public ReactiveUserCache(UserCache userCache,
+                             ReactiveStringRedisTemplate redisTemplate,
+                             ObjectMapper objectMapper,
+                             MeterRegistry meterRegistry) {
+        this.userCache = userCache;
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+
+        // UserCache 와 같은 이름, 태그를 사용하여 한 지표로 집계
+        this.redisHits = Counter.builder("member.cache.user.redis").tag("result", "hit").register(meterRegistry);
+        this.redisMisses = Counter.builder("member.cache.user.redis").tag("result", "miss").register(meterRegistry);
+        this.redisErrors = Counter.builder("member.cache.user.redis").tag("result", "error").register(meterRegistry);
+    }
+
+    /**
+     * L1, L2 순서로 사용자를 조회합니다. L2에서 찾은 경우 L1에 적재합니다.
+     *
+     * @param idx 사용자 고유 식별자 정보
+     * @return 캐시된 사용자 정보, 없거나 Redis 오류이면 빈 Mono
+     */
+    public Mono<User> get(Long idx) {
+        return Mono.defer(() -> {
+            User user = userCache.getLocal(idx).orElse(null);
+            if (user != null) {
+                return Mono.just(user);
+            }
+
+            return redisTemplate.opsForValue().get(UserCache.KEY_PREFIX + idx)
+                    .doOnSuccess(json -> (json == null || UserCache.TOMBSTONE.equals(json) ? redisMisses : redisHits).increment())
+                    .filter(json -> !UserCache.TOMBSTONE.equals(json))
+                    .map(this::readUser)
+                    .doOnNext(userCache::putLocal)
+                    .onErrorResume(e -> {
+                        redisErrors.increment();
+                        logger.warn("ReactiveUserCache-get-Redis lookup failed {} : {}", idx, e.getMessage());
+                        return Mono.empty();
+                    });
+        });
+    }
+
+    /**
+     * DB에서 조회한 사용자를 L2에 조건부 기록하고, 받아들여지면 L1에 적재합니다. Redis 오류는 무시합니다.
+     *
+     * @param user 사용자 정보
+     * @return 적재 완료 신호
+     */
+    public Mono<Void> put(User user) {
+        return Mono.defer(() -> {
+            return redisTemplate.execute(UserCache.FILL_SCRIPT, List.of(UserCache.KEY_PREFIX + user.getIdx()),
+                            List.of(userCache.fillArgs(writeUser(user), user)))
+                    .next()
+                    .doOnNext(result -> {
+                        if (result == 1) {
+                            userCache.putLocal(user);
+                        }
+                    })
+                    .then();
+        }).onErrorResume(e -> {
+            redisErrors.increment();
+            logger.warn("ReactiveUserCache-put-Redis write failed {} : {}", user.getIdx(), e.getMessage());
+            return Mono.empty();
+        });
+    }
+
+    private User readUser(String json) {
+        try {
+            return objectMapper.readValue(json, User.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private String writeUser(User user) {
+        try {
+            return objectMapper.writeValueAsString(user);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,330 @@
+package com.trip.user.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.trip.user.dto.User;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 사용자 프로필 2단계 캐시
+ * L1: 노드 내부 Caffeine 캐시 (크기, TTL 제한), L2: Redis
+ * 변경 시 Redis 채널로 무효화 메시지를 발행하여 다른 노드의 L1 캐시도 제거합니다.
+ * <p>
+ * 조회 miss 후 DB 에서 읽는 사이 변경과 무효화가 끝나면 이전 값이 다시 적재될 수 있으므로,
+ * 무효화는 키를 지우지 않고 짧은 tombstone 으로 덮어쓰고 적재는 Lua 스크립트로 조건부 기록합니다.
+ * tombstone 이 있거나 저장된 값의 version 이 더 크면 기록하지 않으며, L1 은 L2 기록이 받아들여진 경우에만 적재합니다.
+ */
+@Component
+public class UserCache {
+
+    public static final String KEY_PREFIX = "member:user:";
+    public static final String INVALIDATION_CHANNEL = "member:user-cache:invalidate";
+    // 무효화 직후 적재를 막는 값, 사용자 JSON 과 겹치지 않음
+    static final String TOMBSTONE = "-";
+
+    // 키 하나의 조건부 적재, ARGV[1]: tombstone, ARGV[2]: TTL(ms), ARGV[3]: 사용자 JSON, ARGV[4]: version
+    // 1: 기록했거나 같은 version 이 이미 있음, 0: tombstone 이거나 더 새로운 version 이 있어 거절
+    private static final String FILL_FUNCTION = """
+            local function fill(key, value, version)
+                local current = redis.call('GET', key)
+                if current == ARGV[1] then
+                    return 0
+                end
+                if current then
+                    local ok, cached = pcall(cjson.decode, current)
+                    local cachedVersion = ok and type(cached) == 'table' and tonumber(cached['version'])
+                    if cachedVersion and cachedVersion > version then
+                        return 0
+                    end
+                    if cachedVersion and cachedVersion == version then
+                        return 1
+                    end
+                end
+                redis.call('SET', key, value, 'PX', ARGV[2])
+                return 1
+            end
+            """;
+    static final RedisScript<Long> FILL_SCRIPT = RedisScript.of(FILL_FUNCTION + """
+            return fill(KEYS[1], ARGV[3], tonumber(ARGV[4]))
+            """, Long.class);
+    // 여러 키의 조건부 적재, ARGV[2 + 2i - 1], ARGV[2 + 2i]: i 번째 키의 사용자 JSON, version
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> FILL_ALL_SCRIPT = RedisScript.of(FILL_FUNCTION + """
+            local results = {}
+            for i, key in ipairs(KEYS) do
+                results[i] = fill(key, ARGV[2 * i + 1], tonumber(ARGV[2 * i + 2]))
+            end
+            return results
+            """, List.class);
+
+    private static final Logger logger = LoggerFactory.getLogger(UserCache.class);
+
+    private final Cache<Long, User> localCache;
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Duration redisTtl;
+    private final Duration tombstoneTtl;
+
+    private final Counter redisHits;
+    private final Counter redisMisses;
+    private final Counter redisErrors;
+
+    public UserCache(StringRedisTemplate redisTemplate,
+                     ObjectMapper objectMapper,
+                     MeterRegistry meterRegistry,
+                     @Value("${member.cache.user.local.maximum-size:100000}") long maximumSize,
+                     @Value("${member.cache.user.local.ttl:60s}") Duration localTtl,
+                     @Value("${member.cache.user.redis.ttl:10m}") Duration redisTtl,
+                     @Value("${member.cache.user.redis.tombstone-ttl:5s}") Duration tombstoneTtl) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.redisTtl = redisTtl;
+        this.tombstoneTtl = tombstoneTtl;
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(localTtl)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, localCache, "user.local");
+        this.redisHits = Counter.builder("member.cache.user.redis").tag("result", "hit").register(meterRegistry);
+        this.redisMisses = Counter.builder("member.cache.user.redis").tag("result", "miss").register(meterRegistry);
+        this.redisErrors = Counter.builder("member.cache.user.redis").tag("result", "error").register(meterRegistry);
+    }
+
+    /**
+     * L1, L2 순서로 사용자를 조회합니다. L2에서 찾은 경우 L1에 적재합니다.
+     *
+     * @param idx 사용자 고유 식별자 정보
+     * @return 캐시된 사용자 정보, 없으면 {@code Optional.empty()}
+     */
+    public Optional<User> get(Long idx) {
+        User user = localCache.getIfPresent(idx);
+        if (user != null) {
+            return Optional.of(user);
+        }
+
+        try {
+            String json = redisTemplate.opsForValue().get(KEY_PREFIX + idx);
+            if (json == null || TOMBSTONE.equals(json)) {
+                redisMisses.increment();
+                return Optional.empty();
+            }
+
+            redisHits.increment();
+            user = objectMapper.readValue(json, User.class);
+            localCache.put(idx, user);
+            return Optional.of(user);
+        } catch (DataAccessException | JsonProcessingException e) {
+            redisErrors.increment();
+            logger.warn("UserCache-get-Redis lookup failed {} : {}", idx, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 여러 사용자를 L1, L2 순서로 조회합니다. L2는 한 번의 MGET으로 조회합니다.
+     *
+     * @param idxList 사용자 고유 식별자 목록
+     * @return 캐시에서 찾은 사용자 (idx 기준)
+     */
+    public Map<Long, User> getAll(Collection<Long> idxList) {
+        Map<Long, User> found = new HashMap<>(localCache.getAllPresent(idxList));
+        List<Long> remaining = idxList.stream()
+                .filter(idx -> !found.containsKey(idx))
+                .toList();
+        if (remaining.isEmpty()) {
+            return found;
+        }
+
+        try {
+            List<String> values = redisTemplate.opsForValue()
+                    .multiGet(remaining.stream().map(idx -> KEY_PREFIX + idx).toList());
+            for (int i = 0; i < remaining.size(); i++) {
+                String json = values == null ? null : values.get(i);
+                if (json == null || TOMBSTONE.equals(json)) {
+                    redisMisses.increment();
+                    continue;
+                }
+
+                redisHits.increment();
+                User user = objectMapper.readValue(json, User.class);
+                localCache.put(remaining.get(i), user);
+                found.put(remaining.get(i), user);
+            }
+        } catch (DataAccessException | JsonProcessingException e) {
+            redisErrors.increment();
+            logger.warn("UserCache-getAll-Redis lookup failed : {}", e.getMessage());
+        }
+        return found;
+    }
+
+    /**
+     * DB에서 조회한 여러 사용자를 한 번의 Lua 스크립트로 L2에 조건부 기록하고, 받아들여진 사용자만 L1에 적재합니다.
+     *
+     * @param users 사용자 목록
+     */
+    public void putAll(Collection<User> users) {
+        List<User> fills = users.stream()
+                .filter(user -> user != null && user.getIdx() != null)
+                .toList();
+        if (fills.isEmpty()) {
+            return;
+        }
+
+        try {
+            List<String> keys = new ArrayList<>(fills.size());
+            List<String> args = new ArrayList<>(2 + fills.size() * 2);
+            args.add(TOMBSTONE);
+            args.add(Long.toString(redisTtl.toMillis()));
+            for (User user : fills) {
+                keys.add(KEY_PREFIX + user.getIdx());
+                args.add(objectMapper.writeValueAsString(user));
+                args.add(versionArg(user));
+            }
+
+            List<?> results = redisTemplate.execute(FILL_ALL_SCRIPT, keys, args.toArray());
+            for (int i = 0; results != null && i < fills.size(); i++) {
+                if (Long.valueOf(1).equals(results.get(i))) {
+                    localCache.put(fills.get(i).getIdx(), fills.get(i));
+                }
+            }
+        } catch (DataAccessException | JsonProcessingException e) {
+            redisErrors.increment();
+            logger.warn("UserCache-putAll-Redis write failed : {}", e.getMessage());
+        }
+    }
+
+    /**
+     * DB에서 조회한 사용자를 L2에 조건부 기록하고, 받아들여지면 L1에 적재합니다.
+     * Redis 오류 시에는 변경 여부를 알 수 없으므로 L1에도 적재하지 않습니다.
+     *
+     * @param user 사용자 정보
+     */
+    public void put(User user) {
+        if (user == null || user.getIdx() == null) {
+            return;
+        }
+
+        try {
+            Long result = redisTemplate.execute(FILL_SCRIPT, List.of(KEY_PREFIX + user.getIdx()),
+                    fillArgs(objectMapper.writeValueAsString(user), user));
+            if (Long.valueOf(1).equals(result)) {
+                localCache.put(user.getIdx(), user);
+            }
+        } catch (DataAccessException | JsonProcessingException e) {
+            redisErrors.increment();
+            logger.warn("UserCache-put-Redis write failed {} : {}", user.getIdx(), e.getMessage());
+        }
+    }
+
+    /**
+     * {@link #FILL_SCRIPT} 인자를 만듭니다.
+     *
+     * @param json 사용자 JSON
+     * @param user 사용자 정보
+     * @return tombstone, TTL, JSON, version 순서의 인자
+     */
+    Object[] fillArgs(String json, User user) {
+        return new Object[]{TOMBSTONE, Long.toString(redisTtl.toMillis()), json, versionArg(user)};
+    }
+
+    /**
+     * L1만 조회합니다. L2는 호출하는 쪽(리액티브 조회)이 직접 조회합니다.
+     *
+     * @param idx 사용자 고유 식별자 정보
+     * @return L1에 있는 사용자 정보, 없으면 {@code Optional.empty()}
+     */
+    public Optional<User> getLocal(Long idx) {
+        return Optional.ofNullable(localCache.getIfPresent(idx));
+    }
+
+    /**
+     * L1에만 적재합니다.
+     *
+     * @param user 사용자 정보
+     */
+    public void putLocal(User user) {
+        localCache.put(user.getIdx(), user);
+    }
+
+    /**
+     * 사용자 변경 후 L1을 제거하고 L2를 tombstone 으로 덮어쓴 뒤 다른 노드에 무효화 메시지를 발행합니다.
+     *
+     * @param idx 사용자 고유 식별자 정보
+     */
+    public void evict(Long idx) {
+        localCache.invalidate(idx);
+        try {
+            redisTemplate.opsForValue().set(KEY_PREFIX + idx, TOMBSTONE, tombstoneTtl);
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL, idx.toString());
+        } catch (DataAccessException e) {
+            redisErrors.increment();
+            logger.warn("UserCache-evict-Redis invalidation failed {} : {}", idx, e.getMessage());
+        }
+    }
+
+    /**
+     * 여러 사용자를 L1에서 제거하고, L2 tombstone 기록과 무효화 메시지 발행을 한 번의 파이프라인으로 처리합니다.
+     *
+     * @param idxList 사용자 고유 식별자 목록
+     */
+    public void evictAll(Collection<Long> idxList) {
+        if (idxList.isEmpty()) {
+            return;
+        }
+
+        localCache.invalidateAll(idxList);
+        try {
+            byte[] channel = INVALIDATION_CHANNEL.getBytes(StandardCharsets.UTF_8);
+            byte[] tombstone = TOMBSTONE.getBytes(StandardCharsets.UTF_8);
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                idxList.forEach(idx -> {
+                    connection.stringCommands().set((KEY_PREFIX + idx).getBytes(StandardCharsets.UTF_8), tombstone,
+                            Expiration.from(tombstoneTtl), RedisStringCommands.SetOption.upsert());
+                    connection.publish(channel, idx.toString().getBytes(StandardCharsets.UTF_8));
+                });
+                return null;
+            });
+        } catch (DataAccessException e) {
+            redisErrors.increment();
+            logger.warn("UserCache-evictAll-Redis invalidation failed {} users : {}", idxList.size(), e.getMessage());
+        }
+    }
+
+    /**
+     * 다른 노드에서 발행한 무효화 메시지를 받아 L1만 제거합니다.
+     *
+     * @param idx 사용자 고유 식별자 정보
+     */
+    public void evictLocal(Long idx) {
+        localCache.invalidate(idx);
+    }
+
+    private static String versionArg(User user) {
+        return user.getVersion() == null ? "0" : user.getVersion().toString();
+    }
+}
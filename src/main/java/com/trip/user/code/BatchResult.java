@@ -0,0 +1,8 @@
+package com.trip.user.code;
+
+public enum BatchResult {
+    CREATED,
+    DUPLICATE_EMAIL,
+    INVALID,
+    FAILED
+}
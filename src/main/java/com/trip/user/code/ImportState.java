@@ -0,0 +1,7 @@
+package com.trip.user.code;
+
+public enum ImportState {
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
@@ -0,0 +1,156 @@
+package com.trip.user.controller;
+
+import com.trip.user.dto.ArchiveUsers;
+import com.trip.user.dto.ArchivedUser;
+import com.trip.user.dto.GetArchivedUserByIdx;
+import com.trip.user.dto.GetArchivedUsers;
+import com.trip.user.dto.ImportUsers;
+import com.trip.user.importer.UserFileImporter;
+import com.trip.user.importer.UserImportJob;
+import com.trip.user.service.UserArchiveService;
+import com.trip.user.service.UserExportService;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/apiv1/admin/user")
+public class UserAdminController {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserAdminController.class);
+    private static final MediaType APPLICATION_NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
+    private final UserExportService userExportService;
+    private final UserFileImporter userFileImporter;
+    private final UserArchiveService userArchiveService;
+
+    /**
+     * 삭제되지 않은 전체 사용자를 NDJSON 으로 응답에 바로 스트리밍합니다.
+     *
+     * @param gzip gzip 압축 여부
+     * @return 한 줄에 사용자 하나씩 담긴 NDJSON 스트림 ResponseEntity
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportUsers(@RequestParam(value = "gzip", defaultValue = "false") boolean gzip) {
+        logger.info("UserAdminController-exportUsers-Export users, gzip {}", gzip);
+
+        StreamingResponseBody body = outputStream -> {
+            try {
+                long count = userExportService.exportUsers(outputStream, gzip);
+                logger.info("UserAdminController-exportUsers-complete : {}", count);
+            } catch (IOException e) {
+                // 클라이언트가 중간에 연결을 끊은 경우, 커서는 서비스에서 이미 닫혔으므로 기록만 남김
+                logger.info("UserAdminController-exportUsers-Client disconnected : {}", e.getMessage());
+            }
+        };
+
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .contentType(APPLICATION_NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"users.ndjson\"");
+        if (gzip) {
+            builder.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return builder.body(body);
+    }
+
+    /**
+     * 서버의 CSV, NDJSON 파일에서 사용자를 대량으로 가져오는 작업을 시작합니다.
+     *
+     * @param req {@code ImportUsers.Req} 객체에 담긴 파일 경로, 체크포인트부터 재개 여부
+     * @return {@code ImportUsers.Res} 객체에 담긴 시작된 작업 상태를 포함하는 ResponseEntity
+     */
+    @PostMapping("/import")
+    public ResponseEntity<ImportUsers.Res> importUsers(@RequestBody ImportUsers.Req req) throws IOException {
+        logger.info("UserAdminController-importUsers-Import users : {}, resume {}", req.getPath(), req.isResume());
+        UserImportJob job = userFileImporter.start(req.getPath(), req.isResume());
+
+        logger.info("UserAdminController-importUsers-complete");
+        return ResponseEntity.accepted().body(ImportUsers.fromJob(job));
+    }
+
+    /**
+     * 사용자 가져오기 작업의 진행 상태를 조회합니다.
+     *
+     * @param jobId 작업 식별자
+     * @return {@code ImportUsers.Res} 객체에 담긴 작업 진행 상태를 포함하는 ResponseEntity
+     */
+    @GetMapping("/import/{jobId}")
+    public ResponseEntity<ImportUsers.Res> getImportJob(@PathVariable("jobId") String jobId) {
+        logger.info("UserAdminController-getImportJob-Get import job : {}", jobId);
+        UserImportJob job = userFileImporter.getJob(jobId);
+
+        logger.info("UserAdminController-getImportJob-complete");
+        return ResponseEntity.ok(ImportUsers.fromJob(job));
+    }
+
+    /**
+     * 보존 기간이 지난 삭제 사용자를 보관 테이블로 즉시 옮깁니다.
+     *
+     * @return {@code ArchiveUsers.Res} 객체에 담긴 옮긴 사용자 수를 포함하는 ResponseEntity
+     */
+    @PostMapping("/archive")
+    public ResponseEntity<ArchiveUsers.Res> archiveUsers() {
+        logger.info("UserAdminController-archiveUsers-Archive deleted users");
+        long archivedCount = userArchiveService.archiveDeletedUsers();
+
+        ArchiveUsers.Res res = ArchiveUsers.Res.builder()
+                .archivedCount(archivedCount)
+                .build();
+
+        logger.info("UserAdminController-archiveUsers-complete");
+        return ResponseEntity.ok(res);
+    }
+
+    /**
+     * 보관된 삭제 사용자를 인덱스로 조회합니다.
+     *
+     * @param idx 사용자 고유 식별자 정보
+     * @return {@code GetArchivedUserByIdx.Res} 객체에 담긴 보관된 사용자 정보를 포함하는 ResponseEntity
+     */
+    @GetMapping("/archive/{idx}")
+    public ResponseEntity<GetArchivedUserByIdx.Res> getArchivedUserByIdx(@PathVariable("idx") Long idx) {
+        logger.info("UserAdminController-getArchivedUserByIdx-getArchivedUserByIdx : {}", idx);
+        ArchivedUser user = userArchiveService.getArchivedUserByIdx(idx);
+
+        GetArchivedUserByIdx.Res res = GetArchivedUserByIdx.Res.builder()
+                .user(user)
+                .build();
+
+        logger.info("UserAdminController-getArchivedUserByIdx-complete");
+        return ResponseEntity.ok(res);
+    }
+
+    /**
+     * 보관된 삭제 사용자를 이메일로 조회합니다. 같은 이메일로 여러 번 가입, 삭제된 경우 모두 반환합니다.
+     *
+     * @param email 조회할 이메일
+     * @return {@code GetArchivedUsers.Res} 객체에 담긴 보관된 사용자 목록을 포함하는 ResponseEntity
+     */
+    @GetMapping("/archive")
+    public ResponseEntity<GetArchivedUsers.Res> getArchivedUsersByEmail(@RequestParam("email") String email) {
+        logger.info("UserAdminController-getArchivedUsersByEmail-getArchivedUsersByEmail : {}", email);
+        List<ArchivedUser> users = userArchiveService.getArchivedUsersByEmail(email);
+
+        GetArchivedUsers.Res res = GetArchivedUsers.Res.builder()
+                .users(users)
+                .build();
+
+        logger.info("UserAdminController-getArchivedUsersByEmail-complete");
+        return ResponseEntity.ok(res);
+    }
+}
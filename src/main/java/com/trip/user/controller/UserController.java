@@ -1,13 +1,18 @@
 package com.trip.user.controller;
 
+import com.trip.user.code.BatchResult;
 import com.trip.user.dto.*;
 import com.trip.user.service.UserService;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.List;
 
 @RestController
 @RequiredArgsConstructor
@@ -37,15 +42,51 @@ public class UserController {
         return ResponseEntity.status(HttpStatus.CREATED).body(res);
     }
 
+    /**
+     * 여러 사용자를 한 번에 생성합니다.
+     * 이메일 중복 확인과 insert 를 묶음 단위로 처리하고, 요청 순서별 결과를 반환합니다.
+     *
+     * @param req {@code CreateUsers.Req} 객체에 담긴 생성할 사용자 목록
+     * @return {@code CreateUsers.Res} 객체에 담긴 사용자별 생성 결과를 포함하는 ResponseEntity
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<CreateUsers.Res> createUsers(@RequestBody CreateUsers.Req req) {
+        logger.info("UserController-createUsers-Create users : {}", req.getUsers().size());
+        List<CreateUsers.Result> results = userService.createUsers(req.getUsers());
+
+        int createdCount = (int) results.stream()
+                .filter(result -> result.getResult() == BatchResult.CREATED)
+                .count();
+
+        CreateUsers.Res res = CreateUsers.Res.builder()
+                .results(results)
+                .createdCount(createdCount)
+                .failedCount(results.size() - createdCount)
+                .build();
+
+        logger.info("UserController-createUsers-complete");
+        return ResponseEntity.ok(res);
+    }
+
     /**
      * 제공된 사용자 인덱스로 사용자 정보를 조회합니다.
+     * If-None-Match 가 있으면 버전만 확인하여 바뀌지 않은 경우 본문 없이 304 를 응답합니다.
      *
      * @param idx 사용자 고유 식별자 정보
-     * @return {@code GetUserByIdx.Res} 객체에 담긴 조회된 사용자 정보를 포함하는 ResponseEntity
+     * @param webRequest If-None-Match 확인용 요청
+     * @return {@code GetUserByIdx.Res} 객체에 담긴 조회된 사용자 정보와 ETag 를 포함하는 ResponseEntity
      */
     @GetMapping(value = "/{idx}")
-    public ResponseEntity<GetUserByIdx.Res> getUserByIdx(@PathVariable("idx") Long idx) {
+    public ResponseEntity<GetUserByIdx.Res> getUserByIdx(@PathVariable("idx") Long idx, WebRequest webRequest) {
         logger.info("UserController-getUserByIdx-getUserByIdx : {}", idx);
+        if (webRequest.getHeader(HttpHeaders.IF_NONE_MATCH) != null) {
+            String etag = userService.getUserVersion(idx).map(UserETags::strong).orElse(null);
+            if (etag != null && webRequest.checkNotModified(etag)) {
+                logger.info("UserController-getUserByIdx-not modified");
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+            }
+        }
+
         User user = userService.getUserByIdx(idx);
 
         GetUserByIdx.Res res = GetUserByIdx.Res.builder()
@@ -53,6 +94,47 @@ public class UserController {
                 .build();
 
         logger.info("UserController-getUserByIdx-complete");
+        return ResponseEntity.ok().eTag(UserETags.strong(user.getVersion())).body(res);
+    }
+
+    /**
+     * 여러 사용자 인덱스로 사용자 정보를 한 번에 조회합니다.
+     *
+     * @param ids 쉼표로 구분된 사용자 고유 식별자 목록
+     * @return {@code GetUsersByIdx.Res} 객체에 담긴 요청 순서대로의 사용자 정보와 찾지 못한 인덱스를 포함하는 ResponseEntity
+     */
+    @GetMapping(params = "ids")
+    public ResponseEntity<GetUsersByIdx.Res> getUsersByIdx(@RequestParam("ids") List<Long> ids) {
+        logger.info("UserController-getUsersByIdx-getUsersByIdx : {}", ids.size());
+        UserLookup userLookup = userService.getUsersByIdxList(ids);
+
+        GetUsersByIdx.Res res = GetUsersByIdx.Res.builder()
+                .users(userLookup.getUsers())
+                .missingIdx(userLookup.getMissingIdx())
+                .build();
+
+        logger.info("UserController-getUsersByIdx-complete");
+        return ResponseEntity.ok(res);
+    }
+
+    /**
+     * 요청 본문에 담긴 여러 사용자 인덱스로 사용자 정보를 한 번에 조회합니다.
+     * 쿼리 스트링 길이를 넘는 큰 목록에 사용합니다.
+     *
+     * @param req {@code GetUsersByIdx.Req} 객체에 담긴 사용자 고유 식별자 목록
+     * @return {@code GetUsersByIdx.Res} 객체에 담긴 요청 순서대로의 사용자 정보와 찾지 못한 인덱스를 포함하는 ResponseEntity
+     */
+    @PostMapping("/lookup")
+    public ResponseEntity<GetUsersByIdx.Res> lookupUsers(@RequestBody GetUsersByIdx.Req req) {
+        logger.info("UserController-lookupUsers-lookupUsers : {}", req.getIdx().size());
+        UserLookup userLookup = userService.getUsersByIdxList(req.getIdx());
+
+        GetUsersByIdx.Res res = GetUsersByIdx.Res.builder()
+                .users(userLookup.getUsers())
+                .missingIdx(userLookup.getMissingIdx())
+                .build();
+
+        logger.info("UserController-lookupUsers-complete");
         return ResponseEntity.ok(res);
     }
 
@@ -62,19 +144,47 @@ public class UserController {
      *
      * @param idx 사용자 고유 식별자 정보
      * @param req {@code UpdateUser.Req} 객체에 담긴 이메일, 이름, 비밀번호
-     * @return {@code UpdateUser.Res} 객체에 담긴 업데이트된 사용자 정보를 포함하는 ResponseEntity
+     * @param ifMatch 조회 시 받은 ETag, 있으면 버전이 같을 때만 변경하고 다르면 412
+     * @return {@code UpdateUser.Res} 객체에 담긴 업데이트된 사용자 정보와 ETag 를 포함하는 ResponseEntity
      */
     @PutMapping("/{idx}")
-    public ResponseEntity<UpdateUser.Res> updateUser(@PathVariable("idx") Long idx, @RequestBody UpdateUser.Req req) {
+    public ResponseEntity<UpdateUser.Res> updateUser(@PathVariable("idx") Long idx, @RequestBody UpdateUser.Req req,
+                                                     @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         logger.info("UserController-updateUser-Update user : {}", req);
-        User user = userService.updateUser(idx, req.getUser());
+        User user = userService.updateUser(idx, req.getUser(), UserETags.parseIfMatch(idx, ifMatch));
 
         UpdateUser.Res res = UpdateUser.Res.builder()
                 .user(user)
                 .build();
 
         logger.info("UserController-updateUser-complete");
-        return ResponseEntity.ok(res);
+        return ResponseEntity.ok().eTag(UserETags.strong(user.getVersion())).body(res);
+    }
+
+    /**
+     * 요청에 포함된 항목(이메일, 이름)만 하나의 UPDATE 문으로 변경합니다.
+     *
+     * @param idx 사용자 고유 식별자 정보
+     * @param req {@code PatchUser.Req} 객체에 담긴 변경할 이메일, 이름
+     * @param ifMatch 조회 시 받은 ETag, 있으면 버전이 같을 때만 변경하고 다르면 412
+     * @return {@code PatchUser.Res} 객체에 담긴 변경된 행 수를 포함하는 ResponseEntity, If-Match 가 있으면 변경 후 ETag 포함
+     */
+    @PatchMapping("/{idx}")
+    public ResponseEntity<PatchUser.Res> patchUser(@PathVariable("idx") Long idx, @RequestBody PatchUser.Req req,
+                                                   @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        logger.info("UserController-patchUser-Patch user : {}", idx);
+        Long expectedVersion = UserETags.parseIfMatch(idx, ifMatch);
+        long updatedCount = userService.patchUser(idx, PatchUser.ReqToUser(req), expectedVersion);
+
+        PatchUser.Res res = PatchUser.Res.builder()
+                .updatedCount(updatedCount)
+                .build();
+
+        logger.info("UserController-patchUser-complete");
+        // 버전 조건으로 변경했으면 변경 후 버전은 기대 버전 + 1
+        return ResponseEntity.ok()
+                .eTag(expectedVersion == null ? null : UserETags.strong(expectedVersion + 1))
+                .body(res);
     }
 
     /**
@@ -117,20 +227,82 @@ public class UserController {
     /**
      * 삭제 상태가 아닌 모든 사용자를 조회합니다.
      *
-     * @param cursor 조회된 사용자 중 마지막 인덱스
+     * @param cursor 조회된 사용자 중 마지막 인덱스, 없으면 가장 최신 사용자부터 조회
      * @param pageSize 한번에 조회할 사용자의 갯수
-     * @return {@code GetAllUsers.Res} 객체에 담긴 사용자들의 정보를 포함하는 ResponseEntity
+     * @return {@code GetAllUsers.Res} 객체에 담긴 사용자들의 정보와 다음 커서, weak ETag 를 포함하는 ResponseEntity
      */
     @GetMapping
-    public ResponseEntity<GetAllUsers.Res> getAllUsers(@RequestParam("cursor") Long cursor, @RequestParam("pageSize") int pageSize) {
+    public ResponseEntity<GetAllUsers.Res> getAllUsers(@RequestParam(value = "cursor", required = false) Long cursor,
+                                                       @RequestParam(value = "pageSize", defaultValue = "15") int pageSize) {
         logger.info("UserController-getAllUsers-getAllUsers cursor : {}", cursor);
+        UserSlice userSlice = userService.getAllUsers(cursor, pageSize);
 
         GetAllUsers.Res res = GetAllUsers.Res.builder()
-                .users(userService.getAllUsers(cursor, pageSize))
+                .users(userSlice.getUsers())
+                .nextCursor(userSlice.getNextCursor())
+                .hasNext(userSlice.isHasNext())
                 .build();
 
         logger.info("UserController-getAllUsers-complete");
-        return ResponseEntity.ok(res);
+        // If-None-Match 가 같으면 직렬화 없이 304 응답
+        return ResponseEntity.ok()
+                .eTag(UserETags.weak(userSlice.getUsers(), userSlice.getNextCursor(), userSlice.isHasNext()))
+                .body(res);
     }
-}
 
+    /**
+     * 이메일이 주어진 문자열로 시작하는 사용자를 조회합니다.
+     *
+     * @param email 검색할 이메일 접두어
+     * @param cursor 조회된 사용자 중 마지막 인덱스, 없으면 가장 최신 사용자부터 조회
+     * @param pageSize 한번에 조회할 사용자의 갯수
+     * @return {@code GetUsersByEmail.Res} 객체에 담긴 사용자들의 정보와 다음 커서, weak ETag 를 포함하는 ResponseEntity
+     */
+    @GetMapping("/search/email")
+    public ResponseEntity<GetUsersByEmail.Res> getUsersByEmail(@RequestParam("email") String email,
+                                                               @RequestParam(value = "cursor", required = false) Long cursor,
+                                                               @RequestParam(value = "pageSize", defaultValue = "15") int pageSize) {
+        logger.info("UserController-getUsersByEmail-email : {}, cursor : {}", email, cursor);
+        UserSlice userSlice = userService.getUsersByEmailStartWith(cursor, email, pageSize);
+
+        GetUsersByEmail.Res res = GetUsersByEmail.Res.builder()
+                .users(userSlice.getUsers())
+                .nextCursor(userSlice.getNextCursor())
+                .hasNext(userSlice.isHasNext())
+                .build();
+
+        logger.info("UserController-getUsersByEmail-complete");
+        // If-None-Match 가 같으면 직렬화 없이 304 응답
+        return ResponseEntity.ok()
+                .eTag(UserETags.weak(userSlice.getUsers(), userSlice.getNextCursor(), userSlice.isHasNext()))
+                .body(res);
+    }
+
+    /**
+     * 이름이 주어진 문자열로 시작하는 사용자를 조회합니다.
+     *
+     * @param name 검색할 이름 접두어
+     * @param cursor 조회된 사용자 중 마지막 인덱스, 없으면 가장 최신 사용자부터 조회
+     * @param pageSize 한번에 조회할 사용자의 갯수
+     * @return {@code GetUsersByName.Res} 객체에 담긴 사용자들의 정보와 다음 커서, weak ETag 를 포함하는 ResponseEntity
+     */
+    @GetMapping("/search/name")
+    public ResponseEntity<GetUsersByName.Res> getUsersByName(@RequestParam("name") String name,
+                                                             @RequestParam(value = "cursor", required = false) Long cursor,
+                                                             @RequestParam(value = "pageSize", defaultValue = "15") int pageSize) {
+        logger.info("UserController-getUsersByName-name : {}, cursor : {}", name, cursor);
+        UserSlice userSlice = userService.getUsersByNameStartWith(cursor, name, pageSize);
+
+        GetUsersByName.Res res = GetUsersByName.Res.builder()
+                .users(userSlice.getUsers())
+                .nextCursor(userSlice.getNextCursor())
+                .hasNext(userSlice.isHasNext())
+                .build();
+
+        logger.info("UserController-getUsersByName-complete");
+        // If-None-Match 가 같으면 직렬화 없이 304 응답
+        return ResponseEntity.ok()
+                .eTag(UserETags.weak(userSlice.getUsers(), userSlice.getNextCursor(), userSlice.isHasNext()))
+                .body(res);
+    }
+}
@@ -0,0 +1,69 @@
+package com.trip.user.controller;
+
+import com.trip.user.dto.User;
+import com.trip.user.exception.UserVersionMismatchException;
+
+import java.util.List;
+
+/**
+ * 사용자 응답의 ETag 생성, If-Match 해석
+ * 단건은 행 버전을 그대로 쓰는 strong ETag, 목록은 구성원의 idx, 버전으로 만든 weak ETag 를 사용합니다.
+ */
+final class UserETags {
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private UserETags() {
+    }
+
+    static String strong(Long version) {
+        return version == null ? null : "\"" + version + "\"";
+    }
+
+    static String weak(List<User> users, Long nextCursor, boolean hasNext) {
+        long hash = FNV_OFFSET_BASIS;
+        for (User user : users) {
+            hash = mix(hash, user.getIdx());
+            hash = mix(hash, user.getVersion());
+        }
+        hash = mix(hash, nextCursor);
+        hash = mix(hash, hasNext ? 1L : 0L);
+
+        return "W/\"" + Long.toHexString(hash) + "\"";
+    }
+
+    /**
+     * If-Match 헤더를 기대 버전으로 바꿉니다.
+     *
+     * @param idx 사용자 고유 식별자 정보
+     * @param ifMatch If-Match 헤더 값
+     * @return 기대 버전, 헤더가 없거나 {@code *}이면 {@code null}
+     * @throws UserVersionMismatchException strong ETag 가 아니면 (weak ETag 는 If-Match 와 일치하지 않음)
+     */
+    static Long parseIfMatch(Long idx, String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+
+        String etag = ifMatch.trim();
+        if (etag.length() < 3 || !etag.startsWith("\"") || !etag.endsWith("\"")) {
+            throw new UserVersionMismatchException(idx);
+        }
+
+        try {
+            return Long.parseLong(etag.substring(1, etag.length() - 1));
+        } catch (NumberFormatException e) {
+            throw new UserVersionMismatchException(idx);
+        }
+    }
+
+    private static long mix(long hash, Long value) {
+        long v = value == null ? -1L : value;
+        for (int i = 0; i < Long.BYTES; i++) {
+            hash ^= (v >>> (i * 8)) & 0xff;
+            hash *= FNV_PRIME;
+        }
+        return hash;
+    }
+}
@@ -0,0 +1,91 @@
+package com.trip.user.controller;
+
+import com.trip.user.dto.GetUserByIdx;
+import com.trip.user.dto.User;
+import com.trip.user.service.UserReactiveService;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * 게이트웨이 fan-out 호출용 리액티브 조회 API
+ * Mono, Flux 를 반환하면 요청 스레드는 바로 반환되고 응답은 R2DBC, Redis 이벤트 루프에서 완료됩니다.
+ * 목록은 NDJSON 으로 한 건씩 내려가며, 클라이언트가 받는 만큼만 DB에서 읽습니다.
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/apiv1/reactive/user")
+public class UserReactiveController {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserReactiveController.class);
+    private final UserReactiveService userReactiveService;
+
+    /**
+     * 제공된 사용자 인덱스로 사용자 정보를 조회합니다.
+     *
+     * @param idx 사용자 고유 식별자 정보
+     * @return {@code GetUserByIdx.Res} 객체에 담긴 조회된 사용자 정보
+     */
+    @GetMapping("/{idx}")
+    public Mono<GetUserByIdx.Res> getUserByIdx(@PathVariable("idx") Long idx) {
+        logger.info("UserReactiveController-getUserByIdx-getUserByIdx : {}", idx);
+        return userReactiveService.getUserByIdx(idx)
+                .map(user -> GetUserByIdx.Res.builder()
+                        .user(user)
+                        .build());
+    }
+
+    /**
+     * 전체 사용자를 인덱스 내림차순으로 스트리밍합니다.
+     *
+     * @param cursor 조회된 사용자 중 마지막 인덱스, 없으면 가장 최신 사용자부터 조회
+     * @param limit 조회할 사용자의 최대 갯수
+     * @return 사용자 정보 NDJSON 스트림
+     */
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<User> getAllUsers(@RequestParam(value = "cursor", required = false) Long cursor,
+                                  @RequestParam(value = "limit", defaultValue = "100") int limit) {
+        logger.info("UserReactiveController-getAllUsers-getAllUsers cursor : {}", cursor);
+        return userReactiveService.getAllUsers(cursor, limit);
+    }
+
+    /**
+     * 이메일이 주어진 문자열로 시작하는 사용자를 스트리밍합니다.
+     *
+     * @param email 검색할 이메일 접두어
+     * @param cursor 조회된 사용자 중 마지막 인덱스, 없으면 가장 최신 사용자부터 조회
+     * @param limit 조회할 사용자의 최대 갯수
+     * @return 사용자 정보 NDJSON 스트림
+     */
+    @GetMapping(value = "/search/email", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<User> getUsersByEmail(@RequestParam("email") String email,
+                                      @RequestParam(value = "cursor", required = false) Long cursor,
+                                      @RequestParam(value = "limit", defaultValue = "100") int limit) {
+        logger.info("UserReactiveController-getUsersByEmail-email : {}, cursor : {}", email, cursor);
+        return userReactiveService.getUsersByEmailStartWith(cursor, email, limit);
+    }
+
+    /**
+     * 이름이 주어진 문자열로 시작하는 사용자를 스트리밍합니다.
+     *
+     * @param name 검색할 이름 접두어
+     * @param cursor 조회된 사용자 중 마지막 인덱스, 없으면 가장 최신 사용자부터 조회
+     * @param limit 조회할 사용자의 최대 갯수
+     * @return 사용자 정보 NDJSON 스트림
+     */
+    @GetMapping(value = "/search/name", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<User> getUsersByName(@RequestParam("name") String name,
+                                     @RequestParam(value = "cursor", required = false) Long cursor,
+                                     @RequestParam(value = "limit", defaultValue = "100") int limit) {
+        logger.info("UserReactiveController-getUsersByName-name : {}, cursor : {}", name, cursor);
+        return userReactiveService.getUsersByNameStartWith(cursor, name, limit);
+    }
+}
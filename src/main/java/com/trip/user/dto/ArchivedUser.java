@@ -0,0 +1,25 @@
+package com.trip.user.dto;
+
+import com.trip.user.code.Status;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 보관 테이블로 옮겨진 삭제 사용자 정보
+ */
+@Getter
+@Builder
+public class ArchivedUser {
+    private Long idx;
+    private String email;
+    private String name;
+    private Status status;
+    private LocalDateTime createAt;
+    private LocalDateTime updateAt;
+    private String lastLoginIp;
+    private LocalDateTime lastLoginAt;
+    private int failedAttempts;
+    private LocalDateTime archivedAt;
+}
@@ -0,0 +1,35 @@
+package com.trip.user.dto;
+
+import com.trip.user.code.BatchResult;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+public class CreateUsers {
+    @Getter
+    public static class Req {
+        private List<CreateUser.Req> users;
+    }
+
+    @Getter
+    @Builder
+    public static class Res {
+        private List<Result> results;
+        private int createdCount;
+        private int failedCount;
+    }
+
+    /**
+     * 요청 순서(index)별 생성 결과
+     */
+    @Getter
+    @Builder
+    public static class Result {
+        private int index;
+        private String email;
+        private Long idx;
+        private BatchResult result;
+        private String message;
+    }
+}
@@ -2,6 +2,7 @@ package com.trip.user.dto;
 
 import lombok.Builder;
 import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
 
 import java.util.List;
 
@@ -10,7 +11,10 @@ public class GetAllUsers {
 
     @Getter
     @Builder
+    @Jacksonized
     public static class Res {
         private List<User> users;
+        private Long nextCursor;
+        private boolean hasNext;
     }
 }
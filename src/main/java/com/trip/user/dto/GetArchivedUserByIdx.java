@@ -0,0 +1,12 @@
+package com.trip.user.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+public class GetArchivedUserByIdx {
+    @Getter
+    @Builder
+    public static class Res {
+        private ArchivedUser user;
+    }
+}
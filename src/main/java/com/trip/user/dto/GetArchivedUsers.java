@@ -0,0 +1,14 @@
+package com.trip.user.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+public class GetArchivedUsers {
+    @Getter
+    @Builder
+    public static class Res {
+        private List<ArchivedUser> users;
+    }
+}
@@ -2,6 +2,7 @@ package com.trip.user.dto;
 
 import lombok.Builder;
 import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
 
 public class GetUserByIdx {
     @Getter
@@ -11,6 +12,7 @@ public class GetUserByIdx {
 
     @Getter
     @Builder
+    @Jacksonized
     public static class Res {
         private User user;
     }
@@ -0,0 +1,20 @@
+package com.trip.user.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+public class GetUsersByIdx {
+    @Getter
+    public static class Req {
+        private List<Long> idx;
+    }
+
+    @Getter
+    @Builder
+    public static class Res {
+        private List<User> users;
+        private List<Long> missingIdx;
+    }
+}
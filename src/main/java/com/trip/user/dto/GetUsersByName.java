@@ -15,5 +15,7 @@ public class GetUsersByName {
     @Builder
     public static class Res {
         private List<User> users;
+        private Long nextCursor;
+        private boolean hasNext;
     }
 }
@@ -0,0 +1,59 @@
+package com.trip.user.dto;
+
+import com.trip.user.code.ImportFormat;
+import com.trip.user.code.ImportState;
+import com.trip.user.importer.UserImportJob;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+public class ImportUsers {
+    @Getter
+    public static class Req {
+        private String path;
+        private boolean resume;
+    }
+
+    @Getter
+    @Builder
+    public static class Res {
+        private String jobId;
+        private String file;
+        private String rejectsFile;
+        private ImportFormat format;
+        private ImportState state;
+        private long totalBytes;
+        private long processedBytes;
+        private long readRows;
+        private long insertedRows;
+        private long rejectedRows;
+        private long rowsPerSecond;
+        private String message;
+        private LocalDateTime startedAt;
+        private LocalDateTime finishedAt;
+    }
+
+    public static Res fromJob(UserImportJob job) {
+        LocalDateTime until = job.getFinishedAt() == null ? LocalDateTime.now() : job.getFinishedAt();
+        long elapsedMillis = Math.max(1, Duration.between(job.getStartedAt(), until).toMillis());
+
+        return Res.builder()
+                .jobId(job.getId())
+                .file(job.getFile().toString())
+                .rejectsFile(job.getRejectsFile().toString())
+                .format(job.getFormat())
+                .state(job.getState())
+                .totalBytes(job.getTotalBytes())
+                .processedBytes(job.getProcessedBytes().get())
+                .readRows(job.getReadRows().get())
+                .insertedRows(job.getInsertedRows().get())
+                .rejectedRows(job.getRejectedRows().get())
+                .rowsPerSecond(job.getReadRows().get() * 1000 / elapsedMillis)
+                .message(job.getMessage())
+                .startedAt(job.getStartedAt())
+                .finishedAt(job.getFinishedAt())
+                .build();
+    }
+}
@@ -0,0 +1,25 @@
+package com.trip.user.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+public class PatchUser {
+    @Getter
+    public static class Req {
+        private String email;
+        private String name;
+    }
+
+    @Getter
+    @Builder
+    public static class Res {
+        private long updatedCount;
+    }
+
+    public static User ReqToUser(Req req) {
+        return User.builder()
+                .email(req.getEmail())
+                .name(req.getName())
+                .build();
+    }
+}
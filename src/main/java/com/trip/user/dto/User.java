@@ -1,16 +1,17 @@
 package com.trip.user.dto;
 
+import com.querydsl.core.annotations.QueryProjection;
 import com.trip.user.code.Status;
 import com.trip.user.entity.UserEntity;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
 
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
 
 @Getter
-@Builder
 public class User {
     private Long idx;
     private String email;
@@ -22,6 +23,26 @@ public class User {
     private String lastLoginIp;
     private LocalDateTime lastLoginAt;
     private int failedAttempts;
+    private Long version;
+
+    /**
+     * 조회 시 {@code QUser} 프로젝션으로 필요한 컬럼만 DTO에 바로 매핑합니다.
+     */
+    @Builder
+    @Jacksonized
+    @QueryProjection
+    public User(Long idx, String email, String name, Status status, LocalDateTime createAt, LocalDateTime updateAt, String lastLoginIp, LocalDateTime lastLoginAt, int failedAttempts, Long version) {
+        this.idx = idx;
+        this.email = email;
+        this.name = name;
+        this.status = status;
+        this.createAt = createAt;
+        this.updateAt = updateAt;
+        this.lastLoginIp = lastLoginIp;
+        this.lastLoginAt = lastLoginAt;
+        this.failedAttempts = failedAttempts;
+        this.version = version;
+    }
 
     public static User formEntity(UserEntity userEntity) {
         UserBuilder builder = User.builder();
@@ -32,7 +53,8 @@ public class User {
                 .updateAt(userEntity.getUpdatedAt())
                 .lastLoginIp(userEntity.getLastLoginIp())
                 .lastLoginAt(userEntity.getLastLoginAt())
-                .failedAttempts(userEntity.getFailedAttempts());
+                .failedAttempts(userEntity.getFailedAttempts())
+                .version(userEntity.getVersion());
 
         if (userEntity.getIdx() != null) {
             builder.idx(userEntity.getIdx());
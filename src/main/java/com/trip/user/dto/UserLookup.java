@@ -0,0 +1,17 @@
+package com.trip.user.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 여러 사용자 조회 결과
+ * 요청한 순서대로 찾은 사용자와 찾지 못한 사용자 인덱스를 담습니다.
+ */
+@Getter
+@Builder
+public class UserLookup {
+    private List<User> users;
+    private List<Long> missingIdx;
+}
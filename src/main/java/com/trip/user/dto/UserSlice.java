@@ -0,0 +1,37 @@
+package com.trip.user.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 커서 기반 페이지 조회 결과
+ * 페이지 크기보다 1건 더 조회한 결과로 다음 페이지 존재 여부를 판단합니다.
+ */
+@Getter
+@Builder
+public class UserSlice {
+    private List<User> users;
+    private Long nextCursor;
+    private boolean hasNext;
+
+    /**
+     * {@code pageSize + 1}건까지 조회된 사용자 목록으로 페이지를 생성합니다.
+     *
+     * @param fetchedUsers idx 내림차순으로 조회된 사용자 목록
+     * @param pageSize 한번에 조회할 사용자의 갯수
+     * @return 다음 커서와 다음 페이지 존재 여부를 포함하는 {@code UserSlice}
+     */
+    public static UserSlice of(List<User> fetchedUsers, int pageSize) {
+        boolean hasNext = fetchedUsers.size() > pageSize;
+        List<User> users = hasNext ? fetchedUsers.subList(0, pageSize) : fetchedUsers;
+        Long nextCursor = hasNext ? users.get(users.size() - 1).getIdx() : null;
+
+        return UserSlice.builder()
+                .users(users)
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
+    }
+}
@@ -11,10 +11,20 @@ import org.hibernate.annotations.UpdateTimestamp;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "users")
+@Table(name = "users", indexes = {
+        @Index(name = "idx_users_idx_desc_status", columnList = "idx DESC, status"),
+        @Index(name = "idx_users_name_idx", columnList = "name, idx"),
+        @Index(name = "idx_users_status_updated_at", columnList = "status, updated_at")
+})
 @Getter
 @NoArgsConstructor
 public class UserEntity {
+
+    /**
+     * 마지막 로그인 아이피 최대 길이 (IPv6 문자열 최대 길이)
+     */
+    public static final int LAST_LOGIN_IP_MAX_LENGTH = 45;
+
     /**
      * 인덱스
      */
@@ -67,7 +77,7 @@ public class UserEntity {
     /**
      * 마지막 로그인 아이피
      */
-    @Column(name = "last_login_ip", length = 16)
+    @Column(name = "last_login_ip", length = LAST_LOGIN_IP_MAX_LENGTH)
     private String lastLoginIp; //
 
     /**
@@ -83,6 +93,14 @@ public class UserEntity {
     @Column(name = "failed_attempts", nullable = false)
     private int failedAttempts = 0;
 
+    /**
+     * 행 버전
+     * 변경할 때마다 1씩 증가하며 ETag 와 If-Match 비교에 사용합니다.
+     */
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     @Builder
     public UserEntity(String email, String password, String name, Status status, LocalDateTime createdAt, LocalDateTime updatedAt, String lastLoginIp, LocalDateTime lastLoginAt, int failedAttempts) {
         this.email = email;
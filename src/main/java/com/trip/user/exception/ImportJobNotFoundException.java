@@ -0,0 +1,7 @@
+package com.trip.user.exception;
+
+public class ImportJobNotFoundException extends RuntimeException {
+    public ImportJobNotFoundException(String jobId) {
+        super("import job " + jobId + " not found");
+    }
+}
@@ -0,0 +1,7 @@
+package com.trip.user.exception;
+
+public class UserVersionMismatchException extends RuntimeException {
+    public UserVersionMismatchException(Long idx) {
+        super(idx.toString() + " has been modified");
+    }
+}
@@ -0,0 +1,499 @@
+package com.trip.user.importer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.trip.common.exception.PasswordHashingBusyException;
+import com.trip.common.password.PasswordHasher;
+import com.trip.kafka.KafkaEvent;
+import com.trip.kafka.KafkaProducer;
+import com.trip.kafka.code.KafkaActions;
+import com.trip.user.code.ImportFormat;
+import com.trip.user.dto.User;
+import com.trip.user.entity.UserEntity;
+import com.trip.user.exception.ImportJobNotFoundException;
+import com.trip.user.importer.UserImportParser.ImportReject;
+import com.trip.user.importer.UserImportParser.ImportRow;
+import com.trip.user.importer.UserImportParser.ParsedChunk;
+import com.trip.user.index.UserPrefixIndex;
+import com.trip.user.repository.UserBatchRepository;
+import com.trip.user.repository.UserInsertResult;
+import com.trip.user.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * CSV, NDJSON 파일에서 사용자를 대량으로 가져옵니다.
+ * <p>
+ * 읽기 스레드가 파일을 window 단위(줄 경계에서 자름)로 읽어 파싱 스레드 풀에 넘기고, 파싱 결과 future 를
+ * 파일 순서대로 제한된 큐에 넣습니다. 하나의 적재 스레드가 큐에서 순서대로 꺼내 JDBC 배치로 insert 하므로
+ * 파싱은 병렬로, DB 쓰기는 끊김 없이 진행되고 적재가 밀리면 큐가 차서 읽기가 멈춥니다.
+ * <p>
+ * 구간 적재가 끝날 때마다 거부된 행을 {@code <파일>.rejects}에 기록하고 다음 위치를 {@code <파일>.checkpoint}에 기록합니다.
+ * 체크포인트 기록 전에 중단되면 재개 시 일부 행이 다시 읽히지만 이미 존재하는 이메일로 거부됩니다.
+ * <p>
+ * 파일의 비밀번호는 평문으로 보고 파싱 스레드에서 큐에 넣기 전에 BCrypt 로 해시하며, 이미 BCrypt 형식인 값만 그대로 저장합니다.
+ * 해시 풀이 포화되면 행을 거부하지 않고 잠시 기다렸다가 다시 시도합니다.
+ */
+@Component
+public class UserFileImporter {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserFileImporter.class);
+    private static final CompletableFuture<ParsedChunk> END_OF_FILE = CompletableFuture.completedFuture(null);
+    // 해시 풀 포화 시 재시도 간격 (로그인 처리량을 위해 풀을 비워 줌)
+    private static final long HASH_RETRY_MIN_BACKOFF_MILLIS = 100;
+    private static final long HASH_RETRY_MAX_BACKOFF_MILLIS = 5_000;
+
+    private final UserRepository userRepository;
+    private final UserBatchRepository userBatchRepository;
+    private final UserPrefixIndex userPrefixIndex;
+    private final KafkaProducer kafkaProducer;
+    private final PasswordHasher passwordHasher;
+    private final ObjectMapper objectMapper;
+    private final Path baseDir;
+    private final int parseThreads;
+    private final int windowSize;
+    private final long mmapThreshold;
+    private final int queueCapacity;
+    private final int batchSize;
+
+    private final Map<String, UserImportJob> jobs = new ConcurrentHashMap<>();
+    private final AtomicReference<UserImportJob> runningJob = new AtomicReference<>();
+
+    public UserFileImporter(UserRepository userRepository,
+                            UserBatchRepository userBatchRepository,
+                            UserPrefixIndex userPrefixIndex,
+                            KafkaProducer kafkaProducer,
+                            PasswordHasher passwordHasher,
+                            ObjectMapper objectMapper,
+                            @Value("${member.import.base-dir:import}") String baseDir,
+                            @Value("${member.import.parse-threads:4}") int parseThreads,
+                            @Value("${member.import.window-size:4MB}") DataSize windowSize,
+                            @Value("${member.import.mmap-threshold:64MB}") DataSize mmapThreshold,
+                            @Value("${member.import.queue-capacity:8}") int queueCapacity,
+                            @Value("${member.import.batch-size:1000}") int batchSize) {
+        this.userRepository = userRepository;
+        this.userBatchRepository = userBatchRepository;
+        this.userPrefixIndex = userPrefixIndex;
+        this.kafkaProducer = kafkaProducer;
+        this.passwordHasher = passwordHasher;
+        this.objectMapper = objectMapper;
+        this.baseDir = Paths.get(baseDir).toAbsolutePath().normalize();
+        this.parseThreads = parseThreads;
+        this.windowSize = (int) windowSize.toBytes();
+        this.mmapThreshold = mmapThreshold.toBytes();
+        this.queueCapacity = queueCapacity;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * 가져오기 작업을 백그라운드로 시작합니다. 한 번에 하나의 작업만 실행합니다.
+     *
+     * @param path {@code member.import.base-dir} 기준 파일 경로
+     * @param resume 체크포인트 위치부터 이어서 가져올지 여부
+     * @return 시작된 작업
+     */
+    public UserImportJob start(String path, boolean resume) throws IOException {
+        Path file = baseDir.resolve(path).normalize();
+        if (!file.startsWith(baseDir) || !Files.isRegularFile(file)) {
+            throw new IllegalArgumentException("Import file not found : " + path);
+        }
+
+        ImportFormat format = ImportFormat.fromFileName(file.getFileName().toString());
+        Path checkpointFile = siblingOf(file, ".checkpoint");
+        Path rejectsFile = siblingOf(file, ".rejects");
+
+        UserImportJob job = new UserImportJob(UUID.randomUUID().toString(), file, rejectsFile, format,
+                Files.size(file), resume ? readCheckpoint(checkpointFile) : 0L);
+        if (!runningJob.compareAndSet(null, job)) {
+            throw new IllegalArgumentException("Another import is running : " + runningJob.get().getId());
+        }
+
+        if (!resume) {
+            Files.deleteIfExists(checkpointFile);
+            Files.deleteIfExists(rejectsFile);
+        }
+
+        jobs.put(job.getId(), job);
+        Thread.ofPlatform().name("user-import-read-" + job.getId()).start(() -> run(job, checkpointFile));
+        logger.info("UserFileImporter-start-Import {} started from offset {}", file, job.getStartOffset());
+        return job;
+    }
+
+    public UserImportJob getJob(String jobId) {
+        UserImportJob job = jobs.get(jobId);
+        if (job == null) {
+            throw new ImportJobNotFoundException(jobId);
+        }
+        return job;
+    }
+
+    private void run(UserImportJob job, Path checkpointFile) {
+        ExecutorService parsePool = Executors.newFixedThreadPool(parseThreads);
+        BlockingQueue<CompletableFuture<ParsedChunk>> queue = new ArrayBlockingQueue<>(queueCapacity);
+        Thread inserter = Thread.ofPlatform().name("user-import-insert-" + job.getId())
+                .start(() -> insertLoop(job, queue, checkpointFile));
+
+        try (FileChannel channel = FileChannel.open(job.getFile(), StandardOpenOption.READ)) {
+            long size = channel.size();
+            long position = job.getStartOffset();
+            List<String> header = List.of();
+
+            if (job.getFormat() == ImportFormat.CSV) {
+                ByteBuffer firstWindow = readWindow(channel, 0, (int) Math.min(windowSize, size));
+                int headerEnd = firstNewline(firstWindow) + 1;
+                if (headerEnd == 0 && size > windowSize) {
+                    throw new IOException("CSV header is longer than window size");
+                }
+                if (headerEnd == 0) {
+                    headerEnd = (int) size;
+                }
+                byte[] headerBytes = new byte[headerEnd];
+                firstWindow.get(0, headerBytes);
+                header = UserImportParser.parseHeader(new String(headerBytes, StandardCharsets.UTF_8).replace("\uFEFF", "").strip());
+                position = Math.max(position, headerEnd);
+            }
+
+            UserImportParser parser = new UserImportParser(job.getFormat(), header, objectMapper);
+            while (position < size && job.isRunning()) {
+                int length = (int) Math.min(windowSize, size - position);
+                ByteBuffer window = readWindow(channel, position, length);
+                if (position + length < size) {
+                    // 마지막 줄바꿈까지만 이번 구간으로 사용하고 나머지는 다음 window 에서 다시 읽음
+                    length = lastNewline(window) + 1;
+                    if (length == 0) {
+                        throw new IOException("Line at offset " + position + " is longer than window size");
+                    }
+                }
+
+                ByteBuffer chunk = window.slice(0, length);
+                long chunkStart = position;
+                CompletableFuture<ParsedChunk> parsed = CompletableFuture.supplyAsync(() -> {
+                    byte[] bytes = new byte[chunk.remaining()];
+                    chunk.get(bytes);
+                    return hashPasswords(job, parser.parse(chunkStart, bytes));
+                }, parsePool);
+
+                if (!enqueue(queue, parsed, job)) {
+                    break;
+                }
+                position += length;
+            }
+
+            enqueue(queue, END_OF_FILE, job);
+            inserter.join();
+            job.complete();
+            logger.info("UserFileImporter-run-Import {} finished, state {}, inserted {}, rejected {}",
+                    job.getFile(), job.getState(), job.getInsertedRows().get(), job.getRejectedRows().get());
+        } catch (IOException | RuntimeException e) {
+            logger.error("UserFileImporter-run-Import {} failed", job.getFile(), e);
+            job.fail(e.getMessage());
+            queue.clear();
+            queue.offer(END_OF_FILE);
+            // 적재 스레드는 작업 실패를 확인하고 멈추므로 끝날 때까지 기다린 뒤 파싱 풀을 정리
+            parsePool.shutdownNow();
+            awaitInserter(job, inserter);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            job.fail("interrupted");
+            inserter.interrupt();
+        } finally {
+            parsePool.shutdownNow();
+            runningJob.compareAndSet(job, null);
+        }
+    }
+
+    private void insertLoop(UserImportJob job, BlockingQueue<CompletableFuture<ParsedChunk>> queue, Path checkpointFile) {
+        try (BufferedWriter rejectsWriter = Files.newBufferedWriter(job.getRejectsFile(), StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            while (true) {
+                CompletableFuture<ParsedChunk> parsed = queue.take();
+                if (parsed == END_OF_FILE || !job.isRunning()) {
+                    return;
+                }
+
+                ParsedChunk chunk = awaitParsed(parsed, job);
+                if (chunk == null) {
+                    return;
+                }
+                List<ImportReject> rejects = new ArrayList<>(chunk.rejects());
+                for (int from = 0; from < chunk.rows().size(); from += batchSize) {
+                    insertBatch(job, chunk.rows().subList(from, Math.min(from + batchSize, chunk.rows().size())), rejects);
+                }
+
+                rejects.sort(Comparator.comparingLong(ImportReject::offset));
+                for (ImportReject reject : rejects) {
+                    rejectsWriter.write(reject.offset() + "\t" + reject.reason() + "\t" + reject.line());
+                    rejectsWriter.newLine();
+                }
+                rejectsWriter.flush();
+                writeCheckpoint(checkpointFile, chunk.endOffset());
+
+                job.getReadRows().addAndGet(chunk.rows().size() + chunk.rejects().size());
+                job.getRejectedRows().addAndGet(rejects.size());
+                job.getProcessedBytes().set(chunk.endOffset());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            job.fail("interrupted");
+        } catch (IOException | RuntimeException e) {
+            logger.error("UserFileImporter-insertLoop-Import {} failed", job.getFile(), e);
+            job.fail(e.getMessage());
+        }
+    }
+
+    // 작업이 실패하면 파싱 풀이 종료되어 끝나지 않는 future 가 있으므로 작업 상태를 확인하며 대기
+    private ParsedChunk awaitParsed(CompletableFuture<ParsedChunk> parsed, UserImportJob job) throws InterruptedException {
+        while (true) {
+            try {
+                return parsed.get(1, TimeUnit.SECONDS);
+            } catch (TimeoutException e) {
+                if (!job.isRunning()) {
+                    return null;
+                }
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof CancellationException) {
+                    return null;
+                }
+                throw new CompletionException(e.getCause());
+            } catch (CancellationException e) {
+                return null;
+            }
+        }
+    }
+
+    private void awaitInserter(UserImportJob job, Thread inserter) {
+        try {
+            inserter.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            inserter.interrupt();
+            logger.warn("UserFileImporter-awaitInserter-Interrupted while waiting for import {}", job.getId());
+        }
+    }
+
+    private void insertBatch(UserImportJob job, List<ImportRow> rows, List<ImportReject> rejects) {
+        Set<String> batchEmails = new HashSet<>();
+        List<ImportRow> candidates = new ArrayList<>(rows.size());
+        for (ImportRow row : rows) {
+            if (batchEmails.add(row.userEntity().getEmail())) {
+                candidates.add(row);
+            } else {
+                rejects.add(reject(row, "duplicated in file"));
+            }
+        }
+
+        // 앞선 배치가 이미 insert 되었으므로 파일 안의 중복도 여기서 걸러짐
+        Set<String> existingEmails = userRepository.findExistingEmails(batchEmails);
+        List<ImportRow> inserts = new ArrayList<>(candidates.size());
+        for (ImportRow row : candidates) {
+            if (existingEmails.contains(row.userEntity().getEmail())) {
+                rejects.add(reject(row, "email already exists"));
+            } else {
+                inserts.add(row);
+            }
+        }
+
+        // 배치가 실패하면 한 행씩 다시 insert 하므로 커밋된 행은 거부 파일에 기록하지 않음
+        List<UserEntity> userEntities = inserts.stream().map(ImportRow::userEntity).toList();
+        List<UserInsertResult> insertResults = userBatchRepository.insertAllOrEach(userEntities);
+
+        List<User> createdUsers = new ArrayList<>(userEntities.size());
+        for (int i = 0; i < userEntities.size(); i++) {
+            UserEntity userEntity = userEntities.get(i);
+            UserInsertResult insertResult = insertResults.get(i);
+            if (insertResult.failure() instanceof DuplicateKeyException) {
+                rejects.add(reject(inserts.get(i), "email already exists"));
+                continue;
+            }
+            if (!insertResult.isCreated()) {
+                String reason = "insert failed : " + insertResult.failure().getMostSpecificCause().getMessage();
+                logger.warn("UserFileImporter-insertBatch-Insert failed : {}", reason);
+                rejects.add(reject(inserts.get(i), reason));
+                continue;
+            }
+
+            createdUsers.add(User.builder()
+                    .idx(insertResult.idx())
+                    .email(userEntity.getEmail())
+                    .name(userEntity.getName())
+                    .status(userEntity.getStatus())
+                    .createAt(userEntity.getCreatedAt())
+                    .updateAt(userEntity.getUpdatedAt())
+                    .lastLoginIp(userEntity.getLastLoginIp())
+                    .lastLoginAt(userEntity.getLastLoginAt())
+                    .failedAttempts(userEntity.getFailedAttempts())
+                    .build());
+            userPrefixIndex.put(insertResult.idx(), userEntity.getEmail(), userEntity.getName());
+        }
+        job.getInsertedRows().addAndGet(createdUsers.size());
+
+        if (createdUsers.isEmpty()) {
+            return;
+        }
+
+        KafkaEvent kafkaEvent = KafkaEvent.builder()
+                .action(KafkaActions.CREATED)
+                .afterUsers(createdUsers)
+                .timestamp(LocalDateTime.now())
+                .build();
+
+        kafkaProducer.sendUserEvent(kafkaEvent);
+    }
+
+    // 평문 비밀번호만 모아 해시하고, 이미 BCrypt 형식인 값은 그대로 사용
+    private ParsedChunk hashPasswords(UserImportJob job, ParsedChunk chunk) {
+        List<String> plainPasswords = chunk.rows().stream()
+                .map(row -> row.userEntity().getPassword())
+                .filter(password -> !passwordHasher.isHashed(password))
+                .toList();
+        if (plainPasswords.isEmpty()) {
+            return chunk;
+        }
+
+        List<String> hashes = hashAll(job, plainPasswords);
+        List<ImportRow> rows = new ArrayList<>(chunk.rows().size());
+        int next = 0;
+        for (ImportRow row : chunk.rows()) {
+            UserEntity userEntity = row.userEntity();
+            if (passwordHasher.isHashed(userEntity.getPassword())) {
+                rows.add(row);
+                continue;
+            }
+
+            rows.add(new ImportRow(row.offset(), UserEntity.builder()
+                    .email(userEntity.getEmail())
+                    .password(hashes.get(next++))
+                    .name(userEntity.getName())
+                    .status(userEntity.getStatus())
+                    .createdAt(userEntity.getCreatedAt())
+                    .updatedAt(userEntity.getUpdatedAt())
+                    .lastLoginIp(userEntity.getLastLoginIp())
+                    .lastLoginAt(userEntity.getLastLoginAt())
+                    .failedAttempts(userEntity.getFailedAttempts())
+                    .build()));
+        }
+        return new ParsedChunk(chunk.endOffset(), rows, chunk.rejects());
+    }
+
+    // 해시 풀이 포화되면 간격을 늘려 가며 다시 시도, 작업이 멈추면 중단
+    private List<String> hashAll(UserImportJob job, List<String> plainPasswords) {
+        long backoffMillis = HASH_RETRY_MIN_BACKOFF_MILLIS;
+        while (true) {
+            try {
+                return passwordHasher.hashAll(plainPasswords);
+            } catch (PasswordHashingBusyException e) {
+                if (!job.isRunning()) {
+                    throw new CancellationException("import stopped");
+                }
+                logger.debug("UserFileImporter-hashAll-Password hashing busy, retry in {}ms", backoffMillis);
+                try {
+                    Thread.sleep(backoffMillis);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    throw new CancellationException("interrupted");
+                }
+                backoffMillis = Math.min(backoffMillis * 2, HASH_RETRY_MAX_BACKOFF_MILLIS);
+            }
+        }
+    }
+
+    // 큐가 가득 차면 적재가 따라올 때까지 대기, 작업이 실패하면 중단
+    private boolean enqueue(BlockingQueue<CompletableFuture<ParsedChunk>> queue,
+                            CompletableFuture<ParsedChunk> parsed, UserImportJob job) throws InterruptedException {
+        while (!queue.offer(parsed, 1, TimeUnit.SECONDS)) {
+            if (!job.isRunning()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // 큰 파일은 memory-mapped window 로, 작은 파일은 힙 버퍼로 읽음
+    private ByteBuffer readWindow(FileChannel channel, long position, int length) throws IOException {
+        if (channel.size() >= mmapThreshold) {
+            return channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                break;
+            }
+        }
+        return buffer.flip();
+    }
+
+    private int firstNewline(ByteBuffer window) {
+        for (int i = 0; i < window.limit(); i++) {
+            if (window.get(i) == '\n') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private int lastNewline(ByteBuffer window) {
+        for (int i = window.limit() - 1; i >= 0; i--) {
+            if (window.get(i) == '\n') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private long readCheckpoint(Path checkpointFile) throws IOException {
+        if (!Files.exists(checkpointFile)) {
+            return 0L;
+        }
+        return Long.parseLong(Files.readString(checkpointFile).strip());
+    }
+
+    // 임시 파일에 쓴 뒤 교체하여 중단되어도 체크포인트가 깨지지 않도록 함
+    private void writeCheckpoint(Path checkpointFile, long offset) throws IOException {
+        Path tempFile = siblingOf(checkpointFile, ".tmp");
+        Files.writeString(tempFile, Long.toString(offset));
+        Files.move(tempFile, checkpointFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private Path siblingOf(Path file, String suffix) {
+        return file.resolveSibling(file.getFileName() + suffix);
+    }
+
+    private ImportReject reject(ImportRow row, String reason) {
+        return new ImportReject(row.offset(), reason, row.userEntity().getEmail());
+    }
+}
@@ -0,0 +1,63 @@
+package com.trip.user.importer;
+
+import com.trip.user.code.ImportFormat;
+import com.trip.user.code.ImportState;
+import lombok.Getter;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 파일 가져오기 작업의 진행 상태
+ * 읽기, 적재 스레드가 갱신하고 상태 조회 API가 읽습니다.
+ */
+@Getter
+public class UserImportJob {
+
+    private final String id;
+    private final Path file;
+    private final Path rejectsFile;
+    private final ImportFormat format;
+    private final long totalBytes;
+    private final long startOffset;
+    private final LocalDateTime startedAt = LocalDateTime.now();
+
+    private final AtomicLong processedBytes;
+    private final AtomicLong readRows = new AtomicLong();
+    private final AtomicLong insertedRows = new AtomicLong();
+    private final AtomicLong rejectedRows = new AtomicLong();
+
+    private volatile ImportState state = ImportState.RUNNING;
+    private volatile LocalDateTime finishedAt;
+    private volatile String message;
+
+    UserImportJob(String id, Path file, Path rejectsFile, ImportFormat format, long totalBytes, long startOffset) {
+        this.id = id;
+        this.file = file;
+        this.rejectsFile = rejectsFile;
+        this.format = format;
+        this.totalBytes = totalBytes;
+        this.startOffset = startOffset;
+        this.processedBytes = new AtomicLong(startOffset);
+    }
+
+    boolean isRunning() {
+        return state == ImportState.RUNNING;
+    }
+
+    synchronized void complete() {
+        if (isRunning()) {
+            state = ImportState.COMPLETED;
+            finishedAt = LocalDateTime.now();
+        }
+    }
+
+    synchronized void fail(String message) {
+        if (isRunning()) {
+            this.message = message;
+            state = ImportState.FAILED;
+            finishedAt = LocalDateTime.now();
+        }
+    }
+}
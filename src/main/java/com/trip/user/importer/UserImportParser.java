@@ -0,0 +1,247 @@
+package com.trip.user.importer;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.trip.user.code.ImportFormat;
+import com.trip.user.code.Status;
+import com.trip.user.entity.UserEntity;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 파일의 한 구간(줄 단위로 잘린 바이트)을 사용자 행으로 변환하고 검증합니다.
+ * 컬럼 이름은 {@code db/h2/data.sql}의 users 컬럼과 같습니다. email, password, name 은 필수입니다.
+ * 상태를 갖지 않으므로 여러 파싱 스레드에서 동시에 사용할 수 있습니다.
+ */
+class UserImportParser {
+
+    private static final int EMAIL_MAX_LENGTH = 255;
+    private static final int PASSWORD_MAX_LENGTH = 255;
+    private static final int NAME_MAX_LENGTH = 100;
+
+    private final ImportFormat format;
+    private final List<String> header;
+    private final ObjectMapper objectMapper;
+
+    UserImportParser(ImportFormat format, List<String> header, ObjectMapper objectMapper) {
+        this.format = format;
+        this.header = header;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * CSV 헤더 줄을 컬럼 이름 목록으로 변환합니다.
+     */
+    static List<String> parseHeader(String line) {
+        List<String> header = splitCsv(line).stream()
+                .map(column -> column.trim().toLowerCase())
+                .toList();
+        if (!header.containsAll(List.of("email", "password", "name"))) {
+            throw new IllegalArgumentException("CSV header must contain email, password, name : " + line);
+        }
+        return header;
+    }
+
+    /**
+     * @param startOffset 파일에서 {@code bytes}가 시작하는 위치
+     * @param bytes 줄 경계로 잘린 파일 구간
+     * @return 변환된 행과 거부된 행
+     */
+    ParsedChunk parse(long startOffset, byte[] bytes) {
+        List<ImportRow> rows = new ArrayList<>();
+        List<ImportReject> rejects = new ArrayList<>();
+        LocalDateTime now = LocalDateTime.now();
+
+        int lineStart = 0;
+        for (int i = 0; i <= bytes.length; i++) {
+            if (i < bytes.length && bytes[i] != '\n') {
+                continue;
+            }
+
+            int lineEnd = i > lineStart && bytes[i - 1] == '\r' ? i - 1 : i;
+            if (lineEnd > lineStart) {
+                long offset = startOffset + lineStart;
+                String line = new String(bytes, lineStart, lineEnd - lineStart, StandardCharsets.UTF_8);
+                try {
+                    rows.add(new ImportRow(offset, toEntity(columns(line), now)));
+                } catch (IllegalArgumentException e) {
+                    rejects.add(new ImportReject(offset, e.getMessage(), line));
+                }
+            }
+            lineStart = i + 1;
+        }
+
+        return new ParsedChunk(startOffset + bytes.length, rows, rejects);
+    }
+
+    private Map<String, String> columns(String line) {
+        if (format == ImportFormat.NDJSON) {
+            try {
+                JsonNode node = objectMapper.readTree(line);
+                if (node == null || !node.isObject()) {
+                    throw new IllegalArgumentException("not a json object");
+                }
+
+                Map<String, String> columns = new HashMap<>();
+                node.fields().forEachRemaining(field ->
+                        columns.put(field.getKey().toLowerCase(), field.getValue().isNull() ? null : field.getValue().asText()));
+                return columns;
+            } catch (JsonProcessingException e) {
+                throw new IllegalArgumentException("malformed json");
+            }
+        }
+
+        List<String> values = splitCsv(line);
+        if (values.size() != header.size()) {
+            throw new IllegalArgumentException("expected " + header.size() + " columns but was " + values.size());
+        }
+
+        Map<String, String> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            columns.put(header.get(i), values.get(i));
+        }
+        return columns;
+    }
+
+    private UserEntity toEntity(Map<String, String> columns, LocalDateTime now) {
+        String email = required(columns, "email", EMAIL_MAX_LENGTH);
+        if (!email.contains("@")) {
+            throw new IllegalArgumentException("invalid email");
+        }
+
+        String lastLoginIp = optional(columns, "last_login_ip");
+        if (lastLoginIp != null && lastLoginIp.length() > UserEntity.LAST_LOGIN_IP_MAX_LENGTH) {
+            throw new IllegalArgumentException("last_login_ip is too long");
+        }
+
+        LocalDateTime createdAt = timestamp(columns, "created_at");
+        LocalDateTime updatedAt = timestamp(columns, "updated_at");
+        return UserEntity.builder()
+                .email(email)
+                .password(required(columns, "password", PASSWORD_MAX_LENGTH))
+                .name(required(columns, "name", NAME_MAX_LENGTH))
+                .status(status(columns))
+                .createdAt(createdAt == null ? now : createdAt)
+                .updatedAt(updatedAt == null ? now : updatedAt)
+                .lastLoginIp(lastLoginIp)
+                .lastLoginAt(timestamp(columns, "last_login_at"))
+                .failedAttempts(failedAttempts(columns))
+                .build();
+    }
+
+    private String required(Map<String, String> columns, String column, int maxLength) {
+        String value = optional(columns, column);
+        if (value == null) {
+            throw new IllegalArgumentException(column + " is required");
+        }
+        if (value.length() > maxLength) {
+            throw new IllegalArgumentException(column + " is too long");
+        }
+        return value;
+    }
+
+    private String optional(Map<String, String> columns, String column) {
+        String value = columns.get(column);
+        if (value == null || value.isBlank() || value.equalsIgnoreCase("null")) {
+            return null;
+        }
+        return value.trim();
+    }
+
+    private Status status(Map<String, String> columns) {
+        String value = optional(columns, "status");
+        if (value == null) {
+            return Status.ACTIVE;
+        }
+
+        try {
+            return Status.valueOf(value.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("invalid status " + value);
+        }
+    }
+
+    // data.sql 형식(yyyy-MM-dd HH:mm:ss)과 ISO-8601 형식을 모두 허용
+    private LocalDateTime timestamp(Map<String, String> columns, String column) {
+        String value = optional(columns, column);
+        if (value == null) {
+            return null;
+        }
+
+        try {
+            return LocalDateTime.parse(value.replace(' ', 'T'));
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("invalid " + column + " " + value);
+        }
+    }
+
+    private int failedAttempts(Map<String, String> columns) {
+        String value = optional(columns, "failed_attempts");
+        if (value == null) {
+            return 0;
+        }
+
+        try {
+            int failedAttempts = Integer.parseInt(value);
+            if (failedAttempts < 0) {
+                throw new NumberFormatException();
+            }
+            return failedAttempts;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("invalid failed_attempts " + value);
+        }
+    }
+
+    // RFC 4180 의 큰따옴표 규칙을 지원합니다. 필드 안의 줄바꿈은 지원하지 않습니다.
+    static List<String> splitCsv(String line) {
+        List<String> values = new ArrayList<>();
+        StringBuilder value = new StringBuilder();
+        boolean quoted = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    value.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    value.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(value.toString());
+                value.setLength(0);
+            } else {
+                value.append(c);
+            }
+        }
+
+        if (quoted) {
+            throw new IllegalArgumentException("unclosed quote");
+        }
+        values.add(value.toString());
+        return values;
+    }
+
+    record ImportRow(long offset, UserEntity userEntity) {
+    }
+
+    record ImportReject(long offset, String reason, String line) {
+    }
+
+    /**
+     * @param endOffset 이 구간 다음 줄이 시작하는 위치, 처리 완료 후 체크포인트로 기록
+     */
+    record ParsedChunk(long endOffset, List<ImportRow> rows, List<ImportReject> rejects) {
+    }
+}
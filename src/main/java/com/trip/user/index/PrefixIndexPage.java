@@ -0,0 +1,124 @@
+package com.trip.user.index;
+
+import com.trip.user.dto.User;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 접두어 색인으로 한 페이지를 채우는 진행 상태
+ * 색인에서 남은 건수만큼 idx 후보를 읽고, 조회한 사용자 중 값이 아직 접두어로 시작하는 사용자만 남깁니다.
+ * 색인이 아직 반영하지 못한 탈퇴, 이메일, 이름 변경으로 빠진 만큼 다음 구간을 이어서 읽어
+ * 다음 페이지가 있는데도 짧은 페이지를 돌려주지 않도록 하고, 몇 번 이어서도 채우지 못하면 호출자가 SQL 로 나머지를 조회합니다.
+ * 동기 저장소와 리액티브 서비스가 같은 규칙을 쓰도록 사용자 조회만 호출자에게 맡기며, 한 요청 안에서만 사용합니다.
+ *
+ * <pre>
+ * while (page.hasNext()) {
+ *     page.accept(findUsersByIdxIn(page.nextCandidates()));
+ * }
+ * if (page.needsFallback()) {
+ *     findBySql(page.cursor(), page.remaining());
+ * }
+ * </pre>
+ */
+public final class PrefixIndexPage {
+
+    // 접두어 색인 조회 결과가 모자랄 때 색인을 이어서 조회하는 최대 횟수
+    static final int REFILL_ROUNDS = 3;
+
+    private final IndexFinder indexFinder;
+    private final Function<User, String> field;
+    private final String prefix;
+    private final int limit;
+
+    private Long cursor;
+    private int found;
+    private int round;
+    private int requested;
+    private List<Long> candidates = List.of();
+    private boolean exhausted;
+
+    /**
+     * @param indexFinder 색인 조회 ({@link UserPrefixIndex#findByEmailPrefix}, {@link UserPrefixIndex#findByNamePrefix})
+     * @param field 접두어와 비교할 사용자 값
+     * @param prefix 검색 접두어
+     * @param cursor 이전 페이지의 마지막 idx, 첫 페이지는 null
+     * @param limit 페이지 크기
+     */
+    public PrefixIndexPage(IndexFinder indexFinder, Function<User, String> field, String prefix, Long cursor, int limit) {
+        this.indexFinder = indexFinder;
+        this.field = field;
+        this.prefix = prefix;
+        this.cursor = cursor;
+        this.limit = limit;
+    }
+
+    /**
+     * 색인을 더 읽어야 하는지 확인합니다.
+     *
+     * @return 페이지가 차지 않았고 색인이 끝나지 않았으며 이어서 읽을 횟수가 남아 있으면 {@code true}
+     */
+    public boolean hasNext() {
+        return !exhausted && found < limit && round < REFILL_ROUNDS;
+    }
+
+    /**
+     * 색인에서 남은 건수만큼 다음 idx 후보를 읽습니다.
+     *
+     * @return idx 내림차순 후보
+     */
+    public List<Long> nextCandidates() {
+        requested = remaining();
+        candidates = indexFinder.find(prefix, cursor, requested);
+        round++;
+        return candidates;
+    }
+
+    /**
+     * 후보로 조회한 사용자 중 값이 접두어로 시작하는 사용자만 남기고 다음 구간의 커서를 옮깁니다.
+     *
+     * @param users {@link #nextCandidates()}로 조회한 사용자
+     * @return 페이지에 담을 사용자
+     */
+    public List<User> accept(List<User> users) {
+        List<User> matched = new ArrayList<>(users.size());
+        for (User user : users) {
+            String value = field.apply(user);
+            if (value != null && value.startsWith(prefix)) {
+                matched.add(user);
+            }
+        }
+        found += matched.size();
+
+        // 요청한 건수보다 적게 나오면 색인에 더 읽을 후보가 없음
+        if (candidates.size() < requested) {
+            exhausted = true;
+        } else {
+            cursor = candidates.getLast();
+        }
+        return matched;
+    }
+
+    /**
+     * 이어서 읽을 횟수를 다 쓰고도 페이지를 채우지 못해 SQL 로 나머지를 조회해야 하는지 확인합니다.
+     *
+     * @return {@link #cursor()} 다음부터 {@link #remaining()}건을 SQL 로 조회해야 하면 {@code true}
+     */
+    public boolean needsFallback() {
+        return !exhausted && found < limit;
+    }
+
+    public Long cursor() {
+        return cursor;
+    }
+
+    public int remaining() {
+        return limit - found;
+    }
+
+    @FunctionalInterface
+    public interface IndexFinder {
+        List<Long> find(String prefix, Long cursor, int limit);
+    }
+}
@@ -0,0 +1,7 @@
+package com.trip.user.index;
+
+/**
+ * 접두어 색인 적재용 사용자 정보 (idx, 이메일, 이름)
+ */
+public record UserIndexEntry(Long idx, String email, String name) {
+}
@@ -0,0 +1,261 @@
+package com.trip.user.index;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * 삭제되지 않은 사용자의 이메일, 이름 접두어 검색용 메모리 색인
+ * 짧은 접두어는 접두어별 idx 내림차순 목록을 유지하고, 긴 접두어는 정렬된 값 범위를 조회합니다.
+ * 시작 시 {@link UserPrefixIndexLoader}가 적재를 마치기 전까지는 {@link #canServe(String)}가 false 이며
+ * 저장소는 SQL 조회를 사용합니다.
+ */
+@Component
+public class UserPrefixIndex {
+
+    private final boolean enabled;
+    private final PrefixField emailField;
+    private final PrefixField nameField;
+
+    private final ConcurrentHashMap<Long, UserIndexEntry> entries = new ConcurrentHashMap<>();
+    // 적재 중 변경된 사용자는 적재 데이터로 덮어쓰지 않음
+    private final Set<Long> touchedWhileWarming = ConcurrentHashMap.newKeySet();
+    private volatile boolean ready;
+
+    public UserPrefixIndex(@Value("${member.index.prefix.enabled:false}") boolean enabled,
+                           @Value("${member.index.prefix.posting-depth:3}") int postingDepth) {
+        this.enabled = enabled;
+        this.emailField = new PrefixField(postingDepth);
+        this.nameField = new PrefixField(postingDepth);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * 색인으로 조회 가능한지 확인합니다. 빈 접두어는 전체 조회와 같으므로 SQL을 사용합니다.
+     *
+     * @param prefix 검색 접두어
+     * @return 색인 조회 가능 여부
+     */
+    public boolean canServe(String prefix) {
+        return ready && prefix != null && !prefix.isEmpty();
+    }
+
+    public List<Long> findByEmailPrefix(String prefix, Long cursor, int limit) {
+        return emailField.find(prefix, cursor, limit);
+    }
+
+    public List<Long> findByNamePrefix(String prefix, Long cursor, int limit) {
+        return nameField.find(prefix, cursor, limit);
+    }
+
+    /**
+     * 사용자를 추가하거나 이메일, 이름 변경을 반영합니다.
+     *
+     * @param idx 사용자 고유 식별자 정보
+     * @param email 이메일
+     * @param name 이름
+     */
+    public void put(Long idx, String email, String name) {
+        if (!enabled || idx == null) {
+            return;
+        }
+
+        entries.compute(idx, (key, previous) -> {
+            touch(key);
+            if (previous != null) {
+                removeValues(previous);
+            }
+            UserIndexEntry entry = new UserIndexEntry(key, email, name);
+            addValues(entry);
+            return entry;
+        });
+    }
+
+    /**
+     * 색인에 있는 사용자의 이메일, 이름 중 변경된 값만 반영합니다.
+     *
+     * @param idx 사용자 고유 식별자 정보
+     * @param email 변경된 이메일, 변경하지 않았으면 null
+     * @param name 변경된 이름, 변경하지 않았으면 null
+     * @return 색인에 있던 사용자이면 {@code true}
+     */
+    public boolean patch(Long idx, String email, String name) {
+        if (!enabled || idx == null) {
+            return false;
+        }
+
+        return entries.computeIfPresent(idx, (key, previous) -> {
+            touch(key);
+            removeValues(previous);
+            UserIndexEntry entry = new UserIndexEntry(key,
+                    email == null ? previous.email() : email,
+                    name == null ? previous.name() : name);
+            addValues(entry);
+            return entry;
+        }) != null;
+    }
+
+    /**
+     * 삭제된 사용자를 색인에서 제거합니다.
+     *
+     * @param idx 사용자 고유 식별자 정보
+     */
+    public void remove(Long idx) {
+        if (!enabled || idx == null) {
+            return;
+        }
+
+        entries.compute(idx, (key, previous) -> {
+            touch(key);
+            if (previous != null) {
+                removeValues(previous);
+            }
+            return null;
+        });
+    }
+
+    /**
+     * 시작 시 일괄 적재합니다. 적재 중 변경된 사용자는 건너뜁니다.
+     *
+     * @param loadedEntries DB에서 조회한 사용자 목록
+     */
+    void load(Collection<UserIndexEntry> loadedEntries) {
+        for (UserIndexEntry loaded : loadedEntries) {
+            entries.compute(loaded.idx(), (key, current) -> {
+                if (current != null || touchedWhileWarming.contains(key)) {
+                    return current;
+                }
+                addValues(loaded);
+                return loaded;
+            });
+        }
+    }
+
+    void markReady() {
+        ready = true;
+        touchedWhileWarming.clear();
+    }
+
+    private void touch(Long idx) {
+        if (!ready) {
+            touchedWhileWarming.add(idx);
+        }
+    }
+
+    private void addValues(UserIndexEntry entry) {
+        emailField.add(entry.email(), entry.idx());
+        nameField.add(entry.name(), entry.idx());
+    }
+
+    private void removeValues(UserIndexEntry entry) {
+        emailField.remove(entry.email(), entry.idx());
+        nameField.remove(entry.name(), entry.idx());
+    }
+
+    private static final class PrefixField {
+
+        private static final Comparator<ValueKey> VALUE_ORDER = Comparator.comparing(ValueKey::value)
+                .thenComparing(ValueKey::idx, Comparator.reverseOrder());
+
+        private final int postingDepth;
+        // 길이 postingDepth 이하 접두어 -> idx 내림차순 집합
+        private final ConcurrentHashMap<String, ConcurrentSkipListSet<Long>> postings = new ConcurrentHashMap<>();
+        // (값, idx) 정렬 집합, 긴 접두어 범위 조회용
+        private final ConcurrentSkipListSet<ValueKey> sortedValues = new ConcurrentSkipListSet<>(VALUE_ORDER);
+
+        private PrefixField(int postingDepth) {
+            this.postingDepth = postingDepth;
+        }
+
+        private void add(String value, Long idx) {
+            if (value == null) {
+                return;
+            }
+
+            sortedValues.add(new ValueKey(value, idx));
+            for (int length = 1; length <= Math.min(postingDepth, value.length()); length++) {
+                postings.compute(value.substring(0, length), (key, set) -> {
+                    ConcurrentSkipListSet<Long> posting = set == null ? new ConcurrentSkipListSet<>(Comparator.reverseOrder()) : set;
+                    posting.add(idx);
+                    return posting;
+                });
+            }
+        }
+
+        private void remove(String value, Long idx) {
+            if (value == null) {
+                return;
+            }
+
+            sortedValues.remove(new ValueKey(value, idx));
+            for (int length = 1; length <= Math.min(postingDepth, value.length()); length++) {
+                postings.computeIfPresent(value.substring(0, length), (key, set) -> {
+                    set.remove(idx);
+                    return set.isEmpty() ? null : set;
+                });
+            }
+        }
+
+        private List<Long> find(String prefix, Long cursor, int limit) {
+            if (prefix.length() <= postingDepth) {
+                ConcurrentSkipListSet<Long> posting = postings.get(prefix);
+                if (posting == null) {
+                    return List.of();
+                }
+
+                NavigableSet<Long> page = cursor == null ? posting : posting.tailSet(cursor, false);
+                List<Long> result = new ArrayList<>(limit);
+                for (Long idx : page) {
+                    if (result.size() == limit) {
+                        break;
+                    }
+                    result.add(idx);
+                }
+                return result;
+            }
+
+            // 긴 접두어는 일치하는 값이 적으므로 범위를 훑으며 상위 limit 건만 유지
+            NavigableSet<ValueKey> matches = sortedValues.subSet(
+                    new ValueKey(prefix, Long.MAX_VALUE), true,
+                    new ValueKey(prefix + Character.MAX_VALUE, Long.MAX_VALUE), false);
+
+            PriorityQueue<Long> topIdx = new PriorityQueue<>(limit + 1);
+            for (ValueKey match : matches) {
+                if (cursor != null && match.idx() >= cursor) {
+                    continue;
+                }
+                topIdx.offer(match.idx());
+                if (topIdx.size() > limit) {
+                    topIdx.poll();
+                }
+            }
+
+            List<Long> result = new ArrayList<>(topIdx);
+            result.sort(Comparator.reverseOrder());
+            return result;
+        }
+    }
+
+    private record ValueKey(String value, Long idx) {
+    }
+}
@@ -0,0 +1,100 @@
+package com.trip.user.index;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.trip.kafka.code.KafkaActions;
+import com.trip.kafka.code.KafkaTopics;
+import com.trip.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 회원 이벤트 스트림의 생성, 변경, 탈퇴를 {@link UserPrefixIndex}에 반영합니다.
+ * 색인은 노드마다 따로 유지하므로 다른 노드의 변경(대량 생성, 가져오기 포함)도 이 경로로 반영되며,
+ * 모든 노드가 모든 이벤트를 받도록 노드마다 다른 consumer group 을 사용합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserPrefixIndexEventListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserPrefixIndexEventListener.class);
+
+    private final UserPrefixIndex userPrefixIndex;
+    private final UserRepository userRepository;
+    private final ObjectMapper objectMapper;
+
+    @KafkaListener(topics = KafkaTopics.MEMBER_EVENTS,
+            groupId = "${member.index.prefix.consumer-group:member-index-${member.instance-id}}",
+            autoStartup = "${member.index.prefix.enabled:false}")
+    public void consumeMessage(String message) {
+        JsonNode event;
+        try {
+            event = objectMapper.readTree(message);
+        } catch (JsonProcessingException e) {
+            logger.warn("UserPrefixIndexEventListener-consumeMessage-Invalid message : {}", e.getMessage());
+            return;
+        }
+
+        KafkaActions action;
+        try {
+            action = KafkaActions.valueOf(event.path("action").asText());
+        } catch (IllegalArgumentException e) {
+            return;
+        }
+
+        switch (action) {
+            case CREATED -> {
+                put(event.path("afterUser"));
+                event.path("afterUsers").forEach(this::put);
+            }
+            case UPDATED -> patch(event.path("afterUser"));
+            case DELETED -> {
+                JsonNode idx = event.path("beforeUser").path("idx");
+                if (idx.canConvertToLong()) {
+                    userPrefixIndex.remove(idx.asLong());
+                }
+            }
+            default -> {
+                // 조회, 인증 이벤트는 색인과 관계없음
+            }
+        }
+    }
+
+    private void put(JsonNode user) {
+        JsonNode idx = user.path("idx");
+        if (idx.canConvertToLong()) {
+            userPrefixIndex.put(idx.asLong(), textOrNull(user, "email"), textOrNull(user, "name"));
+        }
+    }
+
+    // 부분 변경 이벤트는 바뀐 값만 담기므로 색인에 없는 사용자는 DB 에서 현재 값을 읽어 추가
+    private void patch(JsonNode user) {
+        JsonNode idx = user.path("idx");
+        if (!idx.canConvertToLong()) {
+            return;
+        }
+
+        String email = textOrNull(user, "email");
+        String name = textOrNull(user, "name");
+        if (userPrefixIndex.patch(idx.asLong(), email, name)) {
+            return;
+        }
+
+        if (email != null && name != null) {
+            userPrefixIndex.put(idx.asLong(), email, name);
+            return;
+        }
+
+        userRepository.findIndexEntries(idx.asLong(), idx.asLong() + 1)
+                .forEach(entry -> userPrefixIndex.put(entry.idx(), entry.email(), entry.name()));
+    }
+
+    private String textOrNull(JsonNode user, String field) {
+        JsonNode value = user.path(field);
+        return value.isTextual() ? value.asText() : null;
+    }
+}
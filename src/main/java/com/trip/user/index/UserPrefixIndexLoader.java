@@ -0,0 +1,72 @@
+package com.trip.user.index;
+
+import com.trip.user.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 시작 시 삭제되지 않은 사용자를 idx 구간별로 나누어 병렬로 조회하고 {@link UserPrefixIndex}에 적재합니다.
+ * 적재는 백그라운드에서 진행되며, 완료 전까지 접두어 검색은 SQL을 사용합니다.
+ */
+@Component
+public class UserPrefixIndexLoader implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserPrefixIndexLoader.class);
+
+    private final UserPrefixIndex userPrefixIndex;
+    private final UserRepository userRepository;
+    private final int loadThreads;
+    private final int chunkSize;
+
+    public UserPrefixIndexLoader(UserPrefixIndex userPrefixIndex,
+                                 UserRepository userRepository,
+                                 @Value("${member.index.prefix.load-threads:4}") int loadThreads,
+                                 @Value("${member.index.prefix.load-chunk-size:50000}") int chunkSize) {
+        this.userPrefixIndex = userPrefixIndex;
+        this.userRepository = userRepository;
+        this.loadThreads = loadThreads;
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!userPrefixIndex.isEnabled()) {
+            return;
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(loadThreads);
+        long startedAt = System.currentTimeMillis();
+        Long maxIdx = userRepository.findMaxIdx();
+
+        List<CompletableFuture<Void>> chunks = new ArrayList<>();
+        for (long fromIdx = 1; maxIdx != null && fromIdx <= maxIdx; fromIdx += chunkSize) {
+            long from = fromIdx;
+            long to = fromIdx + chunkSize;
+            chunks.add(CompletableFuture.runAsync(
+                    () -> userPrefixIndex.load(userRepository.findIndexEntries(from, to)), executor));
+        }
+
+        CompletableFuture.allOf(chunks.toArray(CompletableFuture[]::new))
+                .whenComplete((result, e) -> {
+                    executor.shutdown();
+                    if (e != null) {
+                        logger.error("UserPrefixIndexLoader-run-Prefix index load failed, keep using SQL", e);
+                        return;
+                    }
+
+                    userPrefixIndex.markReady();
+                    logger.info("UserPrefixIndexLoader-run-Loaded {} users in {} ms",
+                            userPrefixIndex.size(), System.currentTimeMillis() - startedAt);
+                });
+    }
+}
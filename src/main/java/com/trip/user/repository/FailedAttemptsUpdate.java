@@ -0,0 +1,8 @@
+package com.trip.user.repository;
+
+/**
+ * 로그인 실패 횟수 반영 정보
+ * reset 이면 0 으로 되돌린 뒤 failures 를 더하고, 아니면 기존 값에 failures 를 더합니다.
+ */
+public record FailedAttemptsUpdate(Long idx, boolean reset, int failures) {
+}
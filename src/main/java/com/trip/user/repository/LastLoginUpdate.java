@@ -0,0 +1,10 @@
+package com.trip.user.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 마지막 로그인 정보 반영 정보
+ * 저장된 로그인 시각보다 최신인 경우에만 반영합니다.
+ */
+public record LastLoginUpdate(Long idx, String ip, LocalDateTime loginAt) {
+}
@@ -0,0 +1,134 @@
+package com.trip.user.repository;
+
+import com.trip.user.code.Status;
+import com.trip.user.dto.User;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import io.r2dbc.spi.Readable;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+/**
+ * 리액티브 조회 API 용 R2DBC 저장소
+ * {@code ConnectionFactory}를 빈으로 등록하면 Spring Boot 가 JDBC DataSource 자동 설정을 건너뛰므로
+ * 커넥션 풀은 이 저장소 안에서만 만들고 종료 시 정리합니다.
+ */
+@Repository
+public class ReactiveUserRepository {
+
+    private static final String SELECT_USER = """
+            SELECT idx, email, name, status, created_at, updated_at, last_login_ip, last_login_at, failed_attempts, version
+            FROM users
+            WHERE status <> 'DELETED'
+            """;
+
+    private final ConnectionPool connectionPool;
+    private final DatabaseClient databaseClient;
+
+    public ReactiveUserRepository(@Value("${member.reactive.r2dbc.url}") String url,
+                                  @Value("${member.reactive.r2dbc.username:sa}") String username,
+                                  @Value("${member.reactive.r2dbc.password:}") String password,
+                                  @Value("${member.reactive.r2dbc.pool.initial-size:4}") int initialSize,
+                                  @Value("${member.reactive.r2dbc.pool.max-size:20}") int maxSize) {
+        ConnectionFactory connectionFactory = ConnectionFactories.get(ConnectionFactoryOptions.parse(url).mutate()
+                .option(ConnectionFactoryOptions.USER, username)
+                .option(ConnectionFactoryOptions.PASSWORD, password)
+                .build());
+
+        this.connectionPool = new ConnectionPool(ConnectionPoolConfiguration.builder(connectionFactory)
+                .initialSize(initialSize)
+                .maxSize(maxSize)
+                .build());
+        this.databaseClient = DatabaseClient.create(connectionPool);
+    }
+
+    @PreDestroy
+    public void close() {
+        connectionPool.dispose();
+    }
+
+    public Mono<User> findUserByIdx(Long idx) {
+        return databaseClient.sql(SELECT_USER + "AND idx = :idx")
+                .bind("idx", idx)
+                .map(this::toUser)
+                .one();
+    }
+
+    public Flux<User> findAllUsersByOrderByIdxDesc(Long cursor, int limit) {
+        return findPage(null, null, cursor, limit);
+    }
+
+    public Flux<User> findUsersByEmailStartsWith(Long cursor, String email, int limit) {
+        return findPage("email", email, cursor, limit);
+    }
+
+    public Flux<User> findUsersByNameStartsWith(Long cursor, String name, int limit) {
+        return findPage("name", name, cursor, limit);
+    }
+
+    public Flux<User> findUsersByIdxIn(Collection<Long> idxList) {
+        if (idxList.isEmpty()) {
+            return Flux.empty();
+        }
+
+        return databaseClient.sql(SELECT_USER + "AND idx IN (:idxList) ORDER BY idx DESC")
+                .bind("idxList", idxList)
+                .map(this::toUser)
+                .all();
+    }
+
+    // column 이 null 이면 접두어 조건 없이 전체 목록을 조회
+    private Flux<User> findPage(String column, String prefix, Long cursor, int limit) {
+        StringBuilder sql = new StringBuilder(SELECT_USER);
+        if (column != null) {
+            sql.append("AND ").append(column).append(" LIKE :prefix ESCAPE '\\' ");
+        }
+        if (cursor != null) {
+            sql.append("AND idx < :cursor ");
+        }
+        sql.append("ORDER BY idx DESC LIMIT :limit");
+
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(sql.toString()).bind("limit", limit);
+        if (column != null) {
+            spec = spec.bind("prefix", escapeLike(prefix) + "%");
+        }
+        if (cursor != null) {
+            spec = spec.bind("cursor", cursor);
+        }
+        return spec.map(this::toUser).all();
+    }
+
+    private String escapeLike(String value) {
+        return value.replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+    }
+
+    private User toUser(Readable row) {
+        String status = row.get("status", String.class);
+        Integer failedAttempts = row.get("failed_attempts", Integer.class);
+
+        return User.builder()
+                .idx(row.get("idx", Long.class))
+                .email(row.get("email", String.class))
+                .name(row.get("name", String.class))
+                .status(status == null ? null : Status.valueOf(status))
+                .createAt(row.get("created_at", LocalDateTime.class))
+                .updateAt(row.get("updated_at", LocalDateTime.class))
+                .lastLoginIp(row.get("last_login_ip", String.class))
+                .lastLoginAt(row.get("last_login_at", LocalDateTime.class))
+                .failedAttempts(failedAttempts == null ? 0 : failedAttempts)
+                .version(row.get("version", Long.class))
+                .build();
+    }
+}
@@ -0,0 +1,94 @@
+package com.trip.user.repository;
+
+import com.trip.user.code.Status;
+import com.trip.user.dto.ArchivedUser;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 삭제 사용자 보관 테이블({@code users_archive}) 저장소
+ */
+@Repository
+@RequiredArgsConstructor
+public class UserArchiveRepository {
+
+    private static final String SELECT_ARCHIVED = """
+            SELECT idx, email, name, status, created_at, updated_at, last_login_ip, last_login_at, failed_attempts, archived_at
+            FROM users_archive
+            """;
+
+    private static final RowMapper<ArchivedUser> ARCHIVED_USER_ROW_MAPPER = (rs, rowNum) -> ArchivedUser.builder()
+            .idx(rs.getLong("idx"))
+            .email(rs.getString("email"))
+            .name(rs.getString("name"))
+            .status(Status.valueOf(rs.getString("status")))
+            .createAt(toLocalDateTime(rs.getTimestamp("created_at")))
+            .updateAt(toLocalDateTime(rs.getTimestamp("updated_at")))
+            .lastLoginIp(rs.getString("last_login_ip"))
+            .lastLoginAt(toLocalDateTime(rs.getTimestamp("last_login_at")))
+            .failedAttempts(rs.getInt("failed_attempts"))
+            .archivedAt(toLocalDateTime(rs.getTimestamp("archived_at")))
+            .build();
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * {@code deletedBefore} 이전에 삭제된 사용자를 최대 {@code limit} 건 보관 테이블로 옮기고 users 에서 지웁니다.
+     * 한 묶음을 하나의 트랜잭션으로 처리합니다.
+     *
+     * @param deletedBefore 삭제 시각(updated_at) 기준
+     * @param limit 한 번에 옮길 최대 건수
+     * @return 옮긴 사용자 인덱스 목록
+     */
+    @Transactional
+    public List<Long> moveDeletedUsers(LocalDateTime deletedBefore, int limit) {
+        List<Long> idxList = jdbcTemplate.queryForList("""
+                        SELECT idx FROM users
+                        WHERE status = ? AND updated_at < ?
+                        ORDER BY idx
+                        LIMIT ?
+                        """, Long.class,
+                Status.DELETED.name(), Timestamp.valueOf(deletedBefore), limit);
+        if (idxList.isEmpty()) {
+            return idxList;
+        }
+
+        String placeholders = String.join(",", Collections.nCopies(idxList.size(), "?"));
+        List<Object> args = new ArrayList<>(idxList.size() + 1);
+        args.add(Status.DELETED.name());
+        args.addAll(idxList);
+
+        jdbcTemplate.update("""
+                INSERT INTO users_archive (idx, email, name, status, created_at, updated_at, last_login_ip, last_login_at, failed_attempts, archived_at)
+                SELECT idx, email, name, status, created_at, updated_at, last_login_ip, last_login_at, failed_attempts, CURRENT_TIMESTAMP
+                FROM users
+                WHERE status = ? AND idx IN (%s)
+                """.formatted(placeholders), args.toArray());
+        jdbcTemplate.update("DELETE FROM users WHERE status = ? AND idx IN (%s)".formatted(placeholders), args.toArray());
+        return idxList;
+    }
+
+    public Optional<ArchivedUser> findByIdx(Long idx) {
+        return jdbcTemplate.query(SELECT_ARCHIVED + "WHERE idx = ?", ARCHIVED_USER_ROW_MAPPER, idx)
+                .stream()
+                .findFirst();
+    }
+
+    public List<ArchivedUser> findByEmail(String email) {
+        return jdbcTemplate.query(SELECT_ARCHIVED + "WHERE email = ? ORDER BY idx DESC", ARCHIVED_USER_ROW_MAPPER, email);
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp == null ? null : timestamp.toLocalDateTime();
+    }
+}
@@ -0,0 +1,172 @@
+package com.trip.user.repository;
+
+import com.trip.user.entity.UserEntity;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 대량 생성용 JDBC 배치 저장소
+ * {@code UserEntity}는 {@code GenerationType.IDENTITY}를 사용하여 Hibernate 배치 insert가 동작하지 않으므로
+ * PreparedStatement 배치로 직접 insert 합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class UserBatchRepository {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserBatchRepository.class);
+
+    private static final String INSERT_SQL = """
+            INSERT INTO users (email, password, name, status, created_at, updated_at, last_login_ip, last_login_at, failed_attempts)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    // failed_attempts 는 사용자 조회 응답에 포함되므로 ETag 가 바뀌도록 버전도 올림
+    private static final String UPDATE_FAILED_ATTEMPTS_SQL = """
+            UPDATE users SET failed_attempts = ? + CASE WHEN ? THEN 0 ELSE failed_attempts END, version = version + 1
+            WHERE idx = ?
+            """;
+
+    // 여러 노드가 같은 사용자를 반영할 때 늦게 도착한 이전 로그인이 덮어쓰지 않도록 시각을 비교
+    // 마지막 로그인 정보도 사용자 조회 응답에 포함되므로 ETag 가 바뀌도록 버전을 올림
+    private static final String UPDATE_LAST_LOGIN_SQL = """
+            UPDATE users SET last_login_ip = ?, last_login_at = ?, version = version + 1
+            WHERE idx = ? AND (last_login_at IS NULL OR last_login_at < ?)
+            """;
+
+    private static final int UPDATE_BATCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 사용자 목록을 하나의 트랜잭션 안에서 JDBC 배치로 insert 합니다.
+     * 한 행이라도 실패하면 모두 롤백되므로 일부 행만 커밋된 채로 예외가 발생하지 않습니다.
+     *
+     * @param users 저장할 사용자 목록
+     * @return 입력 순서대로 생성된 사용자 인덱스 목록
+     */
+    public List<Long> insertAll(List<UserEntity> users) {
+        if (users.isEmpty()) {
+            return List.of();
+        }
+
+        return transactionTemplate.execute(status -> insertBatch(users));
+    }
+
+    /**
+     * 사용자 목록을 {@link #insertAll(List)}로 insert 하고, 배치가 실패하면 한 행씩 다시 insert 하여 행별 결과를 돌려줍니다.
+     * 동시에 가입한 이메일 중복처럼 일부 행만 실패해도 나머지 행은 저장됩니다.
+     * 한 행씩 다시 insert 할 때는 행마다 커밋되므로 트랜잭션 밖에서 호출해야 합니다.
+     *
+     * @param users 저장할 사용자 목록
+     * @return 입력 순서대로 행별 insert 결과
+     */
+    public List<UserInsertResult> insertAllOrEach(List<UserEntity> users) {
+        try {
+            return insertAll(users).stream().map(UserInsertResult::created).toList();
+        } catch (DataAccessException e) {
+            logger.warn("UserBatchRepository-insertAllOrEach-Batch insert rolled back, retry each row : {}",
+                    e.getMostSpecificCause().getMessage());
+        }
+
+        List<UserInsertResult> results = new ArrayList<>(users.size());
+        for (UserEntity user : users) {
+            try {
+                results.add(UserInsertResult.created(insertBatch(List.of(user)).get(0)));
+            } catch (DataAccessException e) {
+                results.add(UserInsertResult.failed(e));
+            }
+        }
+        return results;
+    }
+
+    private List<Long> insertBatch(List<UserEntity> users) {
+        List<Long> generatedIdx = jdbcTemplate.execute(
+                connection -> connection.prepareStatement(INSERT_SQL, new String[]{"idx"}),
+                (PreparedStatement ps) -> {
+                    for (UserEntity user : users) {
+                        ps.setString(1, user.getEmail());
+                        ps.setString(2, user.getPassword());
+                        ps.setString(3, user.getName());
+                        ps.setString(4, user.getStatus().name());
+                        ps.setTimestamp(5, Timestamp.valueOf(user.getCreatedAt()));
+                        ps.setTimestamp(6, Timestamp.valueOf(user.getUpdatedAt()));
+                        ps.setString(7, user.getLastLoginIp());
+                        ps.setTimestamp(8, user.getLastLoginAt() == null ? null : Timestamp.valueOf(user.getLastLoginAt()));
+                        ps.setInt(9, user.getFailedAttempts());
+                        ps.addBatch();
+                    }
+                    ps.executeBatch();
+
+                    List<Long> keys = new ArrayList<>(users.size());
+                    try (ResultSet generatedKeys = ps.getGeneratedKeys()) {
+                        while (generatedKeys.next()) {
+                            keys.add(generatedKeys.getLong(1));
+                        }
+                    }
+                    return keys;
+                });
+
+        if (generatedIdx != null && generatedIdx.size() == users.size()) {
+            return generatedIdx;
+        }
+
+        // 배치 실행 후 생성 키를 돌려주지 않는 드라이버는 이메일로 다시 조회
+        return findIdxByEmails(users.stream().map(UserEntity::getEmail).toList());
+    }
+
+    /**
+     * 모아 둔 로그인 실패 횟수를 하나의 트랜잭션 안에서 JDBC 배치로 반영하고 버전을 올립니다. 수정 시각은 바꾸지 않습니다.
+     * 증가분을 더하는 갱신이므로 일부 묶음만 커밋된 채 실패하면 다시 시도할 때 두 번 더해지지 않도록 모두 롤백합니다.
+     *
+     * @param updates 사용자별 실패 횟수 변경 목록
+     */
+    public void updateFailedAttempts(List<FailedAttemptsUpdate> updates) {
+        transactionTemplate.executeWithoutResult(status ->
+                jdbcTemplate.batchUpdate(UPDATE_FAILED_ATTEMPTS_SQL, updates, UPDATE_BATCH_SIZE, (ps, update) -> {
+                    ps.setInt(1, update.failures());
+                    ps.setBoolean(2, update.reset());
+                    ps.setLong(3, update.idx());
+                }));
+    }
+
+    /**
+     * 모아 둔 마지막 로그인 IP, 시각을 JDBC 배치로 반영하고 버전을 올립니다. 수정 시각은 바꾸지 않습니다.
+     *
+     * @param updates 사용자별 마지막 로그인 정보 목록
+     */
+    public void updateLastLogins(List<LastLoginUpdate> updates) {
+        jdbcTemplate.batchUpdate(UPDATE_LAST_LOGIN_SQL, updates, UPDATE_BATCH_SIZE, (ps, update) -> {
+            Timestamp loginAt = Timestamp.valueOf(update.loginAt());
+            ps.setString(1, update.ip());
+            ps.setTimestamp(2, loginAt);
+            ps.setLong(3, update.idx());
+            ps.setTimestamp(4, loginAt);
+        });
+    }
+
+    private List<Long> findIdxByEmails(List<String> emails) {
+        String placeholders = String.join(",", Collections.nCopies(emails.size(), "?"));
+        Map<String, Long> idxByEmail = new HashMap<>();
+        jdbcTemplate.query("SELECT idx, email FROM users WHERE email IN (" + placeholders + ")",
+                (RowCallbackHandler) rs -> idxByEmail.put(rs.getString("email"), rs.getLong("idx")),
+                emails.toArray());
+
+        return emails.stream().map(idxByEmail::get).toList();
+    }
+}
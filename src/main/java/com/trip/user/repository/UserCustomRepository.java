@@ -1,18 +1,52 @@
 package com.trip.user.repository;
 
+import com.trip.user.dto.User;
 import com.trip.user.entity.UserEntity;
-import org.springframework.data.domain.Pageable;
+import com.trip.user.index.UserIndexEntry;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 public interface UserCustomRepository {
 
     Optional<UserEntity> findByEmail(String email);
     Optional<UserEntity> findByIdx(Long idx);
-    boolean existsByIdx(Long idx);
 
-    List<UserEntity> findByEmailStartsWith(Long cursor, String email, Pageable pageable);
-    List<UserEntity> findByNameStartsWith(Long cursor,String name, Pageable pageable);
-    List<UserEntity> findAllByOrderByIdxDesc(Long cursor, Pageable pageable);
+    // 조회 전용: 엔티티를 영속성 컨텍스트에 올리지 않고 필요한 컬럼만 User DTO로 조회
+    // cursor 가 null 이면 가장 최신 사용자부터 limit 건을 조회
+    Optional<User> findUserByIdx(Long idx);
+    List<User> findUsersByEmailStartsWith(Long cursor, String email, int limit);
+    List<User> findUsersByNameStartsWith(Long cursor, String name, int limit);
+    List<User> findAllUsersByOrderByIdxDesc(Long cursor, int limit);
+    List<User> findUsersByIdxIn(Collection<Long> idxList);
+
+    // 비밀번호 확인용: 비밀번호 컬럼만 조회
+    Optional<String> findPasswordByIdx(Long idx);
+
+    // 조건부 조회(If-None-Match) 용: 버전 컬럼만 조회
+    Optional<Long> findVersionByIdx(Long idx);
+
+    // 단일 UPDATE 문으로 변경하고 버전을 1 올린 뒤 변경된 행 수를 반환 (삭제된 사용자는 변경하지 않음), null 인 값은 변경하지 않음
+    // expectedVersion 이 있으면 현재 버전이 같을 때만 변경
+    long updateProfile(Long idx, String email, String name, Long expectedVersion);
+    long updatePassword(Long idx, String password);
+    // 저장된 비밀번호가 expectedPassword 와 같을 때만 변경 (재해시용, 버전과 수정 시각은 유지)
+    long replacePassword(Long idx, String expectedPassword, String password);
+    long markDeleted(Long idx);
+
+    // 삭제 상태를 포함하여 이미 사용 중인 이메일 조회 (email unique 제약과 동일 범위)
+    Set<String> findExistingEmails(Collection<String> emails);
+
+    // 전체 내보내기용: 삭제되지 않은 사용자를 idx 오름차순 전진 전용 커서로 조회, 사용 후 반드시 close
+    Stream<User> streamActiveUsers(int fetchSize);
+
+    // 상태 비트맵 적재용: ACTIVE 가 아닌 사용자 idx 만 전진 전용 커서로 조회, 사용 후 반드시 close
+    Stream<Long> streamInactiveIdx(int fetchSize);
+
+    // 접두어 색인 적재용
+    Long findMaxIdx();
+    List<UserIndexEntry> findIndexEntries(long fromIdx, long toIdx);
 }
@@ -1,22 +1,38 @@
 package com.trip.user.repository;
 
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.querydsl.jpa.impl.JPAUpdateClause;
 import com.trip.user.code.Status;
+import com.trip.user.dto.QUser;
+import com.trip.user.dto.User;
 import com.trip.user.entity.UserEntity;
+import com.trip.user.index.PrefixIndexPage;
+import com.trip.user.index.UserIndexEntry;
+import com.trip.user.index.UserPrefixIndex;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Pageable;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.stereotype.Repository;
 
 import static com.trip.user.entity.QUserEntity.userEntity;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.stream.Stream;
 
 @Repository
 @RequiredArgsConstructor
 public class UserCustomRepositoryImpl implements UserCustomRepository {
 
     private final JPAQueryFactory queryFactory;
+    private final UserPrefixIndex userPrefixIndex;
 
 
     @Override
@@ -40,46 +56,239 @@ public class UserCustomRepositoryImpl implements UserCustomRepository {
     }
 
     @Override
-    public boolean existsByIdx(Long idx) {
-        return queryFactory.selectOne()
+    public Optional<User> findUserByIdx(Long idx) {
+        User user = queryFactory.select(userProjection())
                 .from(userEntity)
                 .where(userEntity.idx.eq(idx)
                         .and(userEntity.status.ne(Status.DELETED)))
-                .fetchFirst() != null;
+                .fetchOne();
+
+        return Optional.ofNullable(user);
     }
 
     @Override
-    public List<UserEntity> findByEmailStartsWith(Long cursor, String email, Pageable pageable) {
-        return queryFactory.selectFrom(userEntity)
-                .where(userEntity.idx.lt(cursor)
-                        .and(userEntity.email.startsWith(email))
-                        .and(userEntity.status.ne(Status.DELETED)))
+    public List<User> findUsersByEmailStartsWith(Long cursor, String email, int limit) {
+        if (userPrefixIndex.canServe(email)) {
+            return findUsersByPrefixIndex(new PrefixIndexPage(userPrefixIndex::findByEmailPrefix, User::getEmail, email, cursor, limit),
+                    (next, size) -> findUsersByEmailStartsWithSql(next, email, size));
+        }
+
+        return findUsersByEmailStartsWithSql(cursor, email, limit);
+    }
+
+    private List<User> findUsersByEmailStartsWithSql(Long cursor, String email, int limit) {
+        return queryFactory.select(userProjection())
+                .from(userEntity)
+                .where(idxLessThan(cursor),
+                        userEntity.email.startsWith(email),
+                        userEntity.status.ne(Status.DELETED))
                 .orderBy(userEntity.idx.desc())
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
+                .limit(limit)
                 .fetch();
     }
 
     @Override
-    public List<UserEntity> findByNameStartsWith(Long cursor, String name, Pageable pageable) {
-        return queryFactory.selectFrom(userEntity)
-                .where(userEntity.idx.lt(cursor)
-                        .and(userEntity.name.startsWith(name))
-                        .and(userEntity.status.ne(Status.DELETED)))
+    public List<User> findUsersByNameStartsWith(Long cursor, String name, int limit) {
+        if (userPrefixIndex.canServe(name)) {
+            return findUsersByPrefixIndex(new PrefixIndexPage(userPrefixIndex::findByNamePrefix, User::getName, name, cursor, limit),
+                    (next, size) -> findUsersByNameStartsWithSql(next, name, size));
+        }
+
+        return findUsersByNameStartsWithSql(cursor, name, limit);
+    }
+
+    private List<User> findUsersByNameStartsWithSql(Long cursor, String name, int limit) {
+        return queryFactory.select(userProjection())
+                .from(userEntity)
+                .where(idxLessThan(cursor),
+                        userEntity.name.startsWith(name),
+                        userEntity.status.ne(Status.DELETED))
                 .orderBy(userEntity.idx.desc())
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
+                .limit(limit)
                 .fetch();
     }
 
     @Override
-    public List<UserEntity> findAllByOrderByIdxDesc(Long cursor, Pageable pageable) {
-        return queryFactory.selectFrom(userEntity)
-                .where(userEntity.idx.lt(cursor)
-                        .and(userEntity.status.ne(Status.DELETED)))
+    public List<User> findAllUsersByOrderByIdxDesc(Long cursor, int limit) {
+        return queryFactory.select(userProjection())
+                .from(userEntity)
+                .where(idxLessThan(cursor),
+                        userEntity.status.ne(Status.DELETED))
                 .orderBy(userEntity.idx.desc())
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    public List<User> findUsersByIdxIn(Collection<Long> idxList) {
+        if (idxList.isEmpty()) {
+            return List.of();
+        }
+
+        return queryFactory.select(userProjection())
+                .from(userEntity)
+                .where(userEntity.idx.in(idxList),
+                        userEntity.status.ne(Status.DELETED))
+                .orderBy(userEntity.idx.desc())
+                .fetch();
+    }
+
+    @Override
+    public Optional<String> findPasswordByIdx(Long idx) {
+        return Optional.ofNullable(queryFactory.select(userEntity.password)
+                .from(userEntity)
+                .where(userEntity.idx.eq(idx),
+                        userEntity.status.ne(Status.DELETED))
+                .fetchOne());
+    }
+
+    @Override
+    public Optional<Long> findVersionByIdx(Long idx) {
+        return Optional.ofNullable(queryFactory.select(userEntity.version)
+                .from(userEntity)
+                .where(userEntity.idx.eq(idx),
+                        userEntity.status.ne(Status.DELETED))
+                .fetchOne());
+    }
+
+    @Override
+    public long updateProfile(Long idx, String email, String name, Long expectedVersion) {
+        JPAUpdateClause update = queryFactory.update(userEntity);
+        if (email != null) {
+            update.set(userEntity.email, email);
+        }
+        if (name != null) {
+            update.set(userEntity.name, name);
+        }
+
+        return update.set(userEntity.updatedAt, LocalDateTime.now())
+                .set(userEntity.version, userEntity.version.add(1))
+                .where(userEntity.idx.eq(idx),
+                        userEntity.status.ne(Status.DELETED),
+                        versionEq(expectedVersion))
+                .execute();
+    }
+
+    @Override
+    public long updatePassword(Long idx, String password) {
+        return queryFactory.update(userEntity)
+                .set(userEntity.password, password)
+                .set(userEntity.updatedAt, LocalDateTime.now())
+                .set(userEntity.version, userEntity.version.add(1))
+                .where(userEntity.idx.eq(idx),
+                        userEntity.status.ne(Status.DELETED))
+                .execute();
+    }
+
+    @Override
+    public long replacePassword(Long idx, String expectedPassword, String password) {
+        return queryFactory.update(userEntity)
+                .set(userEntity.password, password)
+                .where(userEntity.idx.eq(idx),
+                        userEntity.password.eq(expectedPassword),
+                        userEntity.status.ne(Status.DELETED))
+                .execute();
+    }
+
+    @Override
+    public long markDeleted(Long idx) {
+        return queryFactory.update(userEntity)
+                .set(userEntity.status, Status.DELETED)
+                .set(userEntity.updatedAt, LocalDateTime.now())
+                .set(userEntity.version, userEntity.version.add(1))
+                .where(userEntity.idx.eq(idx),
+                        userEntity.status.ne(Status.DELETED))
+                .execute();
+    }
+
+    @Override
+    public Set<String> findExistingEmails(Collection<String> emails) {
+        if (emails.isEmpty()) {
+            return Set.of();
+        }
+
+        return new HashSet<>(queryFactory.select(userEntity.email)
+                .from(userEntity)
+                .where(userEntity.email.in(emails))
+                .fetch());
+    }
+
+    @Override
+    public Stream<User> streamActiveUsers(int fetchSize) {
+        return queryFactory.select(userProjection())
+                .from(userEntity)
+                .where(userEntity.status.ne(Status.DELETED))
+                .orderBy(userEntity.idx.asc())
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .stream();
+    }
+
+    @Override
+    public Stream<Long> streamInactiveIdx(int fetchSize) {
+        // status <> 'ACTIVE' 는 (status, updated_at) 인덱스 범위로 바꿀 수 없으므로 나머지 상태를 나열
+        return queryFactory.select(userEntity.idx)
+                .from(userEntity)
+                .where(userEntity.status.in(Status.INACTIVE, Status.SUSPENDED, Status.DELETED))
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .stream();
+    }
+
+    @Override
+    public Long findMaxIdx() {
+        return queryFactory.select(userEntity.idx.max())
+                .from(userEntity)
+                .fetchOne();
+    }
+
+    @Override
+    public List<UserIndexEntry> findIndexEntries(long fromIdx, long toIdx) {
+        return queryFactory.select(Projections.constructor(UserIndexEntry.class,
+                        userEntity.idx,
+                        userEntity.email,
+                        userEntity.name))
+                .from(userEntity)
+                .where(userEntity.idx.goe(fromIdx),
+                        userEntity.idx.lt(toIdx),
+                        userEntity.status.ne(Status.DELETED))
                 .fetch();
     }
+
+    // 접두어 색인에서 찾은 idx 로 사용자를 조회하고, 색인으로 채우지 못한 나머지는 SQL 로 조회
+    private List<User> findUsersByPrefixIndex(PrefixIndexPage page, BiFunction<Long, Integer, List<User>> sqlFinder) {
+        List<User> users = new ArrayList<>();
+        while (page.hasNext()) {
+            users.addAll(page.accept(findUsersByIdxIn(page.nextCandidates())));
+        }
+        if (page.needsFallback()) {
+            users.addAll(sqlFinder.apply(page.cursor(), page.remaining()));
+        }
+        return users;
+    }
+
+    // 비밀번호를 제외한 User DTO 컬럼만 조회
+    private QUser userProjection() {
+        return new QUser(
+                userEntity.idx,
+                userEntity.email,
+                userEntity.name,
+                userEntity.status,
+                userEntity.createdAt,
+                userEntity.updatedAt,
+                userEntity.lastLoginIp,
+                userEntity.lastLoginAt,
+                userEntity.failedAttempts,
+                userEntity.version);
+    }
+
+    // 기대 버전이 없으면 조건을 생략하여 버전과 관계없이 변경
+    private BooleanExpression versionEq(Long expectedVersion) {
+        return expectedVersion == null ? null : userEntity.version.eq(expectedVersion);
+    }
+
+    // cursor 가 없으면 조건을 생략하여 가장 최신 사용자부터 조회
+    private BooleanExpression idxLessThan(Long cursor) {
+        return cursor == null ? null : userEntity.idx.lt(cursor);
+    }
 }
@@ -0,0 +1,22 @@
+package com.trip.user.repository;
+
+import org.springframework.dao.DataAccessException;
+
+/**
+ * 사용자 한 행의 insert 결과
+ * 성공하면 생성된 idx 를, 실패하면 원인 예외를 담습니다.
+ */
+public record UserInsertResult(Long idx, DataAccessException failure) {
+
+    public static UserInsertResult created(Long idx) {
+        return new UserInsertResult(idx, null);
+    }
+
+    public static UserInsertResult failed(DataAccessException failure) {
+        return new UserInsertResult(null, failure);
+    }
+
+    public boolean isCreated() {
+        return failure == null;
+    }
+}
@@ -0,0 +1,13 @@
+package com.trip.user.service;
+
+import com.trip.user.dto.ArchivedUser;
+
+import java.util.List;
+
+public interface UserArchiveService {
+
+    long archiveDeletedUsers();
+
+    ArchivedUser getArchivedUserByIdx(Long idx);
+    List<ArchivedUser> getArchivedUsersByEmail(String email);
+}
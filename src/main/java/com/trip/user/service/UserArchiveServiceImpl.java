@@ -0,0 +1,77 @@
+package com.trip.user.service;
+
+import com.trip.user.dto.ArchivedUser;
+import com.trip.user.exception.UserNotFoundException;
+import com.trip.user.repository.UserArchiveRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 보존 기간이 지난 삭제 사용자를 {@code users_archive}로 옮겨 users 테이블과 인덱스에는 살아 있는 사용자만 남깁니다.
+ */
+@Service
+public class UserArchiveServiceImpl implements UserArchiveService {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserArchiveServiceImpl.class);
+
+    private final UserArchiveRepository userArchiveRepository;
+    private final Duration retention;
+    private final int chunkSize;
+    private final int maxChunksPerRun;
+
+    public UserArchiveServiceImpl(UserArchiveRepository userArchiveRepository,
+                                  @Value("${member.archive.retention:30d}") Duration retention,
+                                  @Value("${member.archive.chunk-size:1000}") int chunkSize,
+                                  @Value("${member.archive.max-chunks-per-run:100}") int maxChunksPerRun) {
+        this.userArchiveRepository = userArchiveRepository;
+        this.retention = retention;
+        this.chunkSize = chunkSize;
+        this.maxChunksPerRun = maxChunksPerRun;
+    }
+
+    /**
+     * 보존 기간이 지난 삭제 사용자를 묶음 단위로 옮깁니다.
+     * 묶음마다 트랜잭션을 나누어 잠금 시간을 짧게 유지하고, 한 번 실행에 최대 {@code max-chunks-per-run} 묶음까지만 처리합니다.
+     *
+     * @return 옮긴 사용자 수
+     */
+    @Override
+    public long archiveDeletedUsers() {
+        LocalDateTime deletedBefore = LocalDateTime.now().minus(retention);
+        logger.info("UserArchiveService-archiveDeletedUsers-Archiving users deleted before {}", deletedBefore);
+
+        long archivedCount = 0;
+        for (int chunk = 0; chunk < maxChunksPerRun; chunk++) {
+            int moved = userArchiveRepository.moveDeletedUsers(deletedBefore, chunkSize).size();
+            archivedCount += moved;
+            if (moved < chunkSize) {
+                break;
+            }
+        }
+
+        logger.info("UserArchiveService-archiveDeletedUsers-Archived {} users", archivedCount);
+        return archivedCount;
+    }
+
+    @Override
+    public ArchivedUser getArchivedUserByIdx(Long idx) {
+        logger.info("UserArchiveService-getArchivedUserByIdx-Getting archived user {}", idx);
+        return userArchiveRepository.findByIdx(idx)
+                .orElseThrow(() -> {
+                    logger.info("UserArchiveService-getArchivedUserByIdx-Archived user does not exist");
+                    return new UserNotFoundException(idx);
+                });
+    }
+
+    @Override
+    public List<ArchivedUser> getArchivedUsersByEmail(String email) {
+        logger.info("UserArchiveService-getArchivedUsersByEmail-Getting archived users by email {}", email);
+        return userArchiveRepository.findByEmail(email);
+    }
+}
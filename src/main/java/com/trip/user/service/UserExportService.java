@@ -0,0 +1,9 @@
+package com.trip.user.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+public interface UserExportService {
+
+    long exportUsers(OutputStream outputStream, boolean gzip) throws IOException;
+}
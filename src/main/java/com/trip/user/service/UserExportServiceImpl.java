@@ -0,0 +1,96 @@
+package com.trip.user.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.trip.user.dto.User;
+import com.trip.user.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 삭제되지 않은 전체 사용자를 NDJSON(한 줄에 사용자 하나)으로 내보냅니다.
+ * 전진 전용 커서로 fetch-size 만큼씩 읽어 바로 출력 스트림에 쓰므로 사용자 수와 관계없이 힙 사용량이 일정합니다.
+ */
+@Service
+public class UserExportServiceImpl implements UserExportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserExportServiceImpl.class);
+
+    private final UserRepository userRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter userWriter;
+    private final int fetchSize;
+    private final int flushInterval;
+
+    public UserExportServiceImpl(UserRepository userRepository,
+                                 EntityManager entityManager,
+                                 ObjectMapper objectMapper,
+                                 @Value("${member.export.fetch-size:1000}") int fetchSize,
+                                 @Value("${member.export.flush-interval:1000}") int flushInterval) {
+        this.userRepository = userRepository;
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+        // 기본값인 값마다 flush 를 끄고 flush-interval 단위로만 내보냄
+        this.userWriter = objectMapper.writerFor(User.class).without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.fetchSize = fetchSize;
+        this.flushInterval = flushInterval;
+    }
+
+    /**
+     * 사용자를 NDJSON 으로 출력 스트림에 씁니다.
+     * 클라이언트가 연결을 끊으면 쓰기에서 {@code IOException}이 발생하고, 커서와 트랜잭션을 정리한 뒤 예외를 그대로 던집니다.
+     *
+     * @param outputStream 응답 출력 스트림
+     * @param gzip gzip 압축 여부
+     * @return 내보낸 사용자 수
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public long exportUsers(OutputStream outputStream, boolean gzip) throws IOException {
+        logger.info("UserExportService-exportUsers-Exporting users, gzip {}", gzip);
+        long startedAt = System.currentTimeMillis();
+        long count = 0;
+
+        OutputStream target = gzip ? new GZIPOutputStream(outputStream, 8192) : outputStream;
+        try (Stream<User> users = userRepository.streamActiveUsers(fetchSize);
+             JsonGenerator generator = objectMapper.getFactory().createGenerator(target)) {
+            // 응답 스트림은 컨테이너가 닫고, 줄 구분은 직접 기록
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+
+            Iterator<User> iterator = users.iterator();
+            while (iterator.hasNext()) {
+                userWriter.writeValue(generator, iterator.next());
+                generator.writeRaw('\n');
+                count++;
+
+                if (count % flushInterval == 0) {
+                    // 주기적으로 내보내 클라이언트가 바로 받도록 하고, 영속성 컨텍스트에 남은 것이 없도록 비움
+                    generator.flush();
+                    entityManager.clear();
+                }
+            }
+
+            generator.flush();
+            if (target instanceof GZIPOutputStream gzipOutputStream) {
+                gzipOutputStream.finish();
+            }
+        }
+
+        logger.info("UserExportService-exportUsers-Exported {} users in {} ms", count, System.currentTimeMillis() - startedAt);
+        return count;
+    }
+}
@@ -0,0 +1,16 @@
+package com.trip.user.service;
+
+import com.trip.user.dto.User;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Service
+public interface UserReactiveService {
+
+    // Read
+    Mono<User> getUserByIdx(Long idx);
+    Flux<User> getAllUsers(Long cursor, int limit);
+    Flux<User> getUsersByEmailStartWith(Long cursor, String email, int limit);
+    Flux<User> getUsersByNameStartWith(Long cursor, String name, int limit);
+}
@@ -0,0 +1,130 @@
+package com.trip.user.service;
+
+import com.trip.kafka.KafkaEvent;
+import com.trip.kafka.KafkaProducer;
+import com.trip.kafka.code.KafkaActions;
+import com.trip.user.cache.ReactiveUserCache;
+import com.trip.user.dto.User;
+import com.trip.user.exception.UserNotFoundException;
+import com.trip.user.index.PrefixIndexPage;
+import com.trip.user.index.UserPrefixIndex;
+import com.trip.user.repository.ReactiveUserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.LocalDateTime;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
+
+/**
+ * 게이트웨이 fan-out 호출용 리액티브 조회 서비스
+ * DB는 R2DBC, 캐시 L2는 리액티브 Redis 클라이언트를 사용하여 요청 스레드를 점유하지 않습니다.
+ */
+@Service
+public class UserReactiveServiceImpl implements UserReactiveService {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserReactiveServiceImpl.class);
+
+    private static final int DEFAULT_STREAM_SIZE = 100;
+
+    private final ReactiveUserRepository reactiveUserRepository;
+    private final ReactiveUserCache reactiveUserCache;
+    private final UserPrefixIndex userPrefixIndex;
+    private final KafkaProducer kafkaProducer;
+    private final int maxStreamSize;
+
+    public UserReactiveServiceImpl(ReactiveUserRepository reactiveUserRepository,
+                                   ReactiveUserCache reactiveUserCache,
+                                   UserPrefixIndex userPrefixIndex,
+                                   KafkaProducer kafkaProducer,
+                                   @Value("${member.reactive.max-stream-size:1000}") int maxStreamSize) {
+        this.reactiveUserRepository = reactiveUserRepository;
+        this.reactiveUserCache = reactiveUserCache;
+        this.userPrefixIndex = userPrefixIndex;
+        this.kafkaProducer = kafkaProducer;
+        this.maxStreamSize = maxStreamSize;
+    }
+
+    @Override
+    public Mono<User> getUserByIdx(Long idx) {
+        return reactiveUserCache.get(idx)
+                .switchIfEmpty(Mono.defer(() -> reactiveUserRepository.findUserByIdx(idx)
+                        .flatMap(user -> reactiveUserCache.put(user).thenReturn(user))))
+                .switchIfEmpty(Mono.error(() -> {
+                    logger.info("UserReactiveService-getUserByIdx-User does not exist {}", idx);
+                    return new UserNotFoundException(idx);
+                }))
+                .doOnSuccess(user -> sendEvent(KafkaActions.GET_USERS_BY_IDX, idx.toString()));
+    }
+
+    @Override
+    public Flux<User> getAllUsers(Long cursor, int limit) {
+        return reactiveUserRepository.findAllUsersByOrderByIdxDesc(cursor, normalizeLimit(limit))
+                .doOnComplete(() -> sendEvent(KafkaActions.GET_ALL_USERS, null));
+    }
+
+    @Override
+    public Flux<User> getUsersByEmailStartWith(Long cursor, String email, int limit) {
+        int size = normalizeLimit(limit);
+        Flux<User> users = userPrefixIndex.canServe(email)
+                ? findByPrefixIndex(() -> new PrefixIndexPage(userPrefixIndex::findByEmailPrefix, User::getEmail, email, cursor, size),
+                        (next, remaining) -> reactiveUserRepository.findUsersByEmailStartsWith(next, email, remaining))
+                : reactiveUserRepository.findUsersByEmailStartsWith(cursor, email, size);
+
+        return users.doOnComplete(() -> sendEvent(KafkaActions.GET_USERS_BY_EMAIL, email));
+    }
+
+    @Override
+    public Flux<User> getUsersByNameStartWith(Long cursor, String name, int limit) {
+        int size = normalizeLimit(limit);
+        Flux<User> users = userPrefixIndex.canServe(name)
+                ? findByPrefixIndex(() -> new PrefixIndexPage(userPrefixIndex::findByNamePrefix, User::getName, name, cursor, size),
+                        (next, remaining) -> reactiveUserRepository.findUsersByNameStartsWith(next, name, remaining))
+                : reactiveUserRepository.findUsersByNameStartsWith(cursor, name, size);
+
+        return users.doOnComplete(() -> sendEvent(KafkaActions.GET_USERS_BY_NAME, name));
+    }
+
+    // 접두어 색인에서 찾은 idx 로 사용자를 조회하고, 색인으로 채우지 못한 나머지는 SQL 로 조회
+    // 페이지 진행 상태는 구독마다 새로 만듦
+    private Flux<User> findByPrefixIndex(Supplier<PrefixIndexPage> page, BiFunction<Long, Integer, Flux<User>> sqlFinder) {
+        return Flux.defer(() -> fillPage(page.get(), sqlFinder));
+    }
+
+    private Flux<User> fillPage(PrefixIndexPage page, BiFunction<Long, Integer, Flux<User>> sqlFinder) {
+        return Flux.defer(() -> {
+            if (page.hasNext()) {
+                return reactiveUserRepository.findUsersByIdxIn(page.nextCandidates())
+                        .collectList()
+                        .flatMapMany(users -> Flux.fromIterable(page.accept(users)))
+                        .concatWith(fillPage(page, sqlFinder));
+            }
+            return page.needsFallback() ? sqlFinder.apply(page.cursor(), page.remaining()) : Flux.empty();
+        });
+    }
+
+    private int normalizeLimit(int limit) {
+        if (limit <= 0 || limit > maxStreamSize) {
+            return DEFAULT_STREAM_SIZE;
+        }
+        return limit;
+    }
+
+    // KafkaTemplate.send 는 메타데이터 대기 중 블로킹될 수 있으므로 이벤트 루프 밖에서 전송
+    private void sendEvent(KafkaActions action, String searchKeyword) {
+        KafkaEvent kafkaEvent = KafkaEvent.builder()
+                .action(action)
+                .searchKeyword(searchKeyword)
+                .timestamp(LocalDateTime.now())
+                .build();
+
+        Mono.fromRunnable(() -> kafkaProducer.sendUserEvent(kafkaEvent))
+                .subscribeOn(Schedulers.boundedElastic())
+                .subscribe(null, e -> logger.warn("UserReactiveService-sendEvent-Kafka send failed {} : {}", action, e.getMessage()));
+    }
+}
@@ -1,26 +1,39 @@
 package com.trip.user.service;
 
+import com.trip.user.dto.CreateUser;
+import com.trip.user.dto.CreateUsers;
 import com.trip.user.dto.User;
+import com.trip.user.dto.UserLookup;
+import com.trip.user.dto.UserSlice;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.Optional;
 
 @Service
 public interface UserService {
 
     // Created
     User createUser(User user, String Password);
+    List<CreateUsers.Result> createUsers(List<CreateUser.Req> reqs);
 
     // Read
     User getUserByIdx(Long idx);
-    List<User> getAllUsers(Long cursor, int pageSize);
-    List<User> getUsersByEmailStartWith(Long cursor, String email, int pageSize);
-    List<User> getUsersByNameStartWith(Long cursor, String name, int pageSize);
+    Optional<Long> getUserVersion(Long idx);
+    UserLookup getUsersByIdxList(List<Long> idxList);
+    UserSlice getAllUsers(Long cursor, int pageSize);
+    UserSlice getUsersByEmailStartWith(Long cursor, String email, int pageSize);
+    UserSlice getUsersByNameStartWith(Long cursor, String name, int pageSize);
 
     // Update
-    User updateUser(Long idx, User user);
+    // expectedVersion 이 있으면 현재 버전이 같을 때만 변경 (If-Match)
+    long patchUser(Long idx, User user, Long expectedVersion);
+    User updateUser(Long idx, User user, Long expectedVersion);
     User updatePassword(Long idx, String oldPassword, String newPassword);
 
+    // 로그인 성공 후 평문이거나 낮은 cost 로 저장된 비밀번호를 다시 해시 (비동기)
+    void upgradePasswordHash(Long idx, String rawPassword, String currentPassword);
+
     // Delete
     boolean deleteUser(Long idx);
 }
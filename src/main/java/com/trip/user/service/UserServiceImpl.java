@@ -1,33 +1,80 @@
 package com.trip.user.service;
 
+import com.trip.auth.repository.RefreshTokenStore;
+import com.trip.auth.revocation.TokenRevocationList;
+import com.trip.common.exception.PasswordHashingBusyException;
+import com.trip.common.password.PasswordHasher;
+import com.trip.common.transaction.AfterCommit;
 import com.trip.kafka.KafkaEvent;
 import com.trip.kafka.KafkaProducer;
 import com.trip.kafka.code.KafkaActions;
+import com.trip.user.cache.UserCache;
+import com.trip.user.code.BatchResult;
 import com.trip.user.code.Status;
+import com.trip.user.dto.CreateUser;
+import com.trip.user.dto.CreateUsers;
 import com.trip.user.dto.User;
+import com.trip.user.dto.UserLookup;
+import com.trip.user.dto.UserSlice;
 import com.trip.user.entity.UserEntity;
 import com.trip.user.exception.EmailAlreadyExistsException;
 import com.trip.user.exception.IncorrectPasswordException;
 import com.trip.user.exception.UserNotFoundException;
+import com.trip.user.exception.UserVersionMismatchException;
+import com.trip.user.index.UserPrefixIndex;
+import com.trip.user.repository.UserBatchRepository;
+import com.trip.user.repository.UserInsertResult;
 import com.trip.user.repository.UserRepository;
+import com.trip.user.status.UserStatusBitmap;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @RequiredArgsConstructor
 @Service
 public class UserServiceImpl implements UserService {
     private final UserRepository userRepository;
+    private final UserBatchRepository userBatchRepository;
     private final KafkaProducer kafkaProducer;
+    private final UserCache userCache;
+    private final UserPrefixIndex userPrefixIndex;
+    private final RefreshTokenStore refreshTokenStore;
+    private final TokenRevocationList tokenRevocationList;
+    private final UserStatusBitmap userStatusBitmap;
+    private final PasswordHasher passwordHasher;
+
+    // 부분 변경 후 변경된 전체 정보를 다시 조회하여 이벤트에 담을지 여부
+    @Value("${member.user.read-after-write:false}")
+    private boolean readAfterWrite;
 
     private static final Logger logger = LoggerFactory.getLogger(UserServiceImpl.class);
 
+    // 한 번의 이메일 중복 조회, JDBC 배치, 이벤트로 처리할 묶음 크기
+    private static final int BATCH_CHUNK_SIZE = 500;
+    // 비밀번호 해시가 요청 안에서 실행되므로 한 요청이 수 초 안에 끝나는 크기로 제한, 더 많은 사용자는 파일 가져오기를 사용
+    // (strength 12 는 해시당 약 250ms, 8코어의 절반인 4스레드에서 초당 약 16건이므로 100건은 약 6초)
+    private static final int BATCH_MAX_SIZE = 100;
+    private static final int LOOKUP_MAX_SIZE = 1_000;
+
     @Override
     public User createUser(User user, String password) {
         logger.info("UserService-createUser-Creating user {}", user);
@@ -45,8 +92,9 @@ public class UserServiceImpl implements UserService {
                 .updateAt(LocalDateTime.now())
                 .build();
 
-        UserEntity registeredUserEntity = userRepository.save(registeredUser.toEntity(password));
+        UserEntity registeredUserEntity = userRepository.save(registeredUser.toEntity(passwordHasher.hash(password)));
         registeredUser = User.formEntity(registeredUserEntity);
+        userPrefixIndex.put(registeredUser.getIdx(), registeredUser.getEmail(), registeredUser.getName());
 
         KafkaEvent kafkaEvent = KafkaEvent.builder()
                 .action(KafkaActions.CREATED)
@@ -61,24 +109,156 @@ public class UserServiceImpl implements UserService {
     }
 
     @Override
-    public List<User> getAllUsers(Long cursor, int pageSize) {
-        logger.info("UserService-getAllUsers-Getting all users");
-        if(cursor == null) {
-            logger.info("UserService-getAllUsers-Cursor is null");
-            throw new UserNotFoundException();
+    public List<CreateUsers.Result> createUsers(List<CreateUser.Req> reqs) {
+        logger.info("UserService-createUsers-Creating {} users", reqs.size());
+        if (reqs.isEmpty() || reqs.size() > BATCH_MAX_SIZE) {
+            logger.info("UserService-createUsers-Invalid batch size");
+            throw new IllegalArgumentException("users size must be between 1 and " + BATCH_MAX_SIZE);
+        }
+
+        CreateUsers.Result[] results = new CreateUsers.Result[reqs.size()];
+        Set<String> requestedEmails = new HashSet<>();
+
+        for (int from = 0; from < reqs.size(); from += BATCH_CHUNK_SIZE) {
+            createUserChunk(reqs, from, Math.min(from + BATCH_CHUNK_SIZE, reqs.size()), requestedEmails, results);
+        }
+
+        logger.info("UserService-createUsers-Created users");
+        return Arrays.asList(results);
+    }
+
+    private void createUserChunk(List<CreateUser.Req> reqs, int from, int to, Set<String> requestedEmails, CreateUsers.Result[] results) {
+        List<Integer> candidates = new ArrayList<>();
+        for (int i = from; i < to; i++) {
+            CreateUser.Req req = reqs.get(i);
+            String invalidReason = validateCreateUser(req);
+            if (invalidReason != null) {
+                results[i] = batchResult(i, req.getEmail(), null, BatchResult.INVALID, invalidReason);
+            } else if (!requestedEmails.add(req.getEmail())) {
+                results[i] = batchResult(i, req.getEmail(), null, BatchResult.DUPLICATE_EMAIL, "duplicated in request");
+            } else {
+                candidates.add(i);
+            }
+        }
+
+        Set<String> existingEmails = userRepository.findExistingEmails(
+                candidates.stream().map(i -> reqs.get(i).getEmail()).toList());
+
+        List<Integer> insertIndexes = new ArrayList<>();
+        for (int i : candidates) {
+            CreateUser.Req req = reqs.get(i);
+            if (existingEmails.contains(req.getEmail())) {
+                results[i] = batchResult(i, req.getEmail(), null, BatchResult.DUPLICATE_EMAIL, req.getEmail() + " already exists");
+                continue;
+            }
+
+            insertIndexes.add(i);
         }
 
-        if(!userRepository.existsByIdx(cursor)) {
-            logger.info("UserService-getAllUsers-Cursor does not exist");
-            throw new UserNotFoundException(cursor);
+        List<String> passwordHashes;
+        try {
+            passwordHashes = passwordHasher.hashAll(insertIndexes.stream().map(i -> reqs.get(i).getPassword()).toList());
+        } catch (PasswordHashingBusyException e) {
+            logger.warn("UserService-createUsers-Password hashing rejected : {}", e.getMessage());
+            for (int i : insertIndexes) {
+                results[i] = batchResult(i, reqs.get(i).getEmail(), null, BatchResult.FAILED, "password hashing busy");
+            }
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<UserEntity> userEntities = new ArrayList<>(insertIndexes.size());
+        for (int k = 0; k < insertIndexes.size(); k++) {
+            CreateUser.Req req = reqs.get(insertIndexes.get(k));
+            userEntities.add(UserEntity.builder()
+                    .email(req.getEmail())
+                    .password(passwordHashes.get(k))
+                    .name(req.getName())
+                    .status(Status.ACTIVE)
+                    .createdAt(now)
+                    .updatedAt(now)
+                    .build());
+        }
+
+        // 배치가 실패하면 한 행씩 다시 insert 하므로 커밋된 행은 항상 CREATED 로 보고
+        List<UserInsertResult> insertResults = userBatchRepository.insertAllOrEach(userEntities);
+
+        List<User> createdUsers = new ArrayList<>(insertIndexes.size());
+        for (int k = 0; k < insertIndexes.size(); k++) {
+            int i = insertIndexes.get(k);
+            UserEntity userEntity = userEntities.get(k);
+            UserInsertResult insertResult = insertResults.get(k);
+            if (insertResult.failure() instanceof DuplicateKeyException) {
+                results[i] = batchResult(i, userEntity.getEmail(), null, BatchResult.DUPLICATE_EMAIL, userEntity.getEmail() + " already exists");
+                continue;
+            }
+            if (!insertResult.isCreated()) {
+                logger.warn("UserService-createUsers-Insert failed {} : {}", userEntity.getEmail(),
+                        insertResult.failure().getMostSpecificCause().getMessage());
+                results[i] = batchResult(i, userEntity.getEmail(), null, BatchResult.FAILED, "insert failed");
+                continue;
+            }
+
+            User createdUser = User.builder()
+                    .idx(insertResult.idx())
+                    .email(userEntity.getEmail())
+                    .name(userEntity.getName())
+                    .status(userEntity.getStatus())
+                    .createAt(now)
+                    .updateAt(now)
+                    .build();
+
+            createdUsers.add(createdUser);
+            userPrefixIndex.put(createdUser.getIdx(), createdUser.getEmail(), createdUser.getName());
+            results[i] = batchResult(i, createdUser.getEmail(), createdUser.getIdx(), BatchResult.CREATED, null);
+        }
+
+        if (createdUsers.isEmpty()) {
+            return;
+        }
+
+        KafkaEvent kafkaEvent = KafkaEvent.builder()
+                .action(KafkaActions.CREATED)
+                .afterUsers(createdUsers)
+                .timestamp(LocalDateTime.now())
+                .build();
+
+        kafkaProducer.sendUserEvent(kafkaEvent);
+    }
+
+    private String validateCreateUser(CreateUser.Req req) {
+        if (req.getEmail() == null || !req.getEmail().contains("@")) {
+            return "invalid email";
+        }
+        if (req.getName() == null || req.getName().isBlank()) {
+            return "name is required";
+        }
+        if (req.getPassword() == null || req.getPassword().isBlank()) {
+            return "password is required";
         }
+        return null;
+    }
+
+    private CreateUsers.Result batchResult(int index, String email, Long idx, BatchResult result, String message) {
+        return CreateUsers.Result.builder()
+                .index(index)
+                .email(email)
+                .idx(idx)
+                .result(result)
+                .message(message)
+                .build();
+    }
 
+    @Override
+    @Transactional(readOnly = true)
+    public UserSlice getAllUsers(Long cursor, int pageSize) {
+        logger.info("UserService-getAllUsers-Getting all users");
         if(pageSize <= 0 || pageSize > 100) {
             pageSize = 15;
         }
 
-        Pageable pageable = PageRequest.of(0, pageSize);
-        List<User> users = User.fromEntityList(userRepository.findAllByOrderByIdxDesc(cursor, pageable));
+        // pageSize + 1 건을 조회하여 다음 페이지 존재 여부를 한 번의 쿼리로 판단
+        UserSlice userSlice = UserSlice.of(userRepository.findAllUsersByOrderByIdxDesc(cursor, pageSize + 1), pageSize);
 
         KafkaEvent kafkaEvent = KafkaEvent.builder()
                 .action(KafkaActions.GET_ALL_USERS)
@@ -88,18 +268,24 @@ public class UserServiceImpl implements UserService {
         kafkaProducer.sendUserEvent(kafkaEvent);
 
         logger.info("UserService-getAllUsers-Get all users");
-        return users;
+        return userSlice;
     }
 
+    // 캐시 miss 로 읽은 값은 모든 노드가 공유하는 L2에 적재되므로 replica 지연으로 변경 이전 행을 적재하지 않도록
+    // 트랜잭션 없이 primary 에서 조회, 대부분의 조회는 캐시에서 처리되므로 primary 부하는 miss 만큼
     @Override
     public User getUserByIdx(Long idx) {
         logger.info("UserService-getUserByIdx-Getting user {}", idx);
-        User user = userRepository.findById(idx)
-                .map(User::formEntity)
-                .orElseThrow(() -> {
-                    logger.info("UserService-getUserByIdx-User does not exist");
-                    return new UserNotFoundException(idx);
-                });
+        User user = userCache.get(idx).orElseGet(() -> {
+            User loadedUser = userRepository.findUserByIdx(idx)
+                    .orElseThrow(() -> {
+                        logger.info("UserService-getUserByIdx-User does not exist");
+                        return new UserNotFoundException(idx);
+                    });
+
+            userCache.put(loadedUser);
+            return loadedUser;
+        });
 
         KafkaEvent kafkaEvent = KafkaEvent.builder()
                 .action(KafkaActions.GET_USERS_BY_IDX)
@@ -114,24 +300,70 @@ public class UserServiceImpl implements UserService {
     }
 
     @Override
-    public List<User> getUsersByEmailStartWith(Long cursor, String email, int pageSize) {
-        logger.info("UserService-getUsersByEmailStartWith-Getting all users by email {}", email);
-        if(cursor == null) {
-            logger.info("UserService-getUsersByEmailStartWith-Cursor is null");
-            throw new UserNotFoundException();
+    @Transactional(readOnly = true)
+    public Optional<Long> getUserVersion(Long idx) {
+        // 조건부 조회는 전체 행을 읽지 않고 버전 컬럼만 확인
+        // L1 캐시는 다른 노드의 변경 무효화가 늦게 도착하면 이전 버전을 돌려주므로 304 판단에 사용하지 않음
+        return userRepository.findVersionByIdx(idx);
+    }
+
+    // 캐시 적재 경로이므로 getUserByIdx 와 같이 primary 에서 조회
+    @Override
+    public UserLookup getUsersByIdxList(List<Long> idxList) {
+        logger.info("UserService-getUsersByIdxList-Getting users {}", idxList.size());
+        // 중복 idx는 한 번만 조회하고 요청 순서는 유지
+        Set<Long> requestedIdx = new LinkedHashSet<>(idxList);
+        if (requestedIdx.size() > LOOKUP_MAX_SIZE) {
+            throw new IllegalArgumentException("A maximum of " + LOOKUP_MAX_SIZE + " users can be looked up at once");
+        }
+
+        Map<Long, User> foundUsers = userCache.getAll(requestedIdx);
+        List<Long> missedIdx = requestedIdx.stream()
+                .filter(idx -> !foundUsers.containsKey(idx))
+                .toList();
+        if (!missedIdx.isEmpty()) {
+            // 캐시에 없는 사용자는 IN 쿼리 한 번으로 조회
+            List<User> loadedUsers = userRepository.findUsersByIdxIn(missedIdx);
+            userCache.putAll(loadedUsers);
+            foundUsers.putAll(loadedUsers.stream().collect(Collectors.toMap(User::getIdx, Function.identity())));
         }
 
-        if(!userRepository.existsByIdx(cursor)) {
-            logger.info("UserService-getUsersByEmailStartWith-Cursor does not exist");
-            throw new UserNotFoundException(cursor);
+        List<User> users = new ArrayList<>(foundUsers.size());
+        List<Long> missingIdx = new ArrayList<>();
+        for (Long idx : requestedIdx) {
+            User user = foundUsers.get(idx);
+            if (user == null) {
+                missingIdx.add(idx);
+            } else {
+                users.add(user);
+            }
         }
 
+        KafkaEvent kafkaEvent = KafkaEvent.builder()
+                .action(KafkaActions.GET_USERS_BY_IDX_LIST)
+                .searchKeyword(requestedIdx.stream().map(String::valueOf).collect(Collectors.joining(",")))
+                .timestamp(LocalDateTime.now())
+                .build();
+
+        kafkaProducer.sendUserEvent(kafkaEvent);
+
+        logger.info("UserService-getUsersByIdxList-Get users {}, missing {}", users.size(), missingIdx.size());
+        return UserLookup.builder()
+                .users(users)
+                .missingIdx(missingIdx)
+                .build();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public UserSlice getUsersByEmailStartWith(Long cursor, String email, int pageSize) {
+        logger.info("UserService-getUsersByEmailStartWith-Getting all users by email {}", email);
         if(pageSize <= 0 || pageSize > 100) {
             pageSize = 15;
         }
 
-        Pageable pageable = PageRequest.of(0, pageSize);
-        List<User> users = User.fromEntityList(userRepository.findByEmailStartsWith(cursor, email, pageable));
+        // pageSize + 1 건을 조회하여 다음 페이지 존재 여부를 한 번의 쿼리로 판단
+        UserSlice userSlice = UserSlice.of(userRepository.findUsersByEmailStartsWith(cursor, email, pageSize + 1), pageSize);
 
         KafkaEvent kafkaEvent = KafkaEvent.builder()
                 .action(KafkaActions.GET_USERS_BY_EMAIL)
@@ -142,28 +374,19 @@ public class UserServiceImpl implements UserService {
         kafkaProducer.sendUserEvent(kafkaEvent);
 
         logger.info("UserService-getUsersByEmailStartWith-Get all users by email {}", email);
-        return users;
+        return userSlice;
     }
 
     @Override
-    public List<User> getUsersByNameStartWith(Long cursor, String name, int pageSize) {
+    @Transactional(readOnly = true)
+    public UserSlice getUsersByNameStartWith(Long cursor, String name, int pageSize) {
         logger.info("UserService-getUsersByNameStartWith-Getting all users by name {}", name);
-        if(cursor == null) {
-            logger.info("UserService-getUsersByNameStartWith-Cursor is null");
-            throw new UserNotFoundException();
-        }
-
-        if(!userRepository.existsByIdx(cursor)) {
-            logger.info("UserService-getUsersByNameStartWith-Cursor does not exist");
-            throw new UserNotFoundException(cursor);
-        }
-
         if(pageSize <= 0 || pageSize > 100) {
             pageSize = 15;
         }
 
-        Pageable pageable = PageRequest.of(0, pageSize);
-        List<User> users = User.fromEntityList(userRepository.findByNameStartsWith(cursor, name, pageable));
+        // pageSize + 1 건을 조회하여 다음 페이지 존재 여부를 한 번의 쿼리로 판단
+        UserSlice userSlice = UserSlice.of(userRepository.findUsersByNameStartsWith(cursor, name, pageSize + 1), pageSize);
 
         KafkaEvent kafkaEvent = KafkaEvent.builder()
                 .action(KafkaActions.GET_USERS_BY_NAME)
@@ -174,96 +397,143 @@ public class UserServiceImpl implements UserService {
         kafkaProducer.sendUserEvent(kafkaEvent);
 
         logger.info("UserService-getUsersByNameStartWith-Get all users by name {}", name);
-        return users;
+        return userSlice;
     }
 
     @Override
-    public User updateUser(Long idx, User user) {
-        logger.info("UserService-updateUser-Updating user {}", idx);
-        UserEntity userEntity = userRepository.findByIdx(idx)
-                .orElseThrow(() -> {
-                    logger.info("UserService-updateUser-User does not exist");
-                    return new UserNotFoundException(idx);
-                });
+    @Transactional
+    public long patchUser(Long idx, User user, Long expectedVersion) {
+        logger.info("UserService-patchUser-Patching user {}", idx);
+        if (user.getEmail() == null && user.getName() == null) {
+            logger.info("UserService-patchUser-Nothing to update");
+            throw new IllegalArgumentException("email or name is required");
+        }
 
-        User beforeUser = User.formEntity(userEntity);
-        User updatedUser = User.builder()
-                .idx(idx)
-                .email(user.getEmail())
-                .name(userEntity.getName())
-                .status(userEntity.getStatus())
-                .createAt(userEntity.getCreatedAt())
-                .updateAt(userEntity.getUpdatedAt())
-                .lastLoginIp(userEntity.getLastLoginIp())
-                .lastLoginAt(userEntity.getLastLoginAt())
-                .failedAttempts(userEntity.getFailedAttempts())
+        long updatedCount = updateProfile(idx, user, expectedVersion);
+
+        // 변경 후 전체 정보는 접두어 색인이나 이벤트 소비자가 필요할 때만 다시 조회
+        User updatedUser = readAfterWrite || userPrefixIndex.isEnabled()
+                ? userRepository.findUserByIdx(idx).orElseThrow(() -> new UserNotFoundException(idx))
+                : user;
+
+        KafkaEvent kafkaEvent = KafkaEvent.builder()
+                .action(KafkaActions.UPDATED)
+                .afterUser(readAfterWrite ? updatedUser : patchedFields(idx, user))
+                .timestamp(LocalDateTime.now())
                 .build();
 
+        AfterCommit.run("UserService-patchUser", () -> {
+            if (updatedUser != user) {
+                userPrefixIndex.put(idx, updatedUser.getEmail(), updatedUser.getName());
+            }
+            userCache.evict(idx);
+            kafkaProducer.sendUserEvent(kafkaEvent);
+        });
 
-        userRepository.save(updatedUser.toEntity());
+        logger.info("UserService-patchUser-Patched user {}", idx);
+        return updatedCount;
+    }
+
+    @Override
+    @Transactional
+    public User updateUser(Long idx, User user, Long expectedVersion) {
+        logger.info("UserService-updateUser-Updating user {}", idx);
+        updateProfile(idx, user, expectedVersion);
+
+        // 전체 정보를 응답하므로 변경 후 정보를 다시 조회
+        User updatedUser = userRepository.findUserByIdx(idx)
+                .orElseThrow(() -> new UserNotFoundException(idx));
 
         KafkaEvent kafkaEvent = KafkaEvent.builder()
                 .action(KafkaActions.UPDATED)
-                .beforeUser(beforeUser)
                 .afterUser(updatedUser)
                 .timestamp(LocalDateTime.now())
                 .build();
 
-        kafkaProducer.sendUserEvent(kafkaEvent);
+        AfterCommit.run("UserService-updateUser", () -> {
+            userCache.evict(idx);
+            userPrefixIndex.put(idx, updatedUser.getEmail(), updatedUser.getName());
+            kafkaProducer.sendUserEvent(kafkaEvent);
+        });
 
         logger.info("UserService-updateUser-Updated user {}", idx);
         return updatedUser;
     }
 
     @Override
+    @Transactional
     public User updatePassword(Long idx, String oldPassword, String newPassword) {
         logger.info("UserService-updatePassword-Updating password {}", idx);
-        UserEntity userEntity = userRepository.findByIdx(idx)
+        String password = userRepository.findPasswordByIdx(idx)
                 .orElseThrow(() -> {
                     logger.info("UserService-updatePassword-User does not exist");
                     return new UserNotFoundException(idx);
                 });
 
-        if (!userEntity.getPassword().equals(oldPassword)) {
+        if (!passwordHasher.matches(oldPassword, password)) {
             logger.info("UserService-updatePassword-Old password does not match");
             throw new IncorrectPasswordException();
         }
 
+        if (userRepository.updatePassword(idx, passwordHasher.hash(newPassword)) == 0) {
+            logger.info("UserService-updatePassword-User does not exist");
+            throw new UserNotFoundException(idx);
+        }
+
         User updatedUser = User.builder()
                 .idx(idx)
                 .build();
 
-        userRepository.save(updatedUser.toEntity(newPassword));
-
         KafkaEvent kafkaEvent = KafkaEvent.builder()
                 .action(KafkaActions.PASSWORD_UPDATED)
-                .beforeUser(User.formEntity(userEntity))
                 .afterUser(updatedUser)
                 .timestamp(LocalDateTime.now())
                 .build();
 
-        kafkaProducer.sendUserEvent(kafkaEvent);
+        AfterCommit.run("UserService-updatePassword", () -> {
+            userCache.evict(idx);
+            kafkaProducer.sendUserEvent(kafkaEvent);
+        });
 
         logger.info("UserService-updatePassword-Updated password {}", idx);
         return updatedUser;
     }
 
     @Override
+    @Async
+    @Transactional
+    public void upgradePasswordHash(Long idx, String rawPassword, String currentPassword) {
+        try {
+            String passwordHash = passwordHasher.hash(rawPassword);
+            // 그 사이 비밀번호가 바뀌었으면 변경하지 않음, 저장 형식만 바뀌므로 버전은 올리지 않음
+            if (userRepository.replacePassword(idx, currentPassword, passwordHash) == 0) {
+                logger.info("UserService-upgradePasswordHash-Password changed concurrently {}", idx);
+                return;
+            }
+            logger.info("UserService-upgradePasswordHash-Upgraded password hash {}", idx);
+        } catch (PasswordHashingBusyException | DataAccessException e) {
+            // 다음 로그인에서 다시 시도
+            logger.warn("UserService-upgradePasswordHash-Upgrade skipped {} : {}", idx, e.getMessage());
+        }
+    }
+
+    @Override
+    @Transactional
     public boolean deleteUser(Long idx) {
         logger.info("UserService-deleteUser-Deleting user {}", idx);
-        userRepository.findByIdx(idx)
-                .orElseThrow(() -> {
-                    logger.info("UserService-deleteUser-User does not exist");
-                    return new UserNotFoundException(idx);
-                });
+        if (userRepository.markDeleted(idx) == 0) {
+            logger.info("UserService-deleteUser-User does not exist");
+            throw new UserNotFoundException(idx);
+        }
 
         User deletedUser = User.builder()
                 .idx(idx)
                 .status(Status.DELETED)
                 .build();
 
-
-        userRepository.save(deletedUser.toEntity());
+        // 탈퇴한 사용자의 refresh 토큰 삭제, 실패하면 삭제를 롤백
+        refreshTokenStore.deleteAll(idx);
+        tokenRevocationList.revokeUser(idx);
 
         KafkaEvent kafkaEvent = KafkaEvent.builder()
                 .action(KafkaActions.DELETED)
@@ -271,10 +541,47 @@ public class UserServiceImpl implements UserService {
                 .timestamp(LocalDateTime.now())
                 .build();
 
-        kafkaProducer.sendUserEvent(kafkaEvent);
+        AfterCommit.run("UserService-deleteUser", () -> {
+            userCache.evict(idx);
+            userPrefixIndex.remove(idx);
+            // 남은 access 토큰은 인증 필터가 상태 비트맵으로 거절
+            userStatusBitmap.update(idx, Status.DELETED);
+            kafkaProducer.sendUserEvent(kafkaEvent);
+        });
 
         logger.info("UserService-deleteUser-Deleted user {}", idx);
         return true;
     }
 
+    // 삭제되지 않은 사용자의 이메일, 이름을 하나의 UPDATE 문으로 변경
+    private long updateProfile(Long idx, User user, Long expectedVersion) {
+        long updatedCount;
+        try {
+            updatedCount = userRepository.updateProfile(idx, user.getEmail(), user.getName(), expectedVersion);
+        } catch (DataIntegrityViolationException e) {
+            logger.info("UserService-updateProfile-Email already exists");
+            throw new EmailAlreadyExistsException(user.getEmail());
+        }
+
+        // 버전 조건으로 변경되지 않은 경우 사용자가 있으면 버전 불일치
+        if (updatedCount == 0 && expectedVersion != null && userRepository.findVersionByIdx(idx).isPresent()) {
+            logger.info("UserService-updateProfile-Version does not match {}", expectedVersion);
+            throw new UserVersionMismatchException(idx);
+        }
+
+        if (updatedCount == 0) {
+            logger.info("UserService-updateProfile-User does not exist");
+            throw new UserNotFoundException(idx);
+        }
+        return updatedCount;
+    }
+
+    private User patchedFields(Long idx, User user) {
+        return User.builder()
+                .idx(idx)
+                .email(user.getEmail())
+                .name(user.getName())
+                .build();
+    }
+
 }
@@ -0,0 +1,213 @@
+package com.trip.user.status;
+
+import java.util.Arrays;
+
+/**
+ * 사용자 idx 의 불변 압축 비트맵 (Roaring 방식)
+ * idx 의 상위 16비트로 65,536개 단위 구간을 나누고, 구간마다 4,096개 이하는 정렬된 char 배열(항목당 2바이트),
+ * 그보다 많으면 8KB 비트맵으로 저장합니다. 변경은 바뀐 구간과 구간 목록만 복사한 새 객체를 반환하므로
+ * 조회는 잠금과 객체 생성 없이 동작합니다. idx 는 0 ~ 2^32-1 범위만 저장합니다.
+ */
+final class IdxBitmap {
+
+    static final IdxBitmap EMPTY = new IdxBitmap(new Object[0], 0);
+
+    static final long MAX_IDX = 0xFFFF_FFFFL;
+
+    private static final int ARRAY_MAX_SIZE = 4096;
+    private static final int BITMAP_WORDS = 1024;
+    // 압축 참조 기준 배열 헤더 16바이트, 참조 4바이트
+    private static final long ARRAY_HEADER_BYTES = 16;
+    private static final long REFERENCE_BYTES = 4;
+
+    // 구간별 저장소: null, char[] (정렬), long[1024]
+    private final Object[] containers;
+    private final long cardinality;
+
+    private IdxBitmap(Object[] containers, long cardinality) {
+        this.containers = containers;
+        this.cardinality = cardinality;
+    }
+
+    boolean contains(long idx) {
+        if (idx < 0 || idx > MAX_IDX) {
+            return false;
+        }
+
+        int high = (int) (idx >>> 16);
+        if (high >= containers.length) {
+            return false;
+        }
+
+        char low = (char) idx;
+        Object container = containers[high];
+        if (container instanceof long[] bits) {
+            return (bits[low >>> 6] & (1L << low)) != 0;
+        }
+        if (container instanceof char[] values) {
+            return Arrays.binarySearch(values, low) >= 0;
+        }
+        return false;
+    }
+
+    /**
+     * @return idx 를 추가한 비트맵, 이미 있으면 자기 자신
+     * @throws IllegalArgumentException idx 가 0 ~ 2^32-1 범위를 벗어난 경우
+     */
+    IdxBitmap with(long idx) {
+        if (idx < 0 || idx > MAX_IDX) {
+            throw new IllegalArgumentException("idx out of range: " + idx);
+        }
+        if (contains(idx)) {
+            return this;
+        }
+
+        int high = (int) (idx >>> 16);
+        char low = (char) idx;
+        Object[] copied = Arrays.copyOf(containers, Math.max(containers.length, high + 1));
+        Object container = copied[high];
+
+        if (container instanceof long[] bits) {
+            long[] added = bits.clone();
+            added[low >>> 6] |= 1L << low;
+            copied[high] = added;
+        } else if (container instanceof char[] values && values.length >= ARRAY_MAX_SIZE) {
+            long[] added = toBitmap(values);
+            added[low >>> 6] |= 1L << low;
+            copied[high] = added;
+        } else {
+            char[] values = container == null ? new char[0] : (char[]) container;
+            int insertAt = -Arrays.binarySearch(values, low) - 1;
+            char[] added = new char[values.length + 1];
+            System.arraycopy(values, 0, added, 0, insertAt);
+            added[insertAt] = low;
+            System.arraycopy(values, insertAt, added, insertAt + 1, values.length - insertAt);
+            copied[high] = added;
+        }
+        return new IdxBitmap(copied, cardinality + 1);
+    }
+
+    /**
+     * @return idx 를 제거한 비트맵, 없으면 자기 자신
+     */
+    IdxBitmap without(long idx) {
+        if (!contains(idx)) {
+            return this;
+        }
+
+        int high = (int) (idx >>> 16);
+        char low = (char) idx;
+        Object[] copied = containers.clone();
+
+        if (copied[high] instanceof long[] bits) {
+            long[] removed = bits.clone();
+            removed[low >>> 6] &= ~(1L << low);
+            copied[high] = compact(removed);
+        } else {
+            char[] values = (char[]) copied[high];
+            int removeAt = Arrays.binarySearch(values, low);
+            char[] removed = new char[values.length - 1];
+            System.arraycopy(values, 0, removed, 0, removeAt);
+            System.arraycopy(values, removeAt + 1, removed, removeAt, values.length - removeAt - 1);
+            copied[high] = removed.length == 0 ? null : removed;
+        }
+        return new IdxBitmap(copied, cardinality - 1);
+    }
+
+    long cardinality() {
+        return cardinality;
+    }
+
+    /**
+     * 구간 목록과 구간별 배열의 힙 사용량 (객체 헤더 포함)
+     */
+    long sizeInBytes() {
+        long bytes = ARRAY_HEADER_BYTES + containers.length * REFERENCE_BYTES;
+        for (Object container : containers) {
+            if (container instanceof long[] bits) {
+                bytes += ARRAY_HEADER_BYTES + bits.length * 8L;
+            } else if (container instanceof char[] values) {
+                bytes += ARRAY_HEADER_BYTES + (values.length * 2L + 7) / 8 * 8;
+            }
+        }
+        return bytes;
+    }
+
+    private static long[] toBitmap(char[] values) {
+        long[] bits = new long[BITMAP_WORDS];
+        for (char value : values) {
+            bits[value >>> 6] |= 1L << value;
+        }
+        return bits;
+    }
+
+    // 항목 수가 배열 한도 이하로 줄어든 비트맵 구간은 배열로 되돌림
+    private static Object compact(long[] bits) {
+        int count = 0;
+        for (long word : bits) {
+            count += Long.bitCount(word);
+        }
+        if (count > ARRAY_MAX_SIZE) {
+            return bits;
+        }
+        if (count == 0) {
+            return null;
+        }
+
+        char[] values = new char[count];
+        int i = 0;
+        for (int word = 0; word < bits.length; word++) {
+            long remaining = bits[word];
+            while (remaining != 0) {
+                values[i++] = (char) (word * 64 + Long.numberOfTrailingZeros(remaining));
+                remaining &= remaining - 1;
+            }
+        }
+        return values;
+    }
+
+    /**
+     * 기동 시 대량 적재용 빌더, 순서와 관계없이 추가하고 마지막에 구간별로 압축합니다.
+     * 스레드 안전하지 않습니다.
+     */
+    static final class Builder {
+
+        private long[][] bits = new long[0][];
+
+        Builder add(long idx) {
+            if (idx < 0 || idx > MAX_IDX) {
+                throw new IllegalArgumentException("idx out of range: " + idx);
+            }
+
+            int high = (int) (idx >>> 16);
+            if (high >= bits.length) {
+                bits = Arrays.copyOf(bits, Math.max(high + 1, bits.length * 2));
+            }
+            if (bits[high] == null) {
+                bits[high] = new long[BITMAP_WORDS];
+            }
+            bits[high][(char) idx >>> 6] |= 1L << idx;
+            return this;
+        }
+
+        IdxBitmap build() {
+            int length = bits.length;
+            while (length > 0 && bits[length - 1] == null) {
+                length--;
+            }
+
+            Object[] containers = new Object[length];
+            long cardinality = 0;
+            for (int high = 0; high < length; high++) {
+                if (bits[high] == null) {
+                    continue;
+                }
+                for (long word : bits[high]) {
+                    cardinality += Long.bitCount(word);
+                }
+                containers[high] = compact(bits[high]);
+            }
+            return new IdxBitmap(containers, cardinality);
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.trip.user.status;
+
+import com.trip.user.code.Status;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Set;
+
+/**
+ * ACTIVE 가 아닌 사용자(INACTIVE, SUSPENDED, DELETED) idx 의 메모리 비트맵
+ * 인증 필터가 요청마다 DB 조회 없이 사용자 상태를 확인합니다.
+ * 기동 시 DB 에서 적재하고, 이 노드의 상태 변경과 회원 이벤트 스트림으로 갱신합니다.
+ * 조회는 현재 스냅샷을 잠금 없이 읽고, 변경은 직렬화하여 바뀐 구간만 복사한 새 스냅샷으로 교체합니다.
+ */
+@Component
+public class UserStatusBitmap {
+
+    private volatile IdxBitmap inactive = IdxBitmap.EMPTY;
+    private volatile boolean ready;
+
+    private final Object lock = new Object();
+    // 적재 중 변경된 사용자, 적재 결과보다 변경을 우선
+    private Set<Long> changedWhileLoading;
+
+    public UserStatusBitmap(MeterRegistry meterRegistry) {
+        Gauge.builder("member.user.status-bitmap.users", this, bitmap -> bitmap.inactive.cardinality())
+                .register(meterRegistry);
+        Gauge.builder("member.user.status-bitmap.memory", this, bitmap -> bitmap.inactive.sizeInBytes())
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 객체를 만들지 않고 현재 스냅샷에서 확인합니다.
+     *
+     * @param idx 사용자 고유 식별자 정보
+     * @return ACTIVE 가 아닌 사용자이면 {@code true}, 적재 전에는 변경이 반영된 사용자만 {@code true}
+     */
+    public boolean isInactive(long idx) {
+        return inactive.contains(idx);
+    }
+
+    /**
+     * 사용자 상태 변경을 반영합니다.
+     *
+     * @param idx    사용자 고유 식별자 정보
+     * @param status 변경 후 상태
+     */
+    public void update(Long idx, Status status) {
+        if (idx == null || status == null || idx < 0 || idx > IdxBitmap.MAX_IDX) {
+            return;
+        }
+
+        synchronized (lock) {
+            inactive = status == Status.ACTIVE ? inactive.without(idx) : inactive.with(idx);
+            if (changedWhileLoading != null) {
+                changedWhileLoading.add(idx);
+            }
+        }
+    }
+
+    /**
+     * DB 에서 조회한 ACTIVE 가 아닌 사용자로 비트맵을 만듭니다. 적재 중 반영된 변경은 유지합니다.
+     *
+     * @param inactiveIdx ACTIVE 가 아닌 사용자 idx
+     */
+    public void load(Iterator<Long> inactiveIdx) {
+        synchronized (lock) {
+            changedWhileLoading = new HashSet<>();
+        }
+
+        IdxBitmap loaded;
+        try {
+            IdxBitmap.Builder builder = new IdxBitmap.Builder();
+            while (inactiveIdx.hasNext()) {
+                builder.add(inactiveIdx.next());
+            }
+            loaded = builder.build();
+        } catch (RuntimeException e) {
+            synchronized (lock) {
+                changedWhileLoading = null;
+            }
+            throw e;
+        }
+
+        synchronized (lock) {
+            for (Long idx : changedWhileLoading) {
+                loaded = inactive.contains(idx) ? loaded.with(idx) : loaded.without(idx);
+            }
+            changedWhileLoading = null;
+            inactive = loaded;
+            ready = true;
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public long size() {
+        return inactive.cardinality();
+    }
+
+    public long sizeInBytes() {
+        return inactive.sizeInBytes();
+    }
+}
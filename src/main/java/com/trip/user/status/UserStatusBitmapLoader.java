@@ -0,0 +1,50 @@
+package com.trip.user.status;
+
+import com.trip.user.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.stream.Stream;
+
+/**
+ * 시작 시 ACTIVE 가 아닌 사용자 idx 를 한 번의 커서 조회로 읽어 {@link UserStatusBitmap}에 적재합니다.
+ * 적재에 실패하면 이 노드의 변경과 이벤트로 반영된 사용자만 거절합니다.
+ */
+@Component
+public class UserStatusBitmapLoader implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserStatusBitmapLoader.class);
+
+    private final UserStatusBitmap userStatusBitmap;
+    private final UserRepository userRepository;
+    private final int fetchSize;
+
+    public UserStatusBitmapLoader(UserStatusBitmap userStatusBitmap,
+                                  UserRepository userRepository,
+                                  @Value("${member.user.status-bitmap.fetch-size:10000}") int fetchSize) {
+        this.userStatusBitmap = userStatusBitmap;
+        this.userRepository = userRepository;
+        this.fetchSize = fetchSize;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void run(ApplicationArguments args) {
+        long startedAt = System.currentTimeMillis();
+        try (Stream<Long> inactiveIdx = userRepository.streamInactiveIdx(fetchSize)) {
+            userStatusBitmap.load(inactiveIdx.iterator());
+        } catch (DataAccessException e) {
+            logger.error("UserStatusBitmapLoader-run-Status bitmap load failed", e);
+            return;
+        }
+
+        logger.info("UserStatusBitmapLoader-run-Loaded {} users ({} bytes) in {} ms",
+                userStatusBitmap.size(), userStatusBitmap.sizeInBytes(), System.currentTimeMillis() - startedAt);
+    }
+}
@@ -0,0 +1,75 @@
+package com.trip.user.status;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.trip.kafka.code.KafkaActions;
+import com.trip.kafka.code.KafkaTopics;
+import com.trip.user.code.Status;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 회원 이벤트 스트림의 사용자 상태를 {@link UserStatusBitmap}에 반영합니다.
+ * 모든 노드가 모든 이벤트를 받아야 하므로 노드마다 다른 consumer group 을 사용합니다.
+ * 다른 서비스나 노드에서 바뀐 상태(정지, 탈퇴 등)도 이 경로로 반영됩니다.
+ * 로그인, 토큰 갱신 등 다른 이벤트의 사용자 정보는 변경 이전에 읽은 값일 수 있으므로 생성, 변경, 탈퇴 이벤트만 반영합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserStatusEventListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserStatusEventListener.class);
+
+    private final UserStatusBitmap userStatusBitmap;
+    private final ObjectMapper objectMapper;
+
+    @KafkaListener(topics = KafkaTopics.MEMBER_EVENTS,
+            groupId = "${member.user.status-bitmap.consumer-group:member-status-${member.instance-id}}")
+    public void consumeMessage(String message) {
+        JsonNode event;
+        try {
+            event = objectMapper.readTree(message);
+        } catch (JsonProcessingException e) {
+            logger.warn("UserStatusEventListener-consumeMessage-Invalid message : {}", e.getMessage());
+            return;
+        }
+
+        KafkaActions action;
+        try {
+            action = KafkaActions.valueOf(event.path("action").asText());
+        } catch (IllegalArgumentException e) {
+            return;
+        }
+
+        // 탈퇴 이벤트는 beforeUser 에, 생성, 변경은 afterUser(또는 afterUsers)에 변경 후 상태가 담김
+        switch (action) {
+            case CREATED -> {
+                apply(event.path("afterUser"));
+                event.path("afterUsers").forEach(this::apply);
+            }
+            case UPDATED -> apply(event.path("afterUser"));
+            case DELETED -> apply(event.path("beforeUser"));
+            default -> {
+                // 조회, 인증 이벤트의 상태는 이전 값일 수 있으므로 무시
+            }
+        }
+    }
+
+    private void apply(JsonNode user) {
+        JsonNode idx = user.path("idx");
+        JsonNode status = user.path("status");
+        if (!idx.canConvertToLong() || !status.isTextual()) {
+            return;
+        }
+
+        try {
+            userStatusBitmap.update(idx.asLong(), Status.valueOf(status.asText()));
+        } catch (IllegalArgumentException e) {
+            logger.warn("UserStatusEventListener-apply-Unknown status {} : {}", idx.asLong(), status.asText());
+        }
+    }
+}
@@ -1,5 +1,6 @@
 -- Drop table if exists
 DROP TABLE IF EXISTS users;
+DROP TABLE IF EXISTS users_archive;
 
 -- Create table
 CREATE TABLE users
@@ -11,7 +12,32 @@ CREATE TABLE users
     status          VARCHAR(50) DEFAULT 'ACTIVE',                                      -- Status (default to 'ACTIVE')
     created_at      TIMESTAMP   DEFAULT CURRENT_TIMESTAMP,                             -- Creation timestamp
     updated_at      TIMESTAMP   DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP, -- Last update timestamp
-    last_login_ip   VARCHAR(16),                                                       -- Last login device ip
+    last_login_ip   VARCHAR(45),                                                       -- Last login device ip (IPv6)
     last_login_at   TIMESTAMP   DEFAULT CURRENT_TIMESTAMP,                             -- Last login timestamp
-    failed_attempts INT         DEFAULT 0                                              -- Login failed attempts (default to 0)
+    failed_attempts INT         DEFAULT 0,                                             -- Login failed attempts (default to 0)
+    version         BIGINT      DEFAULT 0 NOT NULL                                     -- Row version, incremented on every write (ETag)
 );
+
+-- Cursor pages (idx < ? ORDER BY idx DESC) walk this index in order without a sort; status sits next to idx for the DELETED filter
+CREATE INDEX idx_users_idx_desc_status ON users (idx DESC, status);
+-- Name prefix search (name LIKE 'x%') followed by the idx cursor
+CREATE INDEX idx_users_name_idx ON users (name, idx);
+-- Archive job (status = 'DELETED' AND updated_at < ?)
+CREATE INDEX idx_users_status_updated_at ON users (status, updated_at);
+
+-- Archive table for soft-deleted users past the retention window (password is not archived)
+CREATE TABLE users_archive
+(
+    idx             BIGINT PRIMARY KEY,                                                -- Original user idx
+    email           VARCHAR(255) NOT NULL,                                             -- Email (not unique, may be re-registered)
+    name            VARCHAR(100) NOT NULL,                                             -- User name
+    status          VARCHAR(50)  NOT NULL,                                             -- Status at archive time
+    created_at      TIMESTAMP,                                                         -- Creation timestamp
+    updated_at      TIMESTAMP,                                                         -- Deletion timestamp
+    last_login_ip   VARCHAR(45),                                                       -- Last login device ip (IPv6)
+    last_login_at   TIMESTAMP,                                                         -- Last login timestamp
+    failed_attempts INT         DEFAULT 0,                                             -- Login failed attempts
+    archived_at     TIMESTAMP   DEFAULT CURRENT_TIMESTAMP                              -- Archive timestamp
+);
+
+CREATE INDEX idx_users_archive_email ON users_archive (email);
@@ -0,0 +1,72 @@
+package com.trip;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 부하 비교 테스트용 HTTP 부하 생성기
+ * 연결 하나를 가상 스레드 하나가 맡아 응답을 받을 때마다 다시 요청하고, 처리량과 p99 응답 시간을 계산합니다.
+ */
+final class LoadGenerator {
+
+    private LoadGenerator() {
+    }
+
+    static Result run(Supplier<HttpRequest> requests, int concurrency, Duration duration) throws InterruptedException {
+        Queue<long[]> latencies = new ConcurrentLinkedQueue<>();
+        AtomicLong errors = new AtomicLong();
+        long startedAt = System.nanoTime();
+        long deadline = startedAt + duration.toNanos();
+
+        // 요청 스레드가 모두 끝난 뒤 HttpClient 를 닫도록 HttpClient 를 먼저 선언
+        try (HttpClient httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+             ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < concurrency; i++) {
+                clients.submit(() -> {
+                    List<Long> clientLatencies = new ArrayList<>();
+                    while (System.nanoTime() < deadline) {
+                        long requestedAt = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = httpClient.send(requests.get(), HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() == 200) {
+                                clientLatencies.add(System.nanoTime() - requestedAt);
+                            } else {
+                                errors.incrementAndGet();
+                            }
+                        } catch (IOException e) {
+                            errors.incrementAndGet();
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            break;
+                        }
+                    }
+                    latencies.add(clientLatencies.stream().mapToLong(Long::longValue).toArray());
+                });
+            }
+        }
+
+        long elapsedNanos = System.nanoTime() - startedAt;
+        long[] sorted = latencies.stream().flatMapToLong(Arrays::stream).sorted().toArray();
+        long p99Nanos = sorted.length == 0 ? 0 : sorted[(int) Math.ceil(sorted.length * 0.99) - 1];
+        return new Result(sorted.length, errors.get(), sorted.length * 1_000_000_000.0 / elapsedNanos, p99Nanos / 1_000_000);
+    }
+
+    record Result(long completed, long errors, double throughput, long p99Millis) {
+
+        String format() {
+            return String.format("%,9.0f req/s, p99 %,6d ms, errors %,d", throughput, p99Millis, errors);
+        }
+    }
+}
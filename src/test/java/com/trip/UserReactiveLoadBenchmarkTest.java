@@ -0,0 +1,91 @@
+package com.trip;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 블로킹 MVC 조회 API 와 리액티브 조회 API 의 처리량과 p99 응답 시간 비교
+ * 임의의 사용자 단건 조회와 목록 조회를 동시 연결 1k, 5k 로 호출합니다.
+ * 캐시 효과를 줄이기 위해 L1 캐시 크기를 작게 두며, 로컬 Redis, Kafka 가 필요합니다. ./gradlew benchmark 로 실행합니다.
+ */
+@Tag("benchmark")
+class UserReactiveLoadBenchmarkTest {
+
+    private static final int[] CONCURRENCY = {1_000, 5_000};
+    private static final int USER_COUNT = 100_000;
+    private static final Duration WARMUP = Duration.ofSeconds(5);
+    private static final Duration MEASURE = Duration.ofSeconds(20);
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    @Test
+    void compareBlockingAndReactiveControllers() throws InterruptedException {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(MemberApplication.class)
+                .properties(
+                        "server.port=0",
+                        "member.cache.user.local.maximum-size=1000",
+                        "logging.level.root=WARN",
+                        "logging.level.org.springframework.jdbc.core=WARN")
+                .run()) {
+            seedUsers(context.getBean(JdbcTemplate.class));
+            String baseUrl = "http://localhost:" + ((WebServerApplicationContext) context).getWebServer().getPort();
+
+            for (int concurrency : CONCURRENCY) {
+                compare("lookup", concurrency,
+                        randomUser(baseUrl + "/apiv1/user/"),
+                        randomUser(baseUrl + "/apiv1/reactive/user/"));
+                compare("list", concurrency,
+                        fixed(baseUrl + "/apiv1/user?pageSize=100"),
+                        fixed(baseUrl + "/apiv1/reactive/user?limit=100"));
+            }
+        }
+    }
+
+    private void compare(String name, int concurrency, Supplier<HttpRequest> blocking, Supplier<HttpRequest> reactive) throws InterruptedException {
+        LoadGenerator.run(blocking, concurrency, WARMUP);
+        LoadGenerator.Result blockingResult = LoadGenerator.run(blocking, concurrency, MEASURE);
+        LoadGenerator.run(reactive, concurrency, WARMUP);
+        LoadGenerator.Result reactiveResult = LoadGenerator.run(reactive, concurrency, MEASURE);
+
+        System.out.printf("%-6s blocking %,5d connections : %s%n", name, concurrency, blockingResult.format());
+        System.out.printf("%-6s reactive %,5d connections : %s%n", name, concurrency, reactiveResult.format());
+        assertTrue(blockingResult.completed() > 0);
+        assertTrue(reactiveResult.completed() > 0);
+    }
+
+    private Supplier<HttpRequest> randomUser(String url) {
+        return () -> request(url + ThreadLocalRandom.current().nextInt(1, USER_COUNT + 1));
+    }
+
+    private Supplier<HttpRequest> fixed(String url) {
+        HttpRequest request = request(url);
+        return () -> request;
+    }
+
+    private HttpRequest request(String url) {
+        return HttpRequest.newBuilder(URI.create(url))
+                .timeout(REQUEST_TIMEOUT)
+                .GET()
+                .build();
+    }
+
+    private void seedUsers(JdbcTemplate jdbcTemplate) {
+        jdbcTemplate.update("""
+                INSERT INTO users (email, password, name, status, created_at, updated_at, last_login_ip, last_login_at, failed_attempts)
+                SELECT CONCAT('user', X, '@bench.com'), 'password', CONCAT('User ', X), 'ACTIVE',
+                       CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, '127.0.0.1', CURRENT_TIMESTAMP, 0
+                FROM SYSTEM_RANGE(1, ?)
+                """, USER_COUNT);
+    }
+}
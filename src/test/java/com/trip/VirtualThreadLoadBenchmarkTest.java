@@ -0,0 +1,67 @@
+package com.trip;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 플랫폼 스레드 모드와 가상 스레드 모드에서 동시 연결 1k, 5k 일 때 처리량과 p99 응답 시간 비교
+ * 애플리케이션을 모드별로 띄우고 목록 조회 API(H2 조회 + Kafka 전송)를 연결마다 반복 호출합니다.
+ * bootRun 과 마찬가지로 로컬 Redis, Kafka 가 필요하며 ./gradlew benchmark 로 실행합니다.
+ */
+@Tag("benchmark")
+class VirtualThreadLoadBenchmarkTest {
+
+    private static final int[] CONCURRENCY = {1_000, 5_000};
+    private static final int USER_COUNT = 10_000;
+    private static final Duration WARMUP = Duration.ofSeconds(5);
+    private static final Duration MEASURE = Duration.ofSeconds(20);
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    @Test
+    void comparePlatformAndVirtualThreads() throws InterruptedException {
+        for (boolean virtualThreads : new boolean[]{false, true}) {
+            try (ConfigurableApplicationContext context = new SpringApplicationBuilder(MemberApplication.class)
+                    .properties(
+                            "server.port=0",
+                            "spring.threads.virtual.enabled=" + virtualThreads,
+                            "logging.level.root=WARN",
+                            "logging.level.org.springframework.jdbc.core=WARN")
+                    .run()) {
+                seedUsers(context.getBean(JdbcTemplate.class));
+                int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+                HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/apiv1/user?pageSize=15"))
+                        .timeout(REQUEST_TIMEOUT)
+                        .GET()
+                        .build();
+
+                for (int concurrency : CONCURRENCY) {
+                    LoadGenerator.run(() -> request, concurrency, WARMUP);
+                    LoadGenerator.Result result = LoadGenerator.run(() -> request, concurrency, MEASURE);
+
+                    System.out.printf("%-8s %,5d connections : %s%n",
+                            virtualThreads ? "virtual" : "platform", concurrency, result.format());
+                    assertTrue(result.completed() > 0);
+                }
+            }
+        }
+    }
+
+    private void seedUsers(JdbcTemplate jdbcTemplate) {
+        jdbcTemplate.update("""
+                INSERT INTO users (email, password, name, status, created_at, updated_at, last_login_ip, last_login_at, failed_attempts)
+                SELECT CONCAT('user', X, '@bench.com'), 'password', CONCAT('User ', X), 'ACTIVE',
+                       CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, '127.0.0.1', CURRENT_TIMESTAMP, 0
+                FROM SYSTEM_RANGE(1, ?)
+                """, USER_COUNT);
+    }
+}
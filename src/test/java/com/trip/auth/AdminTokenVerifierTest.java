@@ -0,0 +1,34 @@
+package com.trip.auth;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdminTokenVerifierTest {
+
+    @Test
+    void matches_ConfiguredToken_RequiresSameHeader() {
+        AdminTokenVerifier adminTokenVerifier = new AdminTokenVerifier("admin-secret");
+
+        assertTrue(adminTokenVerifier.matches(request("admin-secret")));
+        assertFalse(adminTokenVerifier.matches(request("admin-secret-2")));
+        assertFalse(adminTokenVerifier.matches(request(null)));
+    }
+
+    @Test
+    void matches_TokenNotConfigured_RejectsAll() {
+        AdminTokenVerifier adminTokenVerifier = new AdminTokenVerifier("");
+
+        assertFalse(adminTokenVerifier.matches(request("")));
+        assertFalse(adminTokenVerifier.matches(request(null)));
+    }
+
+    private MockHttpServletRequest request(String token) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/apiv1/admin/user/export");
+        if (token != null) {
+            request.addHeader(AdminTokenVerifier.HEADER, token);
+        }
+        return request;
+    }
+}
@@ -0,0 +1,120 @@
+package com.trip.auth;
+
+import com.trip.auth.revocation.TokenRevocationList;
+import com.trip.user.code.Status;
+import com.trip.user.status.UserStatusBitmap;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class JwtAuthenticationFilterTest {
+
+    private JwtTokenProvider jwtTokenProvider;
+    private TokenRevocationList tokenRevocationList;
+    private UserStatusBitmap userStatusBitmap;
+    private JwtAuthenticationFilter jwtAuthenticationFilter;
+
+    @BeforeEach
+    void setUp() {
+        jwtTokenProvider = spy(new JwtTokenProvider(new JwtKeyRing("", "")));
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        tokenRevocationList = new TokenRevocationList(mock(StringRedisTemplate.class, RETURNS_DEEP_STUBS), meterRegistry, Duration.ofMinutes(15), 1000, 0.01);
+        JwtClaimsCache jwtClaimsCache = new JwtClaimsCache(jwtTokenProvider, tokenRevocationList, meterRegistry, 100, Duration.ofMinutes(5));
+        userStatusBitmap = new UserStatusBitmap(meterRegistry);
+        jwtAuthenticationFilter = new JwtAuthenticationFilter(jwtClaimsCache, userStatusBitmap, List.of("/apiv1/auth/login", "/h2/**"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void doFilter_BearerToken_SetsAuthentication() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/apiv1/user/1");
+        request.addHeader(HttpHeaders.AUTHORIZATION, "Bearer " + jwtTokenProvider.generateAccessToken(1L));
+
+        jwtAuthenticationFilter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        assertEquals("1", SecurityContextHolder.getContext().getAuthentication().getPrincipal());
+        verify(jwtTokenProvider, times(1)).parseClaims(anyString());
+    }
+
+    @Test
+    void doFilter_PublicPath_SkipsParsing() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/apiv1/auth/login");
+        request.addHeader(HttpHeaders.AUTHORIZATION, "Bearer invalid");
+        MockFilterChain filterChain = new MockFilterChain();
+
+        jwtAuthenticationFilter.doFilter(request, new MockHttpServletResponse(), filterChain);
+
+        assertNotNull(filterChain.getRequest());
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+        verify(jwtTokenProvider, never()).parseClaims(anyString());
+    }
+
+    @Test
+    void doFilter_RevokedToken_ThrowsWithoutSettingAuthentication() throws Exception {
+        String token = jwtTokenProvider.generateAccessToken(1L);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/apiv1/user/1");
+        request.addHeader(HttpHeaders.AUTHORIZATION, "Bearer " + token);
+
+        // 캐시에 claims 가 있어도 폐기된 토큰은 거절
+        jwtAuthenticationFilter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        SecurityContextHolder.clearContext();
+        tokenRevocationList.revoke(token, jwtTokenProvider.parseClaims(token).getExpiration());
+
+        assertThrows(JwtException.class,
+                () -> jwtAuthenticationFilter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain()));
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+    }
+
+    @Test
+    void doFilter_InactiveUser_RespondsUnauthorized() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/apiv1/user/1");
+        request.addHeader(HttpHeaders.AUTHORIZATION, "Bearer " + jwtTokenProvider.generateAccessToken(1L));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain filterChain = new MockFilterChain();
+
+        userStatusBitmap.update(1L, Status.SUSPENDED);
+        jwtAuthenticationFilter.doFilter(request, response, filterChain);
+
+        assertEquals(HttpServletResponse.SC_UNAUTHORIZED, response.getStatus());
+        assertNull(filterChain.getRequest());
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+    }
+
+    @Test
+    void doFilter_NonNumericSubject_RespondsUnauthorized() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/apiv1/user/1");
+        request.addHeader(HttpHeaders.AUTHORIZATION, "Bearer token");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain filterChain = new MockFilterChain();
+        doReturn(Jwts.claims().setSubject("admin").setExpiration(new Date(System.currentTimeMillis() + 60_000)))
+                .when(jwtTokenProvider).parseClaims("token");
+
+        jwtAuthenticationFilter.doFilter(request, response, filterChain);
+
+        assertEquals(HttpServletResponse.SC_UNAUTHORIZED, response.getStatus());
+        assertNull(filterChain.getRequest());
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+    }
+}
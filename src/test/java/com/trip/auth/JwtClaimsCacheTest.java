@@ -0,0 +1,79 @@
+package com.trip.auth;
+
+import com.trip.auth.revocation.TokenRevocationList;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class JwtClaimsCacheTest {
+
+    private final AtomicLong nanos = new AtomicLong();
+    private SimpleMeterRegistry meterRegistry;
+    private JwtTokenProvider jwtTokenProvider;
+    private TokenRevocationList tokenRevocationList;
+    private JwtClaimsCache jwtClaimsCache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        jwtTokenProvider = spy(new JwtTokenProvider(new JwtKeyRing("", "")));
+        tokenRevocationList = new TokenRevocationList(mock(StringRedisTemplate.class, RETURNS_DEEP_STUBS), meterRegistry, Duration.ofMinutes(15), 1000, 0.01);
+        jwtClaimsCache = new JwtClaimsCache(jwtTokenProvider, tokenRevocationList, meterRegistry, 100, Duration.ofHours(1), nanos::get);
+    }
+
+    @Test
+    void getVerifiedClaims_SameToken_ParsesOnce() {
+        String token = jwtTokenProvider.generateAccessToken(1L);
+
+        Claims first = jwtClaimsCache.getVerifiedClaims(token);
+        Claims second = jwtClaimsCache.getVerifiedClaims(token);
+
+        assertEquals("1", first.getSubject());
+        assertSame(first, second);
+        verify(jwtTokenProvider, times(1)).parseClaims(token);
+        assertEquals(1, meterRegistry.get("member.jwt.verify").timer().count());
+    }
+
+    @Test
+    void getVerifiedClaims_AfterTokenExp_ParsesAgain() {
+        String token = jwtTokenProvider.generateAccessToken(1L);
+        jwtClaimsCache.getVerifiedClaims(token);
+
+        // 액세스 토큰 유효 시간(15분)이 지나면 max-ttl 이 남아 있어도 캐시에서 제거됨
+        nanos.addAndGet(Duration.ofMinutes(16).toNanos());
+        jwtClaimsCache.getVerifiedClaims(token);
+
+        verify(jwtTokenProvider, times(2)).parseClaims(token);
+    }
+
+    @Test
+    void getVerifiedClaims_InvalidToken_ThrowsAndNotCached() {
+        String token = jwtTokenProvider.generateAccessToken(1L) + "x";
+
+        assertThrows(JwtException.class, () -> jwtClaimsCache.getVerifiedClaims(token));
+        assertThrows(JwtException.class, () -> jwtClaimsCache.getVerifiedClaims(token));
+
+        verify(jwtTokenProvider, times(2)).parseClaims(token);
+        assertEquals(2, meterRegistry.get("member.jwt.invalid").counter().count());
+    }
+
+    @Test
+    void getVerifiedClaims_RevokedAfterCached_Throws() {
+        String token = jwtTokenProvider.generateAccessToken(1L);
+        Claims claims = jwtClaimsCache.getVerifiedClaims(token);
+
+        tokenRevocationList.revoke(token, claims.getExpiration());
+
+        assertThrows(JwtException.class, () -> jwtClaimsCache.getVerifiedClaims(token));
+        verify(jwtTokenProvider, times(1)).parseClaims(token);
+    }
+}
@@ -0,0 +1,114 @@
+package com.trip.auth;
+
+import com.trip.auth.revocation.TokenRevocationList;
+import com.trip.user.status.UserStatusBitmap;
+import io.jsonwebtoken.Jwts;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 인증 필터 1회 비용 비교
+ * 기존 방식(요청마다 파서 생성 + 검증, subject 조회로 두 번 파싱), 공유 파서로 한 번 파싱, 검증된 claims 캐시 적중
+ * 캐시 적중 경로는 1,000개 토큰을 번갈아 사용하고, 다른 토큰 10,000개가 폐기된 상태의 폐기 확인과
+ * 다른 사용자 10,000명이 정지된 상태 비트맵 확인을 포함합니다.
+ * ./gradlew benchmark 로 실행합니다.
+ */
+@Tag("benchmark")
+class JwtFilterBenchmarkTest {
+
+    private static final int TOKEN_COUNT = 1_000;
+    private static final int REVOKED_COUNT = 10_000;
+    private static final int WARMUP_ROUNDS = 50_000;
+    private static final int MEASURE_ROUNDS = 200_000;
+
+    private final JwtKeyRing jwtKeyRing = new JwtKeyRing("", "");
+    private final JwtTokenProvider jwtTokenProvider = new JwtTokenProvider(jwtKeyRing);
+    private final List<MockHttpServletRequest> requests = IntStream.range(0, TOKEN_COUNT)
+            .mapToObj(i -> request(jwtTokenProvider.generateAccessToken((long) i)))
+            .toList();
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void compareFilterCost() throws Exception {
+        JwtAuthenticationFilter cachedFilter = new JwtAuthenticationFilter(
+                new JwtClaimsCache(jwtTokenProvider, tokenRevocationList(), new SimpleMeterRegistry(), TOKEN_COUNT * 2L, Duration.ofMinutes(5)),
+                userStatusBitmap(), List.of());
+
+        long doubleParse = measure(request -> {
+            String token = request.getHeader(HttpHeaders.AUTHORIZATION).substring(7);
+            Jwts.parserBuilder().setSigningKeyResolver(jwtKeyRing).build().parseClaimsJws(token);
+            return Jwts.parserBuilder().setSigningKeyResolver(jwtKeyRing).build().parseClaimsJws(token).getBody().getSubject();
+        });
+        long sharedParser = measure(request -> jwtTokenProvider.parseClaims(
+                request.getHeader(HttpHeaders.AUTHORIZATION).substring(7)).getSubject());
+        long cacheHit = measure(request -> {
+            cachedFilter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+            return (String) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+        });
+
+        System.out.printf("double parse  : %,8d ns/request%n", doubleParse);
+        System.out.printf("shared parser : %,8d ns/request%n", sharedParser);
+        System.out.printf("cache hit     : %,8d ns/request%n", cacheHit);
+    }
+
+    private long measure(FilterStep step) throws Exception {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            step.run(requests.get(i % TOKEN_COUNT));
+        }
+
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < MEASURE_ROUNDS; i++) {
+            MockHttpServletRequest request = requests.get(i % TOKEN_COUNT);
+            assertEquals(String.valueOf(i % TOKEN_COUNT), step.run(request));
+        }
+        return (System.nanoTime() - startedAt) / MEASURE_ROUNDS;
+    }
+
+    private TokenRevocationList tokenRevocationList() {
+        TokenRevocationList tokenRevocationList = new TokenRevocationList(mock(StringRedisTemplate.class), new SimpleMeterRegistry(),
+                Duration.ofMinutes(15), REVOKED_COUNT * 10L, 0.01);
+        long expiresAt = System.currentTimeMillis() + Duration.ofMinutes(15).toMillis();
+        for (int i = 0; i < REVOKED_COUNT; i++) {
+            tokenRevocationList.revokeLocal(TokenDigest.sha256("revoked-" + i), expiresAt);
+        }
+        return tokenRevocationList;
+    }
+
+    private UserStatusBitmap userStatusBitmap() {
+        UserStatusBitmap userStatusBitmap = new UserStatusBitmap(new SimpleMeterRegistry());
+        userStatusBitmap.load(LongStream.range(0, REVOKED_COUNT).map(i -> TOKEN_COUNT + i * 97).boxed().iterator());
+        return userStatusBitmap;
+    }
+
+    private MockHttpServletRequest request(String token) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/apiv1/user/1");
+        request.addHeader(HttpHeaders.AUTHORIZATION, "Bearer " + token);
+        return request;
+    }
+
+    @FunctionalInterface
+    private interface FilterStep {
+        String run(HttpServletRequest request) throws Exception;
+    }
+}
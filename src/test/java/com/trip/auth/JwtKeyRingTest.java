@@ -0,0 +1,95 @@
+package com.trip.auth;
+
+import com.trip.auth.dto.JwkSet;
+import io.jsonwebtoken.JwtException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.math.BigInteger;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.interfaces.ECPublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtKeyRingTest {
+
+    @TempDir
+    Path keyDir;
+
+    @Test
+    void load_SignsWithActiveKidAndVerifiesAllPublicKeys() throws Exception {
+        KeyPair previous = writeKeyPair("2024-01");
+        writeKeyPair("2024-02");
+
+        JwtTokenProvider jwtTokenProvider = new JwtTokenProvider(new JwtKeyRing(keyDir.toString(), "2024-02"));
+        String token = jwtTokenProvider.generateAccessToken(1L);
+        // 교체 전 키로 발급된 토큰도 공개 키가 남아 있는 동안 검증됨
+        String previousToken = new JwtMinter("2024-01", previous.getPrivate()).mint(2L, System.currentTimeMillis(), System.currentTimeMillis() + 60_000);
+
+        assertTrue(header(token).contains("\"kid\":\"2024-02\""));
+        assertEquals("1", jwtTokenProvider.getSubject(token));
+        assertEquals("2", jwtTokenProvider.getSubject(previousToken));
+    }
+
+    @Test
+    void parseClaims_UnknownKid_ThrowsJwtException() throws Exception {
+        writeKeyPair("2024-01");
+        JwtTokenProvider jwtTokenProvider = new JwtTokenProvider(new JwtKeyRing(keyDir.toString(), "2024-01"));
+        String otherToken = new JwtTokenProvider(new JwtKeyRing("", "")).generateAccessToken(1L);
+
+        assertThrows(JwtException.class, () -> jwtTokenProvider.parseClaims(otherToken));
+    }
+
+    @Test
+    void reload_PublishesAddedAndDropsRemovedKeys() throws Exception {
+        writeKeyPair("2024-01");
+        JwtKeyRing jwtKeyRing = new JwtKeyRing(keyDir.toString(), "2024-01");
+        assertEquals(1, jwtKeyRing.publicKeys().size());
+
+        KeyPair next = writeKeyPair("2024-02");
+        jwtKeyRing.reload();
+
+        JwkSet.Key key = JwkSet.from(jwtKeyRing.publicKeys()).getKeys().get(1);
+        ECPublicKey publicKey = (ECPublicKey) next.getPublic();
+        assertEquals("2024-02", key.getKid());
+        assertEquals(publicKey.getW().getAffineX(), new BigInteger(1, Base64.getUrlDecoder().decode(key.getX())));
+        assertEquals(publicKey.getW().getAffineY(), new BigInteger(1, Base64.getUrlDecoder().decode(key.getY())));
+
+        // 발급 중인 키의 공개 키가 없어지면 기존 키 유지
+        Files.delete(keyDir.resolve("2024-01.pub"));
+        jwtKeyRing.reload();
+        assertEquals(2, jwtKeyRing.publicKeys().size());
+    }
+
+    @Test
+    void constructor_MissingActiveKey_Throws() throws Exception {
+        writeKeyPair("2024-01");
+
+        assertThrows(IllegalStateException.class, () -> new JwtKeyRing(keyDir.toString(), "2024-02"));
+    }
+
+    private KeyPair writeKeyPair(String kid) throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+        generator.initialize(new ECGenParameterSpec("secp256r1"));
+        KeyPair keyPair = generator.generateKeyPair();
+
+        Files.writeString(keyDir.resolve(kid + ".key"), pem("PRIVATE KEY", keyPair.getPrivate().getEncoded()));
+        Files.writeString(keyDir.resolve(kid + ".pub"), pem("PUBLIC KEY", keyPair.getPublic().getEncoded()));
+        return keyPair;
+    }
+
+    private String pem(String type, byte[] der) {
+        return "-----BEGIN " + type + "-----\n"
+                + Base64.getMimeEncoder(64, "\n".getBytes()).encodeToString(der)
+                + "\n-----END " + type + "-----\n";
+    }
+
+    private String header(String token) {
+        return new String(Base64.getUrlDecoder().decode(token.substring(0, token.indexOf('.'))));
+    }
+}
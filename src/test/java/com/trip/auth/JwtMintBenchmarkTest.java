@@ -0,0 +1,91 @@
+package com.trip.auth;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.security.Key;
+import java.security.KeyPairGenerator;
+import java.security.PrivateKey;
+import java.security.spec.ECGenParameterSpec;
+import java.util.Date;
+import java.util.function.LongFunction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 토큰 발급 1회 비용 비교 (jjwt 빌더 vs {@code JwtMinter}, HS256 과 ES256)
+ * 시간과 스레드 할당량을 함께 출력합니다. ./gradlew benchmark 로 실행합니다.
+ */
+@Tag("benchmark")
+class JwtMintBenchmarkTest {
+
+    private static final int WARMUP_ROUNDS = 100_000;
+    private static final int MEASURE_ROUNDS = 500_000;
+    private static final long VALIDITY = 1000 * 60 * 15;
+
+    private final long now = System.currentTimeMillis();
+
+    @Test
+    void compareHs256Minters() {
+        Key key = Keys.hmacShaKeyFor("YourSuperSecretKey1234567890123456".getBytes());
+        JwtMinter jwtMinter = new JwtMinter(key);
+        LongFunction<String> jjwt = idx -> Jwts.builder()
+                .setSubject(Long.toString(idx))
+                .setIssuedAt(new Date(now))
+                .setExpiration(new Date(now + VALIDITY))
+                .signWith(key)
+                .compact();
+
+        assertEquals(jjwt.apply(1L), jwtMinter.mint(1L, now, now + VALIDITY));
+        compare("hs256", jjwt, idx -> jwtMinter.mint(idx, now, now + VALIDITY));
+    }
+
+    @Test
+    void compareEs256Minters() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+        generator.initialize(new ECGenParameterSpec("secp256r1"));
+        PrivateKey key = generator.generateKeyPair().getPrivate();
+        JwtMinter jwtMinter = new JwtMinter("bench", key);
+        LongFunction<String> jjwt = idx -> Jwts.builder()
+                .setHeaderParam("kid", "bench")
+                .setSubject(Long.toString(idx))
+                .setIssuedAt(new Date(now))
+                .setExpiration(new Date(now + VALIDITY))
+                .signWith(key)
+                .compact();
+
+        compare("es256", jjwt, idx -> jwtMinter.mint(idx, now, now + VALIDITY));
+    }
+
+    private void compare(String name, LongFunction<String> jjwt, LongFunction<String> minter) {
+        Result builder = measure(jjwt);
+        Result fast = measure(minter);
+
+        System.out.printf("%s jjwt builder : %,6d ns, %,6d bytes allocated per token%n", name, builder.nanosPerToken, builder.bytesPerToken);
+        System.out.printf("%s JwtMinter    : %,6d ns, %,6d bytes allocated per token%n", name, fast.nanosPerToken, fast.bytesPerToken);
+    }
+
+    private Result measure(LongFunction<String> mint) {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            mint.apply(i);
+        }
+
+        com.sun.management.ThreadMXBean threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long allocatedBefore = threadMXBean.getCurrentThreadAllocatedBytes();
+        long startedAt = System.nanoTime();
+
+        for (int i = 0; i < MEASURE_ROUNDS; i++) {
+            mint.apply(i);
+        }
+
+        long nanos = (System.nanoTime() - startedAt) / MEASURE_ROUNDS;
+        long allocated = threadMXBean.getCurrentThreadAllocatedBytes() - allocatedBefore;
+        return new Result(nanos, allocated / MEASURE_ROUNDS);
+    }
+
+    private record Result(long nanosPerToken, long bytesPerToken) {
+    }
+}
@@ -0,0 +1,92 @@
+package com.trip.auth;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jws;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.Test;
+
+import java.security.Key;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.spec.ECGenParameterSpec;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtMinterTest {
+
+    // HS256 발급 경로는 jjwt 빌더와 바이트 단위로 비교
+    private final Key key = Keys.hmacShaKeyFor("YourSuperSecretKey1234567890123456".getBytes());
+    private final JwtMinter jwtMinter = new JwtMinter(key);
+
+    @Test
+    void mint_SameBytesAsJjwtBuilder() {
+        long now = System.currentTimeMillis();
+        for (long idx : new long[]{0L, 1L, 9L, 10L, 12_345L, Long.MAX_VALUE}) {
+            long expiration = now + 1000 * 60 * 15;
+            String expected = Jwts.builder()
+                    .setSubject(Long.toString(idx))
+                    .setIssuedAt(new Date(now))
+                    .setExpiration(new Date(expiration))
+                    .claim(JwtTokenProvider.ISSUED_AT_MILLIS_CLAIM, now)
+                    .signWith(key)
+                    .compact();
+
+            assertEquals(expected, jwtMinter.mint(idx, now, expiration));
+        }
+    }
+
+    @Test
+    void mint_ConcurrentVirtualThreads_ReusesPooledStateSafely() throws Exception {
+        long now = System.currentTimeMillis();
+        long expiration = now + 1000 * 60 * 15;
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<String>> tokens = LongStream.range(0, 1000)
+                    .mapToObj(idx -> executor.submit(() -> jwtMinter.mint(idx, now, expiration)))
+                    .toList();
+
+            for (int idx = 0; idx < tokens.size(); idx++) {
+                String expected = Jwts.builder()
+                        .setSubject(Integer.toString(idx))
+                        .setIssuedAt(new Date(now))
+                        .setExpiration(new Date(expiration))
+                    .claim(JwtTokenProvider.ISSUED_AT_MILLIS_CLAIM, now)
+                        .signWith(key)
+                        .compact();
+                assertEquals(expected, tokens.get(idx).get());
+            }
+        }
+    }
+
+    @Test
+    void mint_Es256_VerifiedByJjwtParser() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+        generator.initialize(new ECGenParameterSpec("secp256r1"));
+        KeyPair keyPair = generator.generateKeyPair();
+        long now = System.currentTimeMillis();
+
+        String token = new JwtMinter("key-1", keyPair.getPrivate()).mint(7L, now, now + 60_000);
+        Jws<Claims> jws = Jwts.parserBuilder().setSigningKey(keyPair.getPublic()).build().parseClaimsJws(token);
+
+        assertEquals("key-1", jws.getHeader().getKeyId());
+        assertEquals("ES256", jws.getHeader().getAlgorithm());
+        assertEquals("7", jws.getBody().getSubject());
+    }
+
+    @Test
+    void mint_VerifiedByExistingParser() {
+        JwtTokenProvider jwtTokenProvider = new JwtTokenProvider(new JwtKeyRing("", ""));
+
+        Claims claims = jwtTokenProvider.parseClaims(jwtTokenProvider.generateRefreshToken(42L));
+
+        assertEquals("42", claims.getSubject());
+        assertTrue(claims.getExpiration().after(claims.getIssuedAt()));
+    }
+}
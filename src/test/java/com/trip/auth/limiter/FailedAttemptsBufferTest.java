@@ -0,0 +1,86 @@
+package com.trip.auth.limiter;
+
+import com.trip.user.cache.UserCache;
+import com.trip.user.repository.FailedAttemptsUpdate;
+import com.trip.user.repository.UserBatchRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class FailedAttemptsBufferTest {
+
+    @Mock
+    private UserBatchRepository userBatchRepository;
+
+    @Mock
+    private UserCache userCache;
+
+    @InjectMocks
+    private FailedAttemptsBuffer failedAttemptsBuffer;
+
+    @Test
+    void flush_MergesFailuresAndResets() {
+        failedAttemptsBuffer.recordFailure(1L);
+        failedAttemptsBuffer.recordFailure(1L);
+        failedAttemptsBuffer.recordFailure(2L);
+        failedAttemptsBuffer.recordSuccess(2L, 0);
+        failedAttemptsBuffer.recordFailure(2L);
+        // 저장된 값도, 대기 중인 값도 없으면 반영하지 않음
+        failedAttemptsBuffer.recordSuccess(3L, 0);
+
+        failedAttemptsBuffer.flush();
+
+        assertEquals(List.of(new FailedAttemptsUpdate(1L, false, 2), new FailedAttemptsUpdate(2L, true, 1)), captureUpdates());
+        // 실패 횟수와 버전이 바뀌었으므로 조회 캐시에서 제거
+        verify(userCache).evictAll(argThat(idxList -> Set.copyOf(idxList).equals(Set.of(1L, 2L))));
+    }
+
+    @Test
+    void flush_Failure_RetriesBeforeNewValues() {
+        failedAttemptsBuffer.recordFailure(1L);
+        doThrow(new QueryTimeoutException("timeout")).doNothing().when(userBatchRepository).updateFailedAttempts(anyList());
+
+        failedAttemptsBuffer.flush();
+        failedAttemptsBuffer.recordFailure(1L);
+        failedAttemptsBuffer.flush();
+
+        verify(userBatchRepository, times(2)).updateFailedAttempts(anyList());
+        assertEquals(List.of(new FailedAttemptsUpdate(1L, false, 2)), lastUpdates());
+        verify(userCache, times(1)).evictAll(List.of(1L));
+    }
+
+    @Test
+    void flush_Empty_SkipsDatabase() {
+        failedAttemptsBuffer.flush();
+
+        verify(userBatchRepository, never()).updateFailedAttempts(anyList());
+    }
+
+    private List<FailedAttemptsUpdate> captureUpdates() {
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<FailedAttemptsUpdate>> captor = ArgumentCaptor.forClass(List.class);
+        verify(userBatchRepository).updateFailedAttempts(captor.capture());
+        return captor.getValue().stream().sorted(Comparator.comparing(FailedAttemptsUpdate::idx)).toList();
+    }
+
+    private List<FailedAttemptsUpdate> lastUpdates() {
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<FailedAttemptsUpdate>> captor = ArgumentCaptor.forClass(List.class);
+        verify(userBatchRepository, atLeastOnce()).updateFailedAttempts(captor.capture());
+        return captor.getValue();
+    }
+}
@@ -0,0 +1,66 @@
+package com.trip.auth.limiter;
+
+import com.trip.auth.exception.TooManyLoginAttemptsException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Redis 연결이 실패하는 상황에서 메모리 윈도우로 동작하는지 확인
+ */
+class LoginAttemptLimiterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private LoginAttemptLimiter loginAttemptLimiter;
+
+    @BeforeEach
+    void setUp() {
+        StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class, invocation -> {
+            throw new RedisConnectionFailureException("Redis is down");
+        });
+        meterRegistry = new SimpleMeterRegistry();
+        loginAttemptLimiter = new LoginAttemptLimiter(redisTemplate, meterRegistry, Duration.ofMinutes(15), 3, 5, 1000);
+    }
+
+    @Test
+    void checkAllowed_EmailLimitReached_Throws() {
+        for (int i = 0; i < 3; i++) {
+            loginAttemptLimiter.checkAllowed("Test@test.com", "10.0.0.1");
+            loginAttemptLimiter.recordFailure("Test@test.com", "10.0.0.1");
+        }
+
+        TooManyLoginAttemptsException exception = assertThrows(TooManyLoginAttemptsException.class,
+                () -> loginAttemptLimiter.checkAllowed("test@test.com", "10.0.0.2"));
+        assertTrue(exception.getRetryAfter().compareTo(Duration.ofMinutes(15)) <= 0);
+        assertEquals(1, meterRegistry.get("member.auth.login-limit.blocked").counter().count());
+    }
+
+    @Test
+    void checkAllowed_IpLimitReached_ThrowsForOtherEmails() {
+        for (int i = 0; i < 5; i++) {
+            loginAttemptLimiter.recordFailure("user" + i + "@test.com", "10.0.0.1");
+        }
+
+        assertThrows(TooManyLoginAttemptsException.class, () -> loginAttemptLimiter.checkAllowed("new@test.com", "10.0.0.1"));
+        assertDoesNotThrow(() -> loginAttemptLimiter.checkAllowed("new@test.com", "10.0.0.2"));
+    }
+
+    @Test
+    void reset_ClearsEmailWindowOnly() {
+        for (int i = 0; i < 3; i++) {
+            loginAttemptLimiter.recordFailure("test@test.com", "10.0.0.1");
+        }
+
+        loginAttemptLimiter.reset("test@test.com");
+
+        assertDoesNotThrow(() -> loginAttemptLimiter.checkAllowed("test@test.com", "10.0.0.1"));
+        assertTrue(meterRegistry.get("member.auth.login-limit.fallback").counter().count() > 0);
+    }
+}
@@ -0,0 +1,125 @@
+package com.trip.auth.login;
+
+import com.trip.user.cache.UserCache;
+import com.trip.user.repository.LastLoginUpdate;
+import com.trip.user.repository.UserBatchRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.QueryTimeoutException;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+class LastLoginBufferTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 1, 1, 12, 0);
+
+    private SimpleMeterRegistry meterRegistry;
+    private UserBatchRepository userBatchRepository;
+    private UserCache userCache;
+    private LastLoginBuffer lastLoginBuffer;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        userBatchRepository = mock(UserBatchRepository.class);
+        userCache = mock(UserCache.class);
+        lastLoginBuffer = new LastLoginBuffer(userBatchRepository, userCache, meterRegistry, 100, 3);
+    }
+
+    @Test
+    void flush_KeepsLatestLoginPerUser() {
+        lastLoginBuffer.record(1L, "10.0.0.1", NOW);
+        lastLoginBuffer.record(1L, "10.0.0.2", NOW.plusSeconds(1));
+        // 늦게 도착한 이전 로그인은 무시
+        lastLoginBuffer.record(1L, "10.0.0.3", NOW.minusSeconds(1));
+        lastLoginBuffer.record(2L, "2001:db8::1", NOW);
+
+        lastLoginBuffer.flush();
+
+        assertEquals(List.of(new LastLoginUpdate(1L, "10.0.0.2", NOW.plusSeconds(1)), new LastLoginUpdate(2L, "2001:db8::1", NOW)),
+                captureUpdates());
+        assertEquals(2, meterRegistry.get("member.auth.last-login.flush.batch-size").summary().totalAmount());
+        assertEquals(1, meterRegistry.get("member.auth.last-login.flush.lag").timer().count());
+        assertEquals(0, meterRegistry.get("member.auth.last-login.pending").gauge().value());
+        // 마지막 로그인 정보와 버전이 바뀌었으므로 조회 캐시에서 제거
+        verify(userCache).evictAll(argThat(idxList -> Set.copyOf(idxList).equals(Set.of(1L, 2L))));
+    }
+
+    @Test
+    void record_FlushSizeReached_FlushesAsync() {
+        lastLoginBuffer = new LastLoginBuffer(userBatchRepository, userCache, meterRegistry, 2, 100);
+
+        lastLoginBuffer.record(1L, "10.0.0.1", NOW);
+        lastLoginBuffer.record(2L, "10.0.0.2", NOW);
+
+        verify(userBatchRepository, timeout(1000)).updateLastLogins(anyList());
+    }
+
+    @Test
+    void record_MaxPendingReached_DropsNewUsersAndFlushes() {
+        lastLoginBuffer.record(1L, "10.0.0.1", NOW);
+        lastLoginBuffer.record(2L, "10.0.0.2", NOW);
+        lastLoginBuffer.record(3L, "10.0.0.3", NOW);
+        lastLoginBuffer.record(4L, "10.0.0.4", NOW);
+
+        assertEquals(1, meterRegistry.get("member.auth.last-login.dropped").counter().count());
+        verify(userBatchRepository, timeout(1000)).updateLastLogins(anyList());
+        assertEquals(List.of(1L, 2L, 3L), captureUpdates().stream().map(LastLoginUpdate::idx).toList());
+    }
+
+    @Test
+    void flush_Failure_RetriesWithNewerValues() {
+        lastLoginBuffer.record(1L, "10.0.0.1", NOW);
+        lastLoginBuffer.record(2L, "10.0.0.2", NOW);
+        doThrow(new QueryTimeoutException("timeout")).doNothing().when(userBatchRepository).updateLastLogins(anyList());
+
+        lastLoginBuffer.flush();
+        lastLoginBuffer.record(1L, "10.0.0.3", NOW.plusSeconds(1));
+        lastLoginBuffer.flush();
+
+        verify(userBatchRepository, times(2)).updateLastLogins(anyList());
+        verify(userCache, times(1)).evictAll(anyList());
+        assertEquals(List.of(new LastLoginUpdate(1L, "10.0.0.3", NOW.plusSeconds(1)), new LastLoginUpdate(2L, "10.0.0.2", NOW)),
+                lastUpdates());
+    }
+
+    @Test
+    void flushOnShutdown_FlushesPending() throws InterruptedException {
+        lastLoginBuffer.record(1L, "10.0.0.1", NOW);
+
+        lastLoginBuffer.flushOnShutdown();
+
+        assertEquals(List.of(new LastLoginUpdate(1L, "10.0.0.1", NOW)), captureUpdates());
+    }
+
+    @Test
+    void flush_Empty_SkipsDatabase() {
+        lastLoginBuffer.flush();
+
+        verify(userBatchRepository, never()).updateLastLogins(anyList());
+    }
+
+    private List<LastLoginUpdate> captureUpdates() {
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<LastLoginUpdate>> captor = ArgumentCaptor.forClass(List.class);
+        verify(userBatchRepository).updateLastLogins(captor.capture());
+        return captor.getValue().stream().sorted(Comparator.comparing(LastLoginUpdate::idx)).toList();
+    }
+
+    private List<LastLoginUpdate> lastUpdates() {
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<LastLoginUpdate>> captor = ArgumentCaptor.forClass(List.class);
+        verify(userBatchRepository, atLeastOnce()).updateLastLogins(captor.capture());
+        return captor.getValue().stream().sorted(Comparator.comparing(LastLoginUpdate::idx)).toList();
+    }
+}
@@ -0,0 +1,159 @@
+package com.trip.auth.revocation;
+
+import com.trip.auth.JwtTokenProvider;
+import com.trip.auth.TokenDigest;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Date;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.doubleThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class TokenRevocationListTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private StringRedisTemplate redisTemplate;
+    private TokenRevocationList tokenRevocationList;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        redisTemplate = mock(StringRedisTemplate.class, RETURNS_DEEP_STUBS);
+        tokenRevocationList = new TokenRevocationList(redisTemplate, meterRegistry, Duration.ofMinutes(15), 1000, 0.01);
+    }
+
+    @Test
+    void revoke_StoresWithRemainingTtlAndPublishes() {
+        Date expiration = new Date(System.currentTimeMillis() + Duration.ofMinutes(10).toMillis());
+        String digest = TokenDigest.sha256("token");
+
+        tokenRevocationList.revoke("token", expiration);
+
+        assertTrue(tokenRevocationList.isRevoked(digest, claims("1", new Date())));
+        assertFalse(tokenRevocationList.isRevoked(TokenDigest.sha256("other"), claims("1", new Date())));
+        verify(redisTemplate.opsForZSet()).add(TokenRevocationList.TOKEN_INDEX_KEY, digest, expiration.getTime());
+        verify(redisTemplate).convertAndSend(TokenRevocationList.CHANNEL,
+                TokenRevocationList.TOKEN_MESSAGE + ":" + digest + ":" + expiration.getTime());
+    }
+
+    @Test
+    void revoke_ExpiredToken_Ignored() {
+        tokenRevocationList.revoke("token", new Date(System.currentTimeMillis() - 1000));
+
+        assertFalse(tokenRevocationList.isRevoked(TokenDigest.sha256("token"), claims("1", new Date())));
+        verifyNoInteractions(redisTemplate);
+    }
+
+    @Test
+    void revokeUser_RejectsTokensIssuedBeforeRevocation() {
+        Date issuedBefore = new Date(System.currentTimeMillis() - Duration.ofMinutes(1).toMillis());
+
+        tokenRevocationList.revokeUser(1L);
+
+        assertTrue(tokenRevocationList.isRevoked(TokenDigest.sha256("old"), claims("1", issuedBefore)));
+        assertFalse(tokenRevocationList.isRevoked(TokenDigest.sha256("new"), claims("1", new Date(System.currentTimeMillis() + 1000))));
+        assertFalse(tokenRevocationList.isRevoked(TokenDigest.sha256("old"), claims("2", issuedBefore)));
+        assertEquals(1, meterRegistry.get("member.auth.revocation.users").gauge().value());
+    }
+
+    @Test
+    void revokeUser_AcceptsTokensIssuedLaterInSameSecond() {
+        tokenRevocationList.revokeUser(1L);
+        long revokedAt = System.currentTimeMillis();
+
+        Claims issuedAfter = claims("1", new Date(revokedAt));
+        issuedAfter.put(JwtTokenProvider.ISSUED_AT_MILLIS_CLAIM, revokedAt + 1);
+        Claims issuedBefore = claims("1", new Date(revokedAt));
+        issuedBefore.put(JwtTokenProvider.ISSUED_AT_MILLIS_CLAIM, revokedAt - Duration.ofMinutes(1).toMillis());
+
+        assertFalse(tokenRevocationList.isRevoked(TokenDigest.sha256("new"), issuedAfter));
+        assertTrue(tokenRevocationList.isRevoked(TokenDigest.sha256("old"), issuedBefore));
+    }
+
+    @Test
+    void listener_AppliesMessagesFromOtherNodes() {
+        TokenRevocationListener listener = new TokenRevocationListener(tokenRevocationList);
+        String digest = TokenDigest.sha256("token");
+        long expiresAt = System.currentTimeMillis() + 60_000;
+
+        listener.onMessage(message(TokenRevocationList.TOKEN_MESSAGE + ":" + digest + ":" + expiresAt), null);
+        listener.onMessage(message(TokenRevocationList.USER_MESSAGE + ":2:" + System.currentTimeMillis()), null);
+        listener.onMessage(message(TokenRevocationList.TOKEN_MESSAGE + ":not-a-digest:" + expiresAt), null);
+
+        assertTrue(tokenRevocationList.isRevoked(digest, claims("1", new Date())));
+        assertTrue(tokenRevocationList.isRevoked(TokenDigest.sha256("any"), claims("2", new Date(0))));
+        assertEquals(1, meterRegistry.get("member.auth.revocation.tokens").gauge().value());
+    }
+
+    @Test
+    void resync_LoadsIndexByScoreAndDropsExpired() {
+        String stored = TokenDigest.sha256("stored");
+        String expired = TokenDigest.sha256("expired");
+        long now = System.currentTimeMillis();
+        tokenRevocationList.revokeLocal(expired, now - 1);
+
+        when(redisTemplate.opsForZSet().rangeByScoreWithScores(eq(TokenRevocationList.TOKEN_INDEX_KEY), anyDouble(), anyDouble(), anyLong(), anyLong()))
+                .thenReturn(Set.of(TypedTuple.of(stored, (double) (now + 60_000))));
+        when(redisTemplate.opsForZSet().rangeByScoreWithScores(eq(TokenRevocationList.USER_INDEX_KEY), anyDouble(), anyDouble(), anyLong(), anyLong()))
+                .thenReturn(Set.of(TypedTuple.of("2", (double) now)));
+
+        tokenRevocationList.resync();
+
+        assertTrue(tokenRevocationList.isRevoked(stored, claims("1", new Date())));
+        assertFalse(tokenRevocationList.isRevoked(expired, claims("1", new Date())));
+        assertTrue(tokenRevocationList.isRevoked(TokenDigest.sha256("any"), claims("2", new Date(now - 1000))));
+        assertEquals(1, meterRegistry.get("member.auth.revocation.tokens").gauge().value());
+        // 만료된 항목은 색인에서 점수 범위로 정리
+        verify(redisTemplate.opsForZSet()).removeRangeByScore(eq(TokenRevocationList.TOKEN_INDEX_KEY), eq(Double.NEGATIVE_INFINITY),
+                doubleThat(max -> max >= now));
+        verify(redisTemplate.opsForZSet()).removeRangeByScore(eq(TokenRevocationList.USER_INDEX_KEY), eq(Double.NEGATIVE_INFINITY),
+                doubleThat(max -> max >= now - Duration.ofMinutes(15).toMillis() && max < now));
+        verify(redisTemplate, never()).scan(any());
+    }
+
+    @Test
+    void bloomFilter_FalsePositiveRateNearTarget() {
+        BloomFilter bloomFilter = BloomFilter.create(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            bloomFilter.put(TokenDigest.sha256("revoked-" + i));
+        }
+
+        int falsePositives = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (bloomFilter.mightContain(TokenDigest.sha256("active-" + i))) {
+                falsePositives++;
+            }
+        }
+
+        for (int i = 0; i < 10_000; i++) {
+            assertTrue(bloomFilter.mightContain(TokenDigest.sha256("revoked-" + i)));
+        }
+        assertTrue(falsePositives / 100_000.0 < 0.02, "false positive rate " + falsePositives / 100_000.0);
+        assertEquals(0.01, bloomFilter.expectedFalsePositiveRate(), 0.002);
+        // 항목당 약 9.6비트
+        assertTrue(bloomFilter.sizeInBytes() < 13_000);
+    }
+
+    private Claims claims(String subject, Date issuedAt) {
+        return Jwts.claims().setSubject(subject).setIssuedAt(issuedAt);
+    }
+
+    private DefaultMessage message(String body) {
+        return new DefaultMessage(TokenRevocationList.CHANNEL.getBytes(StandardCharsets.UTF_8), body.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -2,14 +2,22 @@ package com.trip.auth.service;
 
 import com.trip.auth.JwtTokenProvider;
 import com.trip.auth.dto.AuthToken;
-import com.trip.auth.entity.TokenEntity;
 import com.trip.auth.exception.ExpiredTokenException;
-import com.trip.auth.repository.AuthRepository;
+import com.trip.auth.exception.TooManyLoginAttemptsException;
+import com.trip.auth.limiter.FailedAttemptsBuffer;
+import com.trip.auth.limiter.LoginAttemptLimiter;
+import com.trip.auth.login.LastLoginBuffer;
+import com.trip.auth.repository.RefreshTokenStore;
+import com.trip.auth.revocation.TokenRevocationList;
+import com.trip.common.password.PasswordHasher;
 import com.trip.kafka.KafkaEvent;
 import com.trip.kafka.KafkaProducer;
 import com.trip.user.entity.UserEntity;
 import com.trip.user.exception.UserNotFoundException;
 import com.trip.user.repository.UserRepository;
+import com.trip.user.service.UserService;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -18,6 +26,9 @@ import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Date;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -27,7 +38,10 @@ import static org.mockito.Mockito.*;
 @ExtendWith(MockitoExtension.class)
 class AuthServiceImplTest {
     @Mock
-    private AuthRepository authRepository;
+    private RefreshTokenStore refreshTokenStore;
+
+    @Mock
+    private TokenRevocationList tokenRevocationList;
 
     @Mock
     private UserRepository userRepository;
@@ -38,6 +52,23 @@ class AuthServiceImplTest {
     @Mock
     private JwtTokenProvider jwtTokenProvider;
 
+    @Mock
+    private UserService userService;
+
+    @Mock
+    private PasswordHasher passwordHasher;
+
+    @Mock
+    private LoginAttemptLimiter loginAttemptLimiter;
+
+    @Mock
+    private FailedAttemptsBuffer failedAttemptsBuffer;
+
+    @Mock
+    private LastLoginBuffer lastLoginBuffer;
+
+    private static final String IP = "127.0.0.1";
+
     @InjectMocks
     private AuthServiceImpl authService;
 
@@ -55,25 +86,25 @@ class AuthServiceImplTest {
         // idx 삽입이 불가능함
         ReflectionTestUtils.setField(userEntity, "idx", 1L);
 
-        TokenEntity tokenEntity = TokenEntity.builder()
-                .token("refresh-token")
-                .idx("1")
-                .build();
-
         when(userRepository.findByEmail(email)).thenReturn(Optional.of(userEntity));
+        when(passwordHasher.matches(password, password)).thenReturn(true);
+        when(passwordHasher.needsRehash(password)).thenReturn(true);
         when(jwtTokenProvider.generateAccessToken(any())).thenReturn("access-token");
         when(jwtTokenProvider.generateRefreshToken(any())).thenReturn("refresh-token");
-        when(authRepository.save(Mockito.any(TokenEntity.class))).thenReturn(tokenEntity);
-
-
 
         // When
-        AuthToken authToken = authService.loginUser(email, password);
+        AuthToken authToken = authService.loginUser(email, password, IP);
 
         // Then
         assertNotNull(authToken);
         assertEquals("access-token", authToken.getAccessToken());
         assertEquals("refresh-token", authToken.getRefreshToken());
+        verify(refreshTokenStore, times(1)).save("refresh-token", 1L);
+        // 평문으로 저장된 비밀번호는 로그인 후 재해시
+        verify(userService, times(1)).upgradePasswordHash(1L, password, password);
+        verify(loginAttemptLimiter, times(1)).reset(email);
+        verify(failedAttemptsBuffer, times(1)).recordSuccess(1L, 0);
+        verify(lastLoginBuffer, times(1)).record(eq(1L), eq(IP), any(LocalDateTime.class));
         verify(kafkaProducer, times(1)).sendUserEvent(Mockito.any(KafkaEvent.class));
     }
 
@@ -87,11 +118,16 @@ class AuthServiceImplTest {
                 .email(email)
                 .password("correct-password")
                 .build();
+        ReflectionTestUtils.setField(userEntity, "idx", 1L);
 
         when(userRepository.findByEmail(email)).thenReturn(Optional.of(userEntity));
+        when(passwordHasher.matches(password, "correct-password")).thenReturn(false);
 
         // When & Then
-        assertThrows(UserNotFoundException.class, () -> authService.loginUser(email, password));
+        assertThrows(UserNotFoundException.class, () -> authService.loginUser(email, password, IP));
+        verify(userService, never()).upgradePasswordHash(any(), any(), any());
+        verify(loginAttemptLimiter, times(1)).recordFailure(email, IP);
+        verify(failedAttemptsBuffer, times(1)).recordFailure(1L);
         verify(kafkaProducer, never()).sendUserEvent(Mockito.any(KafkaEvent.class));
     }
 
@@ -104,27 +140,37 @@ class AuthServiceImplTest {
         when(userRepository.findByEmail(email)).thenReturn(Optional.empty());
 
         // When & Then
-        assertThrows(UserNotFoundException.class, () -> authService.loginUser(email, password));
+        assertThrows(UserNotFoundException.class, () -> authService.loginUser(email, password, IP));
+        verify(passwordHasher, times(1)).matchesDummy(password);
+        verify(loginAttemptLimiter, times(1)).recordFailure(email, IP);
+        verify(failedAttemptsBuffer, never()).recordFailure(any());
         verify(kafkaProducer, never()).sendUserEvent(Mockito.any(KafkaEvent.class));
     }
 
+    @Test
+    void loginUser_TooManyFailures_RejectsBeforeLookup() {
+        // Given
+        String email = "test@test.com";
+
+        doThrow(new TooManyLoginAttemptsException(Duration.ofMinutes(1))).when(loginAttemptLimiter).checkAllowed(email, IP);
+
+        // When & Then
+        assertThrows(TooManyLoginAttemptsException.class, () -> authService.loginUser(email, "password", IP));
+        verify(userRepository, never()).findByEmail(any());
+        verify(passwordHasher, never()).matches(any(), any());
+    }
+
     @Test
     void refreshAccessToken_Success() {
         // Given
         String refreshToken = "refresh-token";
         Long userIdx = 1L;
 
-        TokenEntity tokenEntity = TokenEntity.builder()
-                .token(refreshToken)
-                .idx(userIdx.toString())
-                .build();
-
         UserEntity userEntity = UserEntity.builder()
                 .email("test@test.com")
                 .build();
 
-        when(authRepository.existsByRefreshToken(refreshToken)).thenReturn(true);
-        when(authRepository.findByRefreshToken(refreshToken)).thenReturn(tokenEntity);
+        when(refreshTokenStore.findUserIdx(refreshToken)).thenReturn(Optional.of(userIdx));
         when(jwtTokenProvider.generateAccessToken(userIdx)).thenReturn("new-access-token");
         when(userRepository.findByIdx(userIdx)).thenReturn(Optional.of(userEntity));
 
@@ -142,7 +188,7 @@ class AuthServiceImplTest {
         // Given
         String refreshToken = "expired-token";
 
-        when(authRepository.existsByRefreshToken(refreshToken)).thenReturn(false);
+        when(refreshTokenStore.findUserIdx(refreshToken)).thenReturn(Optional.empty());
 
         // When & Then
         assertThrows(ExpiredTokenException.class, () -> authService.refreshAccessToken(refreshToken));
@@ -155,36 +201,100 @@ class AuthServiceImplTest {
         String refreshToken = "refresh-token";
         Long userIdx = 1L;
 
-        TokenEntity tokenEntity = TokenEntity.builder()
-                .token(refreshToken)
-                .idx(userIdx.toString())
-                .build();
-
         UserEntity userEntity = UserEntity.builder()
                 .email("test@test.com")
                 .build();
 
-        when(authRepository.existsByRefreshToken(refreshToken)).thenReturn(true);
-        when(authRepository.findByRefreshToken(refreshToken)).thenReturn(tokenEntity);
+        when(refreshTokenStore.delete(refreshToken)).thenReturn(Optional.of(userIdx));
         when(userRepository.findByIdx(userIdx)).thenReturn(Optional.of(userEntity));
 
         // When
-        authService.logoutUser(refreshToken);
+        authService.logoutUser(refreshToken, null);
 
         // Then
-        verify(authRepository, times(1)).delete(tokenEntity);
+        verify(refreshTokenStore, times(1)).delete(refreshToken);
+        verify(tokenRevocationList, never()).revoke(any(), any());
         verify(kafkaProducer, times(1)).sendUserEvent(Mockito.any(KafkaEvent.class));
     }
 
+    @Test
+    void logoutUser_WithAccessToken_RevokesAccessToken() {
+        // Given
+        String refreshToken = "refresh-token";
+        String accessToken = "access-token";
+        Date expiration = new Date(System.currentTimeMillis() + Duration.ofMinutes(15).toMillis());
+        Claims claims = Jwts.claims().setSubject("1").setExpiration(expiration);
+
+        when(refreshTokenStore.delete(refreshToken)).thenReturn(Optional.of(1L));
+        when(jwtTokenProvider.parseClaims(accessToken)).thenReturn(claims);
+        when(userRepository.findByIdx(1L)).thenReturn(Optional.of(UserEntity.builder().email("test@test.com").build()));
+
+        // When
+        authService.logoutUser(refreshToken, accessToken);
+
+        // Then
+        verify(tokenRevocationList, times(1)).revoke(accessToken, expiration);
+    }
+
+    @Test
+    void logoutUser_OtherUsersAccessToken_NotRevoked() {
+        // Given
+        String refreshToken = "refresh-token";
+        String accessToken = "access-token";
+        Claims claims = Jwts.claims().setSubject("2").setExpiration(new Date(System.currentTimeMillis() + 60_000));
+
+        when(refreshTokenStore.delete(refreshToken)).thenReturn(Optional.of(1L));
+        when(jwtTokenProvider.parseClaims(accessToken)).thenReturn(claims);
+        when(userRepository.findByIdx(1L)).thenReturn(Optional.of(UserEntity.builder().email("test@test.com").build()));
+
+        // When
+        authService.logoutUser(refreshToken, accessToken);
+
+        // Then
+        verify(tokenRevocationList, never()).revoke(any(), any());
+    }
+
     @Test
     void logoutUser_ExpiredToken_ThrowsException() {
         // Given
         String refreshToken = "expired-token";
 
-        when(authRepository.existsByRefreshToken(refreshToken)).thenReturn(false);
+        when(refreshTokenStore.delete(refreshToken)).thenReturn(Optional.empty());
 
         // When & Then
-        assertThrows(ExpiredTokenException.class, () -> authService.logoutUser(refreshToken));
+        assertThrows(ExpiredTokenException.class, () -> authService.logoutUser(refreshToken, null));
         verify(kafkaProducer, never()).sendUserEvent(Mockito.any(KafkaEvent.class));
     }
+
+    @Test
+    void logoutAllSessions_Success() {
+        // Given
+        Long userIdx = 1L;
+
+        UserEntity userEntity = UserEntity.builder()
+                .email("test@test.com")
+                .build();
+
+        when(userRepository.findByIdx(userIdx)).thenReturn(Optional.of(userEntity));
+        when(refreshTokenStore.deleteAll(userIdx)).thenReturn(3L);
+
+        // When
+        long deletedCount = authService.logoutAllSessions(userIdx);
+
+        // Then
+        assertEquals(3L, deletedCount);
+        verify(tokenRevocationList, times(1)).revokeUser(userIdx);
+        verify(kafkaProducer, times(1)).sendUserEvent(Mockito.any(KafkaEvent.class));
+    }
+
+    @Test
+    void logoutAllSessions_UserNotFound_ThrowsException() {
+        // Given
+        when(userRepository.findByIdx(1L)).thenReturn(Optional.empty());
+
+        // When & Then
+        assertThrows(UserNotFoundException.class, () -> authService.logoutAllSessions(1L));
+        verify(refreshTokenStore, never()).deleteAll(any());
+        verify(tokenRevocationList, never()).revokeUser(any());
+    }
 }
\ No newline at end of file
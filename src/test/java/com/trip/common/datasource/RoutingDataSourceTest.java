@@ -0,0 +1,132 @@
+package com.trip.common.datasource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 서로 다른 H2 인메모리 DB 두 개를 primary, replica 로 두고 트랜잭션 속성에 따라 어느 쪽으로 가는지 확인합니다.
+ */
+class RoutingDataSourceTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private JdbcTemplate jdbcTemplate;
+    private DataSourceTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        setUpRouting(Duration.ofMinutes(1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void readOnlyTransaction_UsesReplica() {
+        assertEquals("replica", currentNode(true));
+        assertEquals(1.0, routeCount("replica", "read"));
+    }
+
+    @Test
+    void writeTransaction_UsesPrimary() {
+        assertEquals("primary", currentNode(false));
+        assertEquals(1.0, routeCount("primary", "write"));
+    }
+
+    @Test
+    void noTransaction_UsesPrimary() {
+        assertEquals("primary", jdbcTemplate.queryForObject("SELECT name FROM node", String.class));
+        assertEquals(1.0, routeCount("primary", "no-transaction"));
+    }
+
+    @Test
+    void readOnlyTransaction_AfterOwnWrite_UsesPrimary() {
+        authenticate("1");
+        currentNode(false);
+
+        assertEquals("primary", currentNode(true));
+        assertEquals(1.0, routeCount("primary", "read-your-writes"));
+
+        // 다른 사용자는 replica 에서 읽음
+        authenticate("2");
+        assertEquals("replica", currentNode(true));
+    }
+
+    @Test
+    void readOnlyTransaction_AfterRolledBackWrite_UsesReplica() {
+        authenticate("1");
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            jdbcTemplate.queryForObject("SELECT name FROM node", String.class);
+            status.setRollbackOnly();
+        });
+
+        assertEquals("replica", currentNode(true));
+    }
+
+    @Test
+    void readOnlyTransaction_AfterWindow_UsesReplica() {
+        setUpRouting(Duration.ZERO);
+        authenticate("1");
+        currentNode(false);
+
+        assertEquals("replica", currentNode(true));
+    }
+
+    private void setUpRouting(Duration readYourWritesWindow) {
+        meterRegistry = new SimpleMeterRegistry();
+        DataSource primary = node("primary");
+        DataSource replica = node("replica");
+
+        RoutingDataSource routingDataSource = new RoutingDataSource(new ReadYourWritesTracker(readYourWritesWindow), meterRegistry);
+        routingDataSource.setTargetDataSources(Map.of(
+                RoutingDataSource.Route.PRIMARY, primary,
+                RoutingDataSource.Route.REPLICA, replica));
+        routingDataSource.setDefaultTargetDataSource(primary);
+        routingDataSource.afterPropertiesSet();
+
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        transactionManager = new DataSourceTransactionManager(dataSource);
+    }
+
+    private DataSource node(String name) {
+        DataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:routing-" + name + ";DB_CLOSE_DELAY=-1");
+        JdbcTemplate nodeTemplate = new JdbcTemplate(dataSource);
+        nodeTemplate.execute("CREATE TABLE IF NOT EXISTS node (name VARCHAR(20))");
+        nodeTemplate.execute("DELETE FROM node");
+        nodeTemplate.update("INSERT INTO node (name) VALUES (?)", name);
+        return dataSource;
+    }
+
+    private String currentNode(boolean readOnly) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(readOnly);
+        return transactionTemplate.execute(status -> jdbcTemplate.queryForObject("SELECT name FROM node", String.class));
+    }
+
+    private void authenticate(String principal) {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, List.of()));
+    }
+
+    private double routeCount(String route, String reason) {
+        return meterRegistry.counter("member.datasource.route", "route", route, "reason", reason).count();
+    }
+}
@@ -0,0 +1,59 @@
+package com.trip.common.password;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * cost 별 로그인(비밀번호 검증) 처리량, 코어당 초당 로그인 수와 거절 비율
+ * 요청 스레드는 코어 수의 4배로 풀을 포화시키며, 거절된 요청은 503 응답에 해당합니다. ./gradlew benchmark 로 실행합니다.
+ */
+@Tag("benchmark")
+class PasswordHasherBenchmarkTest {
+
+    private static final Duration DURATION = Duration.ofSeconds(10);
+    private static final int CORES = Runtime.getRuntime().availableProcessors();
+
+    @Test
+    void loginsPerSecondPerCore() throws Exception {
+        System.out.printf("calibrated strength for 100ms : %d%n", PasswordHasher.calibrate(Duration.ofMillis(100)));
+
+        for (int strength = PasswordHasher.MIN_STRENGTH; strength <= 12; strength++) {
+            ThreadPoolExecutor executor = new ThreadPoolExecutor(CORES, CORES, 0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(64));
+            PasswordHasher passwordHasher = new PasswordHasher(new SimpleMeterRegistry(), strength, executor, Duration.ofSeconds(5));
+            String hash = passwordHasher.hash("password");
+
+            AtomicLong completed = new AtomicLong();
+            AtomicLong rejected = new AtomicLong();
+            long deadline = System.nanoTime() + DURATION.toNanos();
+            try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+                for (int i = 0; i < CORES * 4; i++) {
+                    clients.submit(() -> {
+                        while (System.nanoTime() < deadline) {
+                            try {
+                                passwordHasher.matches("password", hash);
+                                completed.incrementAndGet();
+                            } catch (RuntimeException e) {
+                                rejected.incrementAndGet();
+                            }
+                        }
+                    });
+                }
+            } finally {
+                passwordHasher.shutdown();
+            }
+
+            double perSecond = completed.get() / (double) DURATION.toSeconds();
+            System.out.printf("strength %2d : %,8.1f logins/s, %,6.1f logins/s/core, %,d rejected%n",
+                    strength, perSecond, perSecond / CORES, rejected.get());
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.trip.common.password;
+
+import com.trip.common.exception.PasswordHashingBusyException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PasswordHasherTest {
+
+    private final ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(1));
+    private final PasswordHasher passwordHasher = new PasswordHasher(new SimpleMeterRegistry(), 5, executor, Duration.ofSeconds(5));
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void hashAndMatches() {
+        String hash = passwordHasher.hash("password");
+
+        assertTrue(hash.startsWith("$2a$05$"));
+        assertTrue(passwordHasher.matches("password", hash));
+        assertFalse(passwordHasher.matches("wrong", hash));
+        assertFalse(passwordHasher.needsRehash(hash));
+    }
+
+    @Test
+    void matches_LegacyPlaintext_ComparesAndNeedsRehash() {
+        assertTrue(passwordHasher.matches("password", "password"));
+        assertFalse(passwordHasher.matches("password", "other"));
+        assertTrue(passwordHasher.needsRehash("password"));
+    }
+
+    @Test
+    void needsRehash_LowerCost_ReturnsTrue() {
+        PasswordHasher stronger = new PasswordHasher(new SimpleMeterRegistry(), 6, executor, Duration.ofSeconds(5));
+
+        assertTrue(stronger.needsRehash(passwordHasher.hash("password")));
+    }
+
+    @Test
+    void hashAll_ReturnsHashesInOrder() {
+        List<String> hashes = passwordHasher.hashAll(List.of("a", "b", "c"));
+
+        assertEquals(3, hashes.size());
+        assertTrue(passwordHasher.matches("a", hashes.get(0)));
+        assertTrue(passwordHasher.matches("c", hashes.get(2)));
+    }
+
+    @Test
+    void hash_PoolSaturated_RejectsImmediately() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        // 스레드 1개, 대기열 1개를 모두 점유
+        for (int i = 0; i < 2; i++) {
+            executor.submit(() -> {
+                release.await();
+                return null;
+            });
+        }
+
+        try {
+            assertThrows(PasswordHashingBusyException.class, () -> passwordHasher.hash("password"));
+            assertThrows(PasswordHashingBusyException.class, () -> passwordHasher.matches("password", "$2a$05$" + "a".repeat(53)));
+        } finally {
+            release.countDown();
+        }
+    }
+}
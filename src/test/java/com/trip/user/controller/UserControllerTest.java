@@ -1,22 +1,37 @@
 package com.trip.user.controller;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.trip.auth.JwtClaimsCache;
 import com.trip.auth.JwtTokenProvider;
 import com.trip.user.dto.User;
+import com.trip.user.dto.UserLookup;
+import com.trip.user.dto.UserSlice;
+import com.trip.user.exception.UserVersionMismatchException;
 import com.trip.user.service.UserService;
+import com.trip.user.status.UserStatusBitmap;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -32,6 +47,12 @@ class UserControllerTest {
     @MockitoBean
     private JwtTokenProvider jwtTokenProvider;
 
+    @MockitoBean
+    private JwtClaimsCache jwtClaimsCache;
+
+    @MockitoBean
+    private UserStatusBitmap userStatusBitmap;
+
     String USER_API = "/apiv1/user";
 
     @WithMockUser(username = "test@test.com")
@@ -78,6 +99,116 @@ class UserControllerTest {
                 .andExpect(jsonPath("$.user.email").value(user.getEmail()));
     }
 
+    @WithMockUser(username = "test@test.com")
+    @Test
+    void getUserByIdx_ReturnsStrongETag() throws Exception {
+        User user = User.builder()
+                .idx(1L)
+                .email("test@test.com")
+                .name("test")
+                .version(5L)
+                .build();
+
+        when(userService.getUserByIdx(1L)).thenReturn(user);
+
+        mockMvc.perform(get(USER_API + "/1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"5\""));
+    }
+
+    @WithMockUser(username = "test@test.com")
+    @Test
+    void getUserByIdx_IfNoneMatch_ReturnsNotModifiedWithoutLoading() throws Exception {
+        when(userService.getUserVersion(1L)).thenReturn(Optional.of(5L));
+
+        mockMvc.perform(get(USER_API + "/1").header(HttpHeaders.IF_NONE_MATCH, "\"5\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"5\""))
+                .andExpect(content().string(""));
+
+        verify(userService, never()).getUserByIdx(any());
+    }
+
+    @WithMockUser(username = "test@test.com")
+    @Test
+    void getUserByIdx_IfNoneMatchStale_ReturnsBody() throws Exception {
+        User user = User.builder()
+                .idx(1L)
+                .name("test")
+                .version(6L)
+                .build();
+
+        when(userService.getUserVersion(1L)).thenReturn(Optional.of(6L));
+        when(userService.getUserByIdx(1L)).thenReturn(user);
+
+        mockMvc.perform(get(USER_API + "/1").header(HttpHeaders.IF_NONE_MATCH, "\"5\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"6\""))
+                .andExpect(jsonPath("$.user.version").value(6));
+    }
+
+    @WithMockUser(username = "test@test.com")
+    @Test
+    void getUserByIdx_AcceptCbor_ReturnsCbor() throws Exception {
+        User user = User.builder()
+                .idx(1L)
+                .email("test@test.com")
+                .name("test")
+                .createAt(LocalDateTime.of(2024, 1, 1, 10, 0, 30))
+                .build();
+
+        when(userService.getUserByIdx(1L)).thenReturn(user);
+
+        byte[] body = mockMvc.perform(get(USER_API + "/1").accept("application/cbor"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/cbor"))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        JsonNode res = new ObjectMapper(new CBORFactory()).readTree(body);
+        assertEquals(1L, res.at("/user/idx").asLong());
+        assertEquals("test@test.com", res.at("/user/email").asText());
+        // 날짜는 숫자 배열로 기록
+        assertTrue(res.at("/user/createAt").isArray());
+    }
+
+    @WithMockUser(username = "test@test.com")
+    @Test
+    void getUserByIdx_NoAccept_ReturnsJson() throws Exception {
+        User user = User.builder()
+                .idx(1L)
+                .email("test@test.com")
+                .name("test")
+                .build();
+
+        when(userService.getUserByIdx(1L)).thenReturn(user);
+
+        mockMvc.perform(get(USER_API + "/1"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON));
+    }
+
+    @WithMockUser(username = "test@test.com")
+    @Test
+    void getUsersByIdx_Success() throws Exception {
+        User user = User.builder()
+                .idx(1L)
+                .email("test@test.com")
+                .name("test")
+                .build();
+
+        UserLookup userLookup = UserLookup.builder()
+                .users(List.of(user))
+                .missingIdx(List.of(2L))
+                .build();
+
+        when(userService.getUsersByIdxList(List.of(1L, 2L))).thenReturn(userLookup);
+
+        mockMvc.perform(get(USER_API).param("ids", "1,2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.users[0].idx").value(user.getIdx()))
+                .andExpect(jsonPath("$.missingIdx[0]").value(2L));
+    }
+
     @WithMockUser(username = "test@test.com")
     @Test
     void updateUser_Success() throws Exception {
@@ -97,7 +228,7 @@ class UserControllerTest {
                 .name("test2")
                 .build();
 
-        when(userService.updateUser(eq(updatedUser.getIdx()), any(User.class))).thenReturn(updatedUser);
+        when(userService.updateUser(eq(updatedUser.getIdx()), any(User.class), isNull())).thenReturn(updatedUser);
 
         mockMvc.perform(put(USER_API + "/1")
                         .with(csrf())
@@ -108,6 +239,87 @@ class UserControllerTest {
                 .andExpect(jsonPath("$.user.name").value(updatedUser.getName()));
     }
 
+    @WithMockUser(username = "test@test.com")
+    @Test
+    void patchUser_Success() throws Exception {
+        String requestBody = """
+                    {
+                        "name": "test2"
+                    }
+                """;
+
+        when(userService.patchUser(eq(1L), any(User.class), isNull())).thenReturn(1L);
+
+        mockMvc.perform(patch(USER_API + "/1")
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(requestBody))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.updatedCount").value(1));
+    }
+
+    @WithMockUser(username = "test@test.com")
+    @Test
+    void updateUser_IfMatch_PassesExpectedVersion() throws Exception {
+        String requestBody = """
+                    {
+                        "user": {
+                                    "name": "test2"
+                        }
+                    }
+                """;
+
+        User updatedUser = User.builder()
+                .idx(1L)
+                .name("test2")
+                .version(4L)
+                .build();
+
+        when(userService.updateUser(eq(1L), any(User.class), eq(3L))).thenReturn(updatedUser);
+
+        mockMvc.perform(put(USER_API + "/1")
+                        .with(csrf())
+                        .header(HttpHeaders.IF_MATCH, "\"3\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(requestBody))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"4\""));
+    }
+
+    @WithMockUser(username = "test@test.com")
+    @Test
+    void updateUser_VersionMismatch_ReturnsPreconditionFailed() throws Exception {
+        String requestBody = """
+                    {
+                        "user": {
+                                    "name": "test2"
+                        }
+                    }
+                """;
+
+        when(userService.updateUser(eq(1L), any(User.class), eq(3L))).thenThrow(new UserVersionMismatchException(1L));
+
+        mockMvc.perform(put(USER_API + "/1")
+                        .with(csrf())
+                        .header(HttpHeaders.IF_MATCH, "\"3\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(requestBody))
+                .andExpect(status().isPreconditionFailed());
+    }
+
+    @WithMockUser(username = "test@test.com")
+    @Test
+    void patchUser_WeakIfMatch_ReturnsPreconditionFailed() throws Exception {
+        mockMvc.perform(patch(USER_API + "/1")
+                        .with(csrf())
+                        .header(HttpHeaders.IF_MATCH, "W/\"3\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\": \"test2\"}"))
+                .andExpect(status().isPreconditionFailed());
+
+        verify(userService, never()).patchUser(any(), any(), any());
+    }
+
     @WithMockUser(username = "test@test.com")
     @Test
     void updatePassword_Success() throws Exception {
@@ -155,7 +367,13 @@ class UserControllerTest {
                 User.builder().idx(2L).email("user2@test.com").name("User 2").build()
         );
 
-        when(userService.getAllUsers(0L, 10)).thenReturn(mockUsers);
+        UserSlice userSlice = UserSlice.builder()
+                .users(mockUsers)
+                .nextCursor(2L)
+                .hasNext(true)
+                .build();
+
+        when(userService.getAllUsers(0L, 10)).thenReturn(userSlice);
 
 
         mockMvc.perform(get(USER_API)
@@ -168,8 +386,37 @@ class UserControllerTest {
                 .andExpect(jsonPath("$.users[0].name").value("User 1"))
                 .andExpect(jsonPath("$.users[1].idx").value(2))
                 .andExpect(jsonPath("$.users[1].email").value("user2@test.com"))
-                .andExpect(jsonPath("$.users[1].name").value("User 2"));
+                .andExpect(jsonPath("$.users[1].name").value("User 2"))
+                .andExpect(jsonPath("$.nextCursor").value(2))
+                .andExpect(jsonPath("$.hasNext").value(true));
 
         verify(userService, times(1)).getAllUsers(0L, 10);
     }
+
+    @WithMockUser(username = "test@test.com")
+    @Test
+    void getAllUsers_SameWeakETag_ReturnsNotModified() throws Exception {
+        UserSlice userSlice = UserSlice.builder()
+                .users(List.of(User.builder().idx(1L).version(1L).build()))
+                .hasNext(false)
+                .build();
+
+        when(userService.getAllUsers(null, 15)).thenReturn(userSlice);
+
+        String etag = mockMvc.perform(get(USER_API))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        assertTrue(etag.startsWith("W/"));
+        mockMvc.perform(get(USER_API).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+
+        // 구성원 버전이 바뀌면 ETag 도 바뀜
+        when(userService.getAllUsers(null, 15)).thenReturn(UserSlice.builder()
+                .users(List.of(User.builder().idx(1L).version(2L).build()))
+                .hasNext(false)
+                .build());
+        mockMvc.perform(get(USER_API).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk());
+    }
 }
\ No newline at end of file
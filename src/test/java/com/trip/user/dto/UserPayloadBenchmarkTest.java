@@ -0,0 +1,107 @@
+package com.trip.user.dto;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.trip.user.code.Status;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * JSON, CBOR, Smile 의 인코딩, 디코딩 시간과 페이로드 크기 비교
+ * 단건 응답({@code GetUserByIdx.Res})과 100건 페이지 응답({@code GetAllUsers.Res})을 측정하며
+ * 바이너리 ObjectMapper 는 {@code MessageConverterConfig}와 같은 설정을 사용합니다. ./gradlew benchmark 로 실행합니다.
+ */
+@Tag("benchmark")
+class UserPayloadBenchmarkTest {
+
+    private static final int PAGE_SIZE = 100;
+    private static final int WARMUP_ROUNDS = 20_000;
+    private static final int MEASURE_ROUNDS = 50_000;
+
+    private final ObjectMapper json = Jackson2ObjectMapperBuilder.json().build();
+    private final ObjectMapper cbor = binaryObjectMapper(new CBORFactory());
+    private final ObjectMapper smile = binaryObjectMapper(new SmileFactory());
+
+    @Test
+    void compareSingleUser() throws IOException {
+        GetUserByIdx.Res res = GetUserByIdx.Res.builder()
+                .user(user(1L))
+                .build();
+
+        compare("single", res, GetUserByIdx.Res.class);
+    }
+
+    @Test
+    void comparePage() throws IOException {
+        GetAllUsers.Res res = GetAllUsers.Res.builder()
+                .users(LongStream.rangeClosed(1, PAGE_SIZE).mapToObj(this::user).toList())
+                .nextCursor(1L)
+                .hasNext(true)
+                .build();
+
+        compare("page", res, GetAllUsers.Res.class);
+    }
+
+    private <T> void compare(String name, T value, Class<T> type) throws IOException {
+        for (Format format : List.of(new Format("json", json), new Format("cbor", cbor), new Format("smile", smile))) {
+            byte[] encoded = format.mapper().writeValueAsBytes(value);
+            // 왕복 후 같은 내용인지 확인
+            assertEquals(json.writeValueAsString(value), json.writeValueAsString(format.mapper().readValue(encoded, type)));
+
+            for (int i = 0; i < WARMUP_ROUNDS; i++) {
+                format.mapper().readValue(format.mapper().writeValueAsBytes(value), type);
+            }
+
+            long encodeStartedAt = System.nanoTime();
+            for (int i = 0; i < MEASURE_ROUNDS; i++) {
+                format.mapper().writeValueAsBytes(value);
+            }
+            long encodeNanos = (System.nanoTime() - encodeStartedAt) / MEASURE_ROUNDS;
+
+            long decodeStartedAt = System.nanoTime();
+            for (int i = 0; i < MEASURE_ROUNDS; i++) {
+                format.mapper().readValue(encoded, type);
+            }
+            long decodeNanos = (System.nanoTime() - decodeStartedAt) / MEASURE_ROUNDS;
+
+            System.out.printf("%-6s %-5s : %,7d bytes, encode %,8d ns, decode %,8d ns%n",
+                    name, format.name(), encoded.length, encodeNanos, decodeNanos);
+        }
+    }
+
+    private ObjectMapper binaryObjectMapper(JsonFactory jsonFactory) {
+        return Jackson2ObjectMapperBuilder.json()
+                .factory(jsonFactory)
+                .featuresToEnable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+    }
+
+    private User user(long idx) {
+        LocalDateTime now = LocalDateTime.of(2024, 5, 1, 12, 30, 15, 123_000_000);
+        return User.builder()
+                .idx(idx)
+                .email("user" + idx + "@trip.com")
+                .name("User " + idx)
+                .status(Status.ACTIVE)
+                .createAt(now)
+                .updateAt(now)
+                .lastLoginIp("192.168.0." + idx % 255)
+                .lastLoginAt(now)
+                .failedAttempts(0)
+                .build();
+    }
+
+    private record Format(String name, ObjectMapper mapper) {
+    }
+}
@@ -0,0 +1,197 @@
+package com.trip.user.importer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.trip.common.exception.PasswordHashingBusyException;
+import com.trip.common.password.PasswordHasher;
+import com.trip.kafka.KafkaProducer;
+import com.trip.user.code.ImportState;
+import com.trip.user.entity.UserEntity;
+import com.trip.user.index.UserPrefixIndex;
+import com.trip.user.repository.UserBatchRepository;
+import com.trip.user.repository.UserInsertResult;
+import com.trip.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class UserFileImporterTest {
+
+    @TempDir
+    Path baseDir;
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final UserBatchRepository userBatchRepository = mock(UserBatchRepository.class);
+    private final PasswordHasher passwordHasher = mock(PasswordHasher.class);
+    private UserFileImporter userFileImporter;
+
+    @BeforeEach
+    void setUp() {
+        AtomicLong sequence = new AtomicLong();
+        Set<String> storedEmails = ConcurrentHashMap.newKeySet();
+        storedEmails.add("taken@test.com");
+
+        when(userRepository.findExistingEmails(anyCollection())).thenAnswer(invocation -> {
+            Collection<String> emails = invocation.getArgument(0);
+            return emails.stream().filter(storedEmails::contains).collect(Collectors.toSet());
+        });
+        when(userBatchRepository.insertAllOrEach(anyList())).thenAnswer(invocation -> {
+            List<UserEntity> users = invocation.getArgument(0);
+            return users.stream().map(user -> {
+                // 중복 조회 이후 다른 요청이 같은 이메일로 먼저 가입한 경우
+                if (user.getEmail().startsWith("raced")) {
+                    return UserInsertResult.failed(new DuplicateKeyException("duplicate email"));
+                }
+                storedEmails.add(user.getEmail());
+                return UserInsertResult.created(sequence.incrementAndGet());
+            }).toList();
+        });
+
+        when(passwordHasher.isHashed(anyString())).thenAnswer(invocation -> invocation.<String>getArgument(0).startsWith("$2a$"));
+        when(passwordHasher.hashAll(anyList())).thenAnswer(invocation -> invocation.<List<String>>getArgument(0).stream()
+                .map(password -> "$2a$" + password)
+                .toList());
+
+        // window 를 작게 두어 여러 구간으로 나뉘어 파싱, 적재되도록 함
+        userFileImporter = new UserFileImporter(userRepository, userBatchRepository, mock(UserPrefixIndex.class),
+                mock(KafkaProducer.class), passwordHasher, new ObjectMapper(), baseDir.toString(),
+                2, DataSize.ofBytes(64), DataSize.ofBytes(0), 2, 2);
+    }
+
+    @Test
+    void start_Csv_InsertsRowsAndWritesRejectsAndCheckpoint() throws Exception {
+        // Given
+        Path file = Files.writeString(baseDir.resolve("users.csv"), """
+                email,password,name
+                alice@test.com,pw,Alice
+                bob@test.com,pw,Bob
+                invalid,pw,Invalid
+                taken@test.com,pw,Taken
+                alice@test.com,pw,Alice Again
+                carol@test.com,pw,Carol
+                """);
+
+        // When
+        UserImportJob job = awaitFinished(userFileImporter.start("users.csv", false));
+
+        // Then
+        assertEquals(ImportState.COMPLETED, job.getState());
+        assertEquals(6, job.getReadRows().get());
+        assertEquals(3, job.getInsertedRows().get());
+        assertEquals(3, job.getRejectedRows().get());
+        assertEquals(Files.size(file), job.getProcessedBytes().get());
+        assertEquals(Long.toString(Files.size(file)), Files.readString(baseDir.resolve("users.csv.checkpoint")));
+        assertEquals(3, Files.readAllLines(baseDir.resolve("users.csv.rejects")).size());
+    }
+
+    @Test
+    void start_Resume_SkipsCheckpointedBytes() throws Exception {
+        // Given
+        String header = "email,password,name\n";
+        String done = "alice@test.com,pw,Alice\n";
+        Files.writeString(baseDir.resolve("users.csv"), header + done + "bob@test.com,pw,Bob\n");
+        Files.writeString(baseDir.resolve("users.csv.checkpoint"), Integer.toString(header.length() + done.length()));
+
+        // When
+        UserImportJob job = awaitFinished(userFileImporter.start("users.csv", true));
+
+        // Then
+        assertEquals(ImportState.COMPLETED, job.getState());
+        assertEquals(1, job.getInsertedRows().get());
+        verify(userBatchRepository, times(1)).insertAllOrEach(argThat(users ->
+                users.size() == 1 && users.get(0).getEmail().equals("bob@test.com")));
+    }
+
+    @Test
+    void start_PlainPasswords_StoresHashes() throws Exception {
+        // Given
+        Files.writeString(baseDir.resolve("users.csv"), """
+                email,password,name
+                alice@test.com,pw,Alice
+                bob@test.com,$2a$hashed,Bob
+                """);
+
+        // When
+        UserImportJob job = awaitFinished(userFileImporter.start("users.csv", false));
+
+        // Then
+        assertEquals(ImportState.COMPLETED, job.getState());
+        verify(passwordHasher).hashAll(List.of("pw"));
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<UserEntity>> captor = ArgumentCaptor.forClass(List.class);
+        verify(userBatchRepository, atLeastOnce()).insertAllOrEach(captor.capture());
+        assertEquals(List.of("$2a$pw", "$2a$hashed"), captor.getAllValues().stream()
+                .flatMap(List::stream)
+                .map(UserEntity::getPassword)
+                .toList());
+    }
+
+    @Test
+    void start_PasswordHashingBusy_RetriesInsteadOfRejecting() throws Exception {
+        // Given
+        Files.writeString(baseDir.resolve("users.csv"), """
+                email,password,name
+                alice@test.com,pw,Alice
+                """);
+        when(passwordHasher.hashAll(anyList()))
+                .thenThrow(new PasswordHashingBusyException())
+                .thenReturn(List.of("$2a$pw"));
+
+        // When
+        UserImportJob job = awaitFinished(userFileImporter.start("users.csv", false));
+
+        // Then
+        assertEquals(ImportState.COMPLETED, job.getState());
+        assertEquals(1, job.getInsertedRows().get());
+        assertEquals(0, job.getRejectedRows().get());
+        verify(passwordHasher, times(2)).hashAll(List.of("pw"));
+    }
+
+    @Test
+    void start_RowFailsInBatch_RejectsOnlyThatRow() throws Exception {
+        // Given
+        Files.writeString(baseDir.resolve("users.csv"), """
+                email,password,name
+                alice@test.com,pw,Alice
+                raced@test.com,pw,Raced
+                """);
+
+        // When
+        UserImportJob job = awaitFinished(userFileImporter.start("users.csv", false));
+
+        // Then
+        assertEquals(ImportState.COMPLETED, job.getState());
+        assertEquals(1, job.getInsertedRows().get());
+        assertEquals(1, job.getRejectedRows().get());
+        List<String> rejects = Files.readAllLines(baseDir.resolve("users.csv.rejects"));
+        assertEquals(1, rejects.size());
+        assertTrue(rejects.get(0).contains("email already exists\traced@test.com"));
+    }
+
+    @Test
+    void start_PathOutsideBaseDir_ThrowsException() {
+        assertThrows(IllegalArgumentException.class, () -> userFileImporter.start("../users.csv", false));
+    }
+
+    private UserImportJob awaitFinished(UserImportJob job) throws InterruptedException {
+        for (int i = 0; i < 100 && job.isRunning(); i++) {
+            Thread.sleep(50);
+        }
+        return userFileImporter.getJob(job.getId());
+    }
+}
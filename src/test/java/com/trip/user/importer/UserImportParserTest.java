@@ -0,0 +1,91 @@
+package com.trip.user.importer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.trip.user.code.ImportFormat;
+import com.trip.user.code.Status;
+import com.trip.user.importer.UserImportParser.ParsedChunk;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UserImportParserTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void parse_Csv_ConvertsRowsAndRejectsInvalid() {
+        // Given
+        List<String> header = UserImportParser.parseHeader("email,password,name,status,created_at");
+        UserImportParser parser = new UserImportParser(ImportFormat.CSV, header, objectMapper);
+        String body = """
+                alice@test.com,pw,"Glover, Tiffany",SUSPENDED,2024-10-19 13:25:56\r
+                invalid,pw,Bob,ACTIVE,
+                carol@test.com,pw,Carol,UNKNOWN,
+                """;
+
+        // When
+        ParsedChunk chunk = parser.parse(100, body.getBytes(StandardCharsets.UTF_8));
+
+        // Then
+        assertEquals(1, chunk.rows().size());
+        assertEquals("Glover, Tiffany", chunk.rows().get(0).userEntity().getName());
+        assertEquals(Status.SUSPENDED, chunk.rows().get(0).userEntity().getStatus());
+        assertEquals(LocalDateTime.of(2024, 10, 19, 13, 25, 56), chunk.rows().get(0).userEntity().getCreatedAt());
+        assertEquals(100, chunk.rows().get(0).offset());
+
+        assertEquals(2, chunk.rejects().size());
+        assertEquals("invalid email", chunk.rejects().get(0).reason());
+        assertEquals("invalid status UNKNOWN", chunk.rejects().get(1).reason());
+        assertEquals(100 + body.getBytes(StandardCharsets.UTF_8).length, chunk.endOffset());
+    }
+
+    @Test
+    void parse_Ndjson_ConvertsRowsAndRejectsMalformed() {
+        // Given
+        UserImportParser parser = new UserImportParser(ImportFormat.NDJSON, List.of(), objectMapper);
+        String body = """
+                {"email":"alice@test.com","password":"pw","name":"Alice","failed_attempts":2}
+                {"email":"bob@test.com","password":"pw"
+                {"email":"carol@test.com","name":"Carol"}
+                """;
+
+        // When
+        ParsedChunk chunk = parser.parse(0, body.getBytes(StandardCharsets.UTF_8));
+
+        // Then
+        assertEquals(1, chunk.rows().size());
+        assertEquals(2, chunk.rows().get(0).userEntity().getFailedAttempts());
+        assertEquals(Status.ACTIVE, chunk.rows().get(0).userEntity().getStatus());
+        assertEquals(List.of("malformed json", "password is required"),
+                chunk.rejects().stream().map(UserImportParser.ImportReject::reason).toList());
+    }
+
+    @Test
+    void parse_Ipv6LastLoginIp_Accepted() {
+        // Given
+        UserImportParser parser = new UserImportParser(ImportFormat.NDJSON, List.of(), objectMapper);
+        String ipv6 = "2001:0db8:85a3:0000:0000:8a2e:192.168.100.200";
+        String body = """
+                {"email":"alice@test.com","password":"pw","name":"Alice","last_login_ip":"%s"}
+                {"email":"bob@test.com","password":"pw","name":"Bob","last_login_ip":"%s0"}
+                """.formatted(ipv6, ipv6);
+
+        // When
+        ParsedChunk chunk = parser.parse(0, body.getBytes(StandardCharsets.UTF_8));
+
+        // Then
+        assertEquals(1, chunk.rows().size());
+        assertEquals(ipv6, chunk.rows().get(0).userEntity().getLastLoginIp());
+        assertEquals(List.of("last_login_ip is too long"),
+                chunk.rejects().stream().map(UserImportParser.ImportReject::reason).toList());
+    }
+
+    @Test
+    void parseHeader_MissingRequiredColumn_ThrowsException() {
+        assertThrows(IllegalArgumentException.class, () -> UserImportParser.parseHeader("email,name"));
+    }
+}
@@ -0,0 +1,75 @@
+package com.trip.user.index;
+
+import com.trip.user.code.Status;
+import com.trip.user.dto.User;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PrefixIndexPageTest {
+
+    @Test
+    void accept_StaleEntries_RefillsWithRemainingSize() {
+        // given: 3은 탈퇴, 4는 이메일이 바뀌었지만 아직 색인에 남아 있음
+        List<String> calls = new ArrayList<>();
+        PrefixIndexPage page = new PrefixIndexPage((prefix, cursor, limit) -> {
+            calls.add(cursor + ":" + limit);
+            return cursor == null ? List.of(5L, 4L, 3L) : List.of(2L, 1L);
+        }, User::getEmail, "user", null, 3);
+
+        // when
+        List<User> users = new ArrayList<>();
+        users.addAll(page.accept(users(page.nextCandidates(), user(5L, "user5@test.com"), user(4L, "renamed@test.com"))));
+        users.addAll(page.accept(users(page.nextCandidates(), user(2L, "user2@test.com"), user(1L, "user1@test.com"))));
+
+        // then
+        assertEquals(List.of("null:3", "3:2"), calls);
+        assertEquals(List.of(5L, 2L, 1L), users.stream().map(User::getIdx).toList());
+        assertFalse(page.hasNext());
+        assertFalse(page.needsFallback());
+    }
+
+    @Test
+    void hasNext_IndexExhausted_DoesNotFallBack() {
+        // given
+        PrefixIndexPage page = new PrefixIndexPage((prefix, cursor, limit) -> List.of(2L), User::getEmail, "user", null, 3);
+
+        // when
+        page.accept(users(page.nextCandidates(), user(2L, "user2@test.com")));
+
+        // then
+        assertFalse(page.hasNext());
+        assertFalse(page.needsFallback());
+    }
+
+    @Test
+    void needsFallback_RefillRoundsUsed_ContinuesFromLastCandidate() {
+        // given: 색인 후보가 모두 오래된 항목
+        PrefixIndexPage page = new PrefixIndexPage((prefix, cursor, limit) -> {
+            long from = cursor == null ? 100L : cursor - 1;
+            return List.of(from, from - 1);
+        }, User::getEmail, "user", null, 2);
+
+        // when
+        while (page.hasNext()) {
+            page.accept(users(page.nextCandidates()));
+        }
+
+        // then
+        assertTrue(page.needsFallback());
+        assertEquals(95L, page.cursor());
+        assertEquals(2, page.remaining());
+    }
+
+    // 후보 중 주어진 사용자만 조회된 것으로 봄
+    private List<User> users(List<Long> candidates, User... loaded) {
+        return List.of(loaded).stream().filter(user -> candidates.contains(user.getIdx())).toList();
+    }
+
+    private User user(Long idx, String email) {
+        return User.builder().idx(idx).email(email).name("User " + idx).status(Status.ACTIVE).build();
+    }
+}
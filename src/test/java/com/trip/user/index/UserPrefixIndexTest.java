@@ -0,0 +1,99 @@
+package com.trip.user.index;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.trip.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class UserPrefixIndexTest {
+
+    private UserPrefixIndex userPrefixIndex;
+
+    @BeforeEach
+    void setUp() {
+        userPrefixIndex = new UserPrefixIndex(true, 2);
+        userPrefixIndex.load(List.of(
+                new UserIndexEntry(1L, "alice@test.com", "Alice"),
+                new UserIndexEntry(2L, "alan@test.com", "Alan"),
+                new UserIndexEntry(3L, "bob@test.com", "Bob"),
+                new UserIndexEntry(4L, "alex@test.com", "Alex")
+        ));
+        userPrefixIndex.markReady();
+    }
+
+    @Test
+    void findByEmailPrefix_ShortPrefix_ReturnsIdxDescending() {
+        assertEquals(List.of(4L, 2L, 1L), userPrefixIndex.findByEmailPrefix("al", null, 10));
+    }
+
+    @Test
+    void findByEmailPrefix_LongPrefix_ReturnsIdxDescending() {
+        assertEquals(List.of(4L), userPrefixIndex.findByEmailPrefix("alex", null, 10));
+        assertEquals(List.of(2L, 1L), userPrefixIndex.findByNamePrefix("Al", 4L, 10));
+    }
+
+    @Test
+    void findByEmailPrefix_CursorAndLimit_ReturnsNextPage() {
+        assertEquals(List.of(2L), userPrefixIndex.findByEmailPrefix("a", 4L, 1));
+        assertEquals(List.of(1L), userPrefixIndex.findByEmailPrefix("ali", 2L, 1));
+    }
+
+    @Test
+    void putAndRemove_UpdatesIndex() {
+        userPrefixIndex.put(3L, "alfred@test.com", "Alfred");
+        userPrefixIndex.remove(4L);
+
+        assertEquals(List.of(3L, 2L, 1L), userPrefixIndex.findByEmailPrefix("al", null, 10));
+        assertTrue(userPrefixIndex.findByEmailPrefix("bob", null, 10).isEmpty());
+    }
+
+    @Test
+    void patch_KeepsUnchangedField() {
+        assertTrue(userPrefixIndex.patch(3L, null, "Alfred"));
+        assertFalse(userPrefixIndex.patch(5L, "eve@test.com", null));
+
+        assertEquals(List.of(3L), userPrefixIndex.findByEmailPrefix("bob", null, 10));
+        assertEquals(List.of(4L, 3L, 2L, 1L), userPrefixIndex.findByNamePrefix("Al", null, 10));
+        assertTrue(userPrefixIndex.findByEmailPrefix("eve", null, 10).isEmpty());
+    }
+
+    @Test
+    void eventListener_AppliesChangesFromOtherNodes() {
+        UserRepository userRepository = mock(UserRepository.class);
+        when(userRepository.findIndexEntries(6L, 7L)).thenReturn(List.of(new UserIndexEntry(6L, "carol@test.com", "Carl")));
+        UserPrefixIndexEventListener listener = new UserPrefixIndexEventListener(userPrefixIndex, userRepository, new ObjectMapper());
+
+        listener.consumeMessage("""
+                {"action":"CREATED","afterUsers":[{"idx":5,"email":"alba@test.com","name":"Alba"}]}""");
+        listener.consumeMessage("""
+                {"action":"UPDATED","afterUser":{"idx":3,"email":"alfie@test.com"}}""");
+        // 색인에 없는 사용자의 부분 변경은 DB 에서 현재 값을 읽음
+        listener.consumeMessage("""
+                {"action":"UPDATED","afterUser":{"idx":6,"name":"Carl"}}""");
+        listener.consumeMessage("""
+                {"action":"DELETED","beforeUser":{"idx":1,"status":"DELETED"}}""");
+        listener.consumeMessage("""
+                {"action":"LOGIN","afterUser":{"idx":2,"email":"zed@test.com","name":"Zed"}}""");
+
+        assertEquals(List.of(5L, 4L, 3L, 2L), userPrefixIndex.findByEmailPrefix("al", null, 10));
+        assertEquals(List.of(3L), userPrefixIndex.findByNamePrefix("Bob", null, 10));
+        assertEquals(List.of(6L), userPrefixIndex.findByNamePrefix("Carl", null, 10));
+        assertTrue(userPrefixIndex.findByEmailPrefix("zed", null, 10).isEmpty());
+    }
+
+    @Test
+    void load_SkipsUsersChangedWhileWarming() {
+        UserPrefixIndex warmingIndex = new UserPrefixIndex(true, 2);
+        warmingIndex.remove(1L);
+        warmingIndex.load(List.of(new UserIndexEntry(1L, "alice@test.com", "Alice")));
+        warmingIndex.markReady();
+
+        assertFalse(warmingIndex.canServe(""));
+        assertTrue(warmingIndex.findByEmailPrefix("al", null, 10).isEmpty());
+    }
+}
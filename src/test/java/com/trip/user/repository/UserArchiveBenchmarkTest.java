@@ -0,0 +1,109 @@
+package com.trip.user.repository;
+
+import com.trip.config.QueryDslConfig;
+import com.trip.user.dto.User;
+import com.trip.user.index.UserPrefixIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 삭제 사용자를 보관 테이블로 옮기기 전, 후의 목록 조회 시간 비교
+ * 전체의 80%가 보존 기간이 지난 삭제 사용자인 상황을 가정합니다. ./gradlew benchmark 로 실행합니다.
+ */
+@Tag("benchmark")
+@DataJpaTest
+@Import({QueryDslConfig.class, UserPrefixIndex.class, UserArchiveRepository.class})
+class UserArchiveBenchmarkTest {
+
+    private static final int USER_COUNT = 100_000;
+    private static final int PAGE_SIZE = 100;
+    private static final int PAGES = 50;
+    private static final int ROUNDS = 20;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserArchiveRepository userArchiveRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("""
+                INSERT INTO users (email, password, name, status, created_at, updated_at, last_login_ip, last_login_at, failed_attempts)
+                SELECT CONCAT('user', X, '@bench.com'), 'password', CONCAT('User ', X),
+                       CASE WHEN MOD(X, 5) = 0 THEN 'ACTIVE' ELSE 'DELETED' END,
+                       DATEADD('DAY', -90, CURRENT_TIMESTAMP), DATEADD('DAY', -60, CURRENT_TIMESTAMP), '127.0.0.1', CURRENT_TIMESTAMP, 0
+                FROM SYSTEM_RANGE(1, ?)
+                """, USER_COUNT);
+    }
+
+    @Test
+    void compareListQueriesBeforeAndAfterArchive() {
+        Function<Long, List<User>> allUsers = cursor -> userRepository.findAllUsersByOrderByIdxDesc(cursor, PAGE_SIZE);
+        Function<Long, List<User>> emailPrefix = cursor -> userRepository.findUsersByEmailStartsWith(cursor, "user1", PAGE_SIZE);
+
+        List<Long> allBefore = scanPages(allUsers);
+        List<Long> prefixBefore = scanPages(emailPrefix);
+        long allBeforeMillis = measure(allUsers);
+        long prefixBeforeMillis = measure(emailPrefix);
+
+        long archived = 0;
+        List<Long> moved;
+        do {
+            moved = userArchiveRepository.moveDeletedUsers(LocalDateTime.now().minusDays(30), 5_000);
+            archived += moved.size();
+        } while (!moved.isEmpty());
+
+        long allAfterMillis = measure(allUsers);
+        long prefixAfterMillis = measure(emailPrefix);
+
+        System.out.printf("archived        : %,d users%n", archived);
+        System.out.printf("all users       : before %,d ms, after %,d ms%n", allBeforeMillis, allAfterMillis);
+        System.out.printf("email prefix    : before %,d ms, after %,d ms%n", prefixBeforeMillis, prefixAfterMillis);
+
+        assertEquals(USER_COUNT * 4 / 5, archived);
+        assertEquals(allBefore, scanPages(allUsers));
+        assertEquals(prefixBefore, scanPages(emailPrefix));
+    }
+
+    private long measure(Function<Long, List<User>> path) {
+        for (int i = 0; i < ROUNDS; i++) {
+            scanPages(path);
+        }
+
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < ROUNDS; i++) {
+            scanPages(path);
+        }
+        return (System.nanoTime() - startedAt) / 1_000_000;
+    }
+
+    private List<Long> scanPages(Function<Long, List<User>> path) {
+        List<Long> idxList = new ArrayList<>();
+        Long cursor = null;
+        for (int page = 0; page < PAGES; page++) {
+            List<User> users = path.apply(cursor);
+            if (users.isEmpty()) {
+                break;
+            }
+            users.forEach(user -> idxList.add(user.getIdx()));
+            cursor = users.get(users.size() - 1).getIdx();
+        }
+        return idxList;
+    }
+}
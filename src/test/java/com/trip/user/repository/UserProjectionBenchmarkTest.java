@@ -0,0 +1,126 @@
+package com.trip.user.repository;
+
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.trip.config.QueryDslConfig;
+import com.trip.user.code.Status;
+import com.trip.user.dto.User;
+import com.trip.user.entity.UserEntity;
+import com.trip.user.index.UserPrefixIndex;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.function.Function;
+
+import static com.trip.user.entity.QUserEntity.userEntity;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 100건 페이지 조회 시 엔티티 조회 + DTO 변환 경로와 DTO 프로젝션 경로의 시간, 할당량 비교
+ * ./gradlew benchmark 로 실행합니다.
+ */
+@Tag("benchmark")
+@DataJpaTest
+@Import({QueryDslConfig.class, UserPrefixIndex.class})
+class UserProjectionBenchmarkTest {
+
+    private static final int USER_COUNT = 20_000;
+    private static final int PAGE_SIZE = 100;
+    private static final int WARMUP_ROUNDS = 5;
+    private static final int MEASURE_ROUNDS = 20;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JPAQueryFactory queryFactory;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("""
+                INSERT INTO users (email, password, name, status, created_at, updated_at, last_login_ip, last_login_at, failed_attempts)
+                SELECT CONCAT('user', X, '@bench.com'), 'password', CONCAT('User ', X), 'ACTIVE',
+                       CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, '127.0.0.1', CURRENT_TIMESTAMP, 0
+                FROM SYSTEM_RANGE(1, ?)
+                """, USER_COUNT);
+    }
+
+    @Test
+    void compareEntityAndProjectionPages() {
+        Function<Long, List<User>> entityPath = cursor -> {
+            List<User> users = User.fromEntityList(findAllEntities(cursor));
+            // 요청마다 영속성 컨텍스트가 새로 열리는 상황을 재현
+            entityManager.clear();
+            return users;
+        };
+        Function<Long, List<User>> projectionPath = cursor -> userRepository.findAllUsersByOrderByIdxDesc(cursor, PAGE_SIZE);
+
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            scanAllPages(entityPath);
+            scanAllPages(projectionPath);
+        }
+
+        Result entity = measure(entityPath);
+        Result projection = measure(projectionPath);
+
+        System.out.printf("entity     : %,d ms, %,d bytes allocated per page%n", entity.elapsedMillis, entity.bytesPerPage);
+        System.out.printf("projection : %,d ms, %,d bytes allocated per page%n", projection.elapsedMillis, projection.bytesPerPage);
+
+        assertEquals(entity.pages, projection.pages);
+    }
+
+    // 비교 기준: 프로젝션 도입 전처럼 엔티티 전체를 조회
+    private List<UserEntity> findAllEntities(Long cursor) {
+        return queryFactory.selectFrom(userEntity)
+                .where(cursor == null ? null : userEntity.idx.lt(cursor),
+                        userEntity.status.ne(Status.DELETED))
+                .orderBy(userEntity.idx.desc())
+                .limit(PAGE_SIZE)
+                .fetch();
+    }
+
+    private Result measure(Function<Long, List<User>> path) {
+        com.sun.management.ThreadMXBean threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long pages = 0;
+        long allocatedBefore = threadMXBean.getCurrentThreadAllocatedBytes();
+        long startedAt = System.nanoTime();
+
+        for (int i = 0; i < MEASURE_ROUNDS; i++) {
+            pages += scanAllPages(path);
+        }
+
+        long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+        long allocated = threadMXBean.getCurrentThreadAllocatedBytes() - allocatedBefore;
+        return new Result(pages / MEASURE_ROUNDS, elapsedMillis, allocated / pages);
+    }
+
+    private long scanAllPages(Function<Long, List<User>> path) {
+        long pages = 0;
+        Long cursor = null;
+        List<User> users;
+        do {
+            users = path.apply(cursor);
+            if (!users.isEmpty()) {
+                cursor = users.get(users.size() - 1).getIdx();
+                pages++;
+            }
+        } while (users.size() == PAGE_SIZE);
+        return pages;
+    }
+
+    private record Result(long pages, long elapsedMillis, long bytesPerPage) {
+    }
+}
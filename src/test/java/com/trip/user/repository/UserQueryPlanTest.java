@@ -0,0 +1,292 @@
+package com.trip.user.repository;
+
+import com.trip.config.QueryDslConfig;
+import com.trip.user.index.UserPrefixIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/**
+ * users 테이블 조회, 변경 쿼리의 실행 계획 회귀 테스트
+ * 큰 테이블을 만든 뒤 저장소 메서드를 실행하며 JDBC 로 나간 SQL 과 파라미터를 기록하고,
+ * 파라미터를 값으로 채운 SQL 의 EXPLAIN 결과가 전체 스캔(tableScan)이면 실패합니다.
+ * users 를 읽거나 바꾸는 저장소 메서드는 모두 포함하며, 전체를 읽는 것이 목적인 내보내기(streamActiveUsers)만 제외합니다.
+ */
+@DataJpaTest
+@Import({QueryDslConfig.class, UserPrefixIndex.class, UserArchiveRepository.class, UserQueryPlanTest.StatementRecorderConfig.class})
+class UserQueryPlanTest {
+
+    private static final int USER_COUNT = 50_000;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserArchiveRepository userArchiveRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private StatementRecorder statementRecorder;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("""
+                INSERT INTO users (email, password, name, status, created_at, updated_at, last_login_ip, last_login_at, failed_attempts)
+                SELECT CONCAT('user', X, '@plan.com'), 'password', CONCAT('User ', X),
+                       CASE WHEN MOD(X, 10) = 0 THEN 'DELETED' ELSE 'ACTIVE' END,
+                       CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, '127.0.0.1', CURRENT_TIMESTAMP, 0
+                FROM SYSTEM_RANGE(1, ?)
+                """, USER_COUNT);
+        jdbcTemplate.execute("ANALYZE TABLE users");
+    }
+
+    @Test
+    void findByEmail_UsesIndex() {
+        assertNoFullScan(() -> userRepository.findByEmail("user100@plan.com"));
+    }
+
+    @Test
+    void findByIdx_UsesIndex() {
+        assertNoFullScan(() -> {
+            userRepository.findByIdx(100L);
+            userRepository.findUserByIdx(100L);
+            userRepository.findPasswordByIdx(100L);
+        });
+    }
+
+    @Test
+    void findAllUsersByOrderByIdxDesc_UsesIndex() {
+        assertNoFullScan(() -> {
+            userRepository.findAllUsersByOrderByIdxDesc(null, 16);
+            userRepository.findAllUsersByOrderByIdxDesc(25_000L, 16);
+        });
+    }
+
+    @Test
+    void findUsersByEmailStartsWith_UsesIndex() {
+        assertNoFullScan(() -> {
+            userRepository.findUsersByEmailStartsWith(null, "user1", 16);
+            userRepository.findUsersByEmailStartsWith(25_000L, "user1", 16);
+        });
+    }
+
+    @Test
+    void findUsersByNameStartsWith_UsesIndex() {
+        assertNoFullScan(() -> {
+            userRepository.findUsersByNameStartsWith(null, "User 1", 16);
+            userRepository.findUsersByNameStartsWith(25_000L, "User 1", 16);
+        });
+    }
+
+    @Test
+    void bulkLookups_UseIndex() {
+        assertNoFullScan(() -> {
+            userRepository.findUsersByIdxIn(List.of(1L, 2L, 3L));
+            userRepository.findExistingEmails(List.of("user1@plan.com", "user2@plan.com"));
+            userRepository.findIndexEntries(1, 5_001);
+            userRepository.findMaxIdx();
+            userRepository.findVersionByIdx(100L);
+        });
+    }
+
+    @Test
+    void streamInactiveIdx_UsesIndex() {
+        assertNoFullScan(() -> {
+            try (Stream<Long> inactiveIdx = userRepository.streamInactiveIdx(1_000)) {
+                inactiveIdx.count();
+            }
+        });
+    }
+
+    @Test
+    void updates_UseIndex() {
+        assertNoFullScan(() -> {
+            userRepository.updateProfile(100L, null, "Renamed", null);
+            userRepository.updateProfile(100L, null, "Renamed again", 1L);
+            userRepository.updatePassword(100L, "changed");
+            userRepository.replacePassword(101L, "password", "changed");
+            userRepository.markDeleted(100L);
+        });
+    }
+
+    @Test
+    void moveDeletedUsers_UsesIndex() {
+        assertNoFullScan(() -> userArchiveRepository.moveDeletedUsers(LocalDateTime.now().minusDays(30), 100));
+    }
+
+    @Test
+    void archiveLookups_UseIndex() {
+        assertNoFullScan(() -> {
+            userArchiveRepository.findByIdx(100L);
+            userArchiveRepository.findByEmail("user100@plan.com");
+        });
+    }
+
+    private void assertNoFullScan(Runnable queries) {
+        statementRecorder.clear();
+        queries.run();
+
+        List<String> explained = new ArrayList<>();
+        for (RecordedStatement statement : statementRecorder.statements()) {
+            String sql = statement.sqlWithLiterals();
+            String command = sql.stripLeading().toLowerCase();
+            if (!command.startsWith("select") && !command.startsWith("update") && !command.startsWith("delete")) {
+                continue;
+            }
+
+            String plan = String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + sql, String.class));
+            explained.add(plan);
+            // MAX(idx) 같은 direct lookup 은 인덱스 끝 값만 읽으므로 허용
+            assertFalse(plan.contains("tableScan") && !plan.contains("direct lookup"),
+                    () -> "Full scan plan for\n" + sql + "\n\n" + plan);
+        }
+        assertFalse(explained.isEmpty(), "No statement was captured");
+    }
+
+    /**
+     * 실행된 PreparedStatement 의 SQL 과 바인딩된 파라미터
+     */
+    record RecordedStatement(String sql, Map<Integer, Object> params) {
+
+        String sqlWithLiterals() {
+            StringBuilder builder = new StringBuilder();
+            int parameterIndex = 1;
+            for (char c : sql.toCharArray()) {
+                if (c == '?') {
+                    builder.append(literal(params.get(parameterIndex++)));
+                } else {
+                    builder.append(c);
+                }
+            }
+            return builder.toString();
+        }
+
+        private static String literal(Object value) {
+            if (value == null) {
+                return "NULL";
+            }
+            if (value instanceof Number || value instanceof Boolean) {
+                return value.toString();
+            }
+            if (value instanceof Timestamp timestamp) {
+                return "TIMESTAMP '" + timestamp.toLocalDateTime().toString().replace('T', ' ') + "'";
+            }
+            if (value instanceof LocalDateTime localDateTime) {
+                return "TIMESTAMP '" + localDateTime.toString().replace('T', ' ') + "'";
+            }
+            return "'" + value.toString().replace("'", "''") + "'";
+        }
+    }
+
+    /**
+     * DataSource 를 감싸 PreparedStatement 의 SQL 과 set 으로 바인딩된 값을 기록합니다.
+     */
+    static class StatementRecorder {
+
+        private final List<RecordedStatement> statements = new CopyOnWriteArrayList<>();
+
+        List<RecordedStatement> statements() {
+            return statements;
+        }
+
+        void clear() {
+            statements.clear();
+        }
+
+        DataSource wrap(DataSource dataSource) {
+            return proxy(DataSource.class, dataSource, (target, method, args) -> {
+                Object result = method.invoke(target, args);
+                return result instanceof Connection connection ? wrap(connection) : result;
+            });
+        }
+
+        private Connection wrap(Connection connection) {
+            return proxy(Connection.class, connection, (target, method, args) -> {
+                Object result = method.invoke(target, args);
+                if (result instanceof PreparedStatement preparedStatement && args != null && args[0] instanceof String sql) {
+                    return wrap(preparedStatement, sql);
+                }
+                return result;
+            });
+        }
+
+        private PreparedStatement wrap(PreparedStatement preparedStatement, String sql) {
+            Map<Integer, Object> params = new ConcurrentHashMap<>();
+            statements.add(new RecordedStatement(sql, params));
+
+            return proxy(PreparedStatement.class, preparedStatement, (target, method, args) -> {
+                if (method.getName().startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index) {
+                    if (method.getName().equals("setNull") || args[1] == null) {
+                        params.remove(index);
+                    } else {
+                        params.put(index, args[1]);
+                    }
+                }
+                return method.invoke(target, args);
+            });
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <T> T proxy(Class<T> type, T target, Invocation invocation) {
+            InvocationHandler handler = (proxy, method, args) -> {
+                try {
+                    return invocation.invoke(target, method, args);
+                } catch (InvocationTargetException e) {
+                    throw e.getTargetException();
+                }
+            };
+            return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, handler);
+        }
+
+        @FunctionalInterface
+        private interface Invocation {
+            Object invoke(Object target, Method method, Object[] args) throws Throwable;
+        }
+    }
+
+    @TestConfiguration
+    static class StatementRecorderConfig {
+
+        @Bean
+        StatementRecorder statementRecorder() {
+            return new StatementRecorder();
+        }
+
+        @Bean
+        static BeanPostProcessor statementRecordingDataSourcePostProcessor(ObjectProvider<StatementRecorder> statementRecorder) {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource dataSource ? statementRecorder.getObject().wrap(dataSource) : bean;
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.trip.user.service;
+
+import com.trip.user.dto.ArchivedUser;
+import com.trip.user.exception.UserNotFoundException;
+import com.trip.user.repository.UserArchiveRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserArchiveServiceImplTest {
+    @Mock
+    private UserArchiveRepository userArchiveRepository;
+
+    private UserArchiveServiceImpl userArchiveService;
+
+    @BeforeEach
+    void setUp() {
+        userArchiveService = new UserArchiveServiceImpl(userArchiveRepository, Duration.ofDays(30), 2, 10);
+    }
+
+    @Test
+    void archiveDeletedUsers_MovesChunksUntilLastPartialChunk() {
+        // Given
+        when(userArchiveRepository.moveDeletedUsers(any(LocalDateTime.class), eq(2)))
+                .thenReturn(List.of(1L, 2L))
+                .thenReturn(List.of(3L, 4L))
+                .thenReturn(List.of(5L));
+
+        // When
+        long archivedCount = userArchiveService.archiveDeletedUsers();
+
+        // Then
+        assertEquals(5, archivedCount);
+        verify(userArchiveRepository, times(3)).moveDeletedUsers(any(LocalDateTime.class), eq(2));
+    }
+
+    @Test
+    void archiveDeletedUsers_StopsAtMaxChunksPerRun() {
+        // Given
+        when(userArchiveRepository.moveDeletedUsers(any(LocalDateTime.class), eq(2))).thenReturn(List.of(1L, 2L));
+
+        // When
+        long archivedCount = userArchiveService.archiveDeletedUsers();
+
+        // Then
+        assertEquals(20, archivedCount);
+        verify(userArchiveRepository, times(10)).moveDeletedUsers(any(LocalDateTime.class), eq(2));
+    }
+
+    @Test
+    void getArchivedUserByIdx_Success() {
+        // Given
+        when(userArchiveRepository.findByIdx(1L)).thenReturn(Optional.of(ArchivedUser.builder().idx(1L).build()));
+
+        // When & Then
+        assertEquals(1L, userArchiveService.getArchivedUserByIdx(1L).getIdx());
+    }
+
+    @Test
+    void getArchivedUserByIdx_NotFound_ThrowsException() {
+        // Given
+        when(userArchiveRepository.findByIdx(1L)).thenReturn(Optional.empty());
+
+        // When & Then
+        assertThrows(UserNotFoundException.class, () -> userArchiveService.getArchivedUserByIdx(1L));
+    }
+}
@@ -0,0 +1,101 @@
+package com.trip.user.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.trip.user.dto.User;
+import com.trip.user.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserExportServiceImplTest {
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    private UserExportServiceImpl userExportService;
+
+    @BeforeEach
+    void setUp() {
+        userExportService = new UserExportServiceImpl(userRepository, entityManager,
+                new ObjectMapper().findAndRegisterModules(), 100, 2);
+    }
+
+    @Test
+    void exportUsers_WritesOneUserPerLine() throws IOException {
+        // Given
+        when(userRepository.streamActiveUsers(100)).thenReturn(Stream.of(user(1L), user(2L), user(3L)));
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        // When
+        long count = userExportService.exportUsers(outputStream, false);
+
+        // Then
+        String[] lines = outputStream.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(3, count);
+        assertEquals(3, lines.length);
+        assertTrue(lines[0].startsWith("{\"idx\":1,"));
+        assertTrue(lines[2].startsWith("{\"idx\":3,"));
+        verify(entityManager, times(1)).clear();
+    }
+
+    @Test
+    void exportUsers_Gzip_WritesCompressedNdjson() throws IOException {
+        // Given
+        when(userRepository.streamActiveUsers(100)).thenReturn(Stream.of(user(1L), user(2L)));
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        // When
+        userExportService.exportUsers(outputStream, true);
+
+        // Then
+        try (GZIPInputStream inputStream = new GZIPInputStream(new ByteArrayInputStream(outputStream.toByteArray()))) {
+            String body = new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+            assertEquals(2, body.split("\n").length);
+            assertTrue(body.endsWith("\n"));
+        }
+    }
+
+    @Test
+    void exportUsers_ClientDisconnected_ClosesCursor() {
+        // Given
+        AtomicBoolean closed = new AtomicBoolean();
+        when(userRepository.streamActiveUsers(100))
+                .thenReturn(Stream.of(user(1L), user(2L), user(3L)).onClose(() -> closed.set(true)));
+        OutputStream brokenStream = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("Broken pipe");
+            }
+        };
+
+        // When & Then
+        assertThrows(IOException.class, () -> userExportService.exportUsers(brokenStream, false));
+        assertTrue(closed.get());
+    }
+
+    private User user(Long idx) {
+        return User.builder()
+                .idx(idx)
+                .email("user" + idx + "@test.com")
+                .name("User " + idx)
+                .build();
+    }
+}
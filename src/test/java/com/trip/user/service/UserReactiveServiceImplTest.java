@@ -0,0 +1,160 @@
+package com.trip.user.service;
+
+import com.trip.kafka.KafkaProducer;
+import com.trip.user.cache.ReactiveUserCache;
+import com.trip.user.code.Status;
+import com.trip.user.dto.User;
+import com.trip.user.exception.UserNotFoundException;
+import com.trip.user.index.UserPrefixIndex;
+import com.trip.user.repository.ReactiveUserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserReactiveServiceImplTest {
+
+    @Mock
+    private ReactiveUserRepository reactiveUserRepository;
+
+    @Mock
+    private ReactiveUserCache reactiveUserCache;
+
+    @Mock
+    private UserPrefixIndex userPrefixIndex;
+
+    @Mock
+    private KafkaProducer kafkaProducer;
+
+    private UserReactiveServiceImpl userReactiveService;
+
+    @BeforeEach
+    void setUp() {
+        userReactiveService = new UserReactiveServiceImpl(reactiveUserRepository, reactiveUserCache, userPrefixIndex, kafkaProducer, 1000);
+    }
+
+    @Test
+    void getUserByIdx_CacheHit_SkipsRepository() {
+        // given
+        User user = user(1L);
+        when(reactiveUserCache.get(1L)).thenReturn(Mono.just(user));
+
+        // when & then
+        StepVerifier.create(userReactiveService.getUserByIdx(1L))
+                .expectNext(user)
+                .verifyComplete();
+        verify(reactiveUserRepository, never()).findUserByIdx(any());
+    }
+
+    @Test
+    void getUserByIdx_CacheMiss_LoadsAndCaches() {
+        // given
+        User user = user(1L);
+        when(reactiveUserCache.get(1L)).thenReturn(Mono.empty());
+        when(reactiveUserRepository.findUserByIdx(1L)).thenReturn(Mono.just(user));
+        when(reactiveUserCache.put(user)).thenReturn(Mono.empty());
+
+        // when & then
+        StepVerifier.create(userReactiveService.getUserByIdx(1L))
+                .expectNext(user)
+                .verifyComplete();
+        verify(reactiveUserCache).put(user);
+    }
+
+    @Test
+    void getUserByIdx_NotFound_ErrorsWithUserNotFound() {
+        // given
+        when(reactiveUserCache.get(1L)).thenReturn(Mono.empty());
+        when(reactiveUserRepository.findUserByIdx(1L)).thenReturn(Mono.empty());
+
+        // when & then
+        StepVerifier.create(userReactiveService.getUserByIdx(1L))
+                .expectError(UserNotFoundException.class)
+                .verify();
+    }
+
+    @Test
+    void getAllUsers_InvalidLimit_UsesDefault() {
+        // given
+        when(reactiveUserRepository.findAllUsersByOrderByIdxDesc(null, 100)).thenReturn(Flux.just(user(2L), user(1L)));
+
+        // when & then
+        StepVerifier.create(userReactiveService.getAllUsers(null, 5000))
+                .expectNextCount(2)
+                .verifyComplete();
+    }
+
+    @Test
+    void getAllUsers_Backpressure_EmitsOnDemand() {
+        // given
+        when(reactiveUserRepository.findAllUsersByOrderByIdxDesc(null, 3)).thenReturn(Flux.just(user(3L), user(2L), user(1L)));
+
+        // when & then
+        StepVerifier.create(userReactiveService.getAllUsers(null, 3), 1)
+                .expectNextMatches(user -> user.getIdx() == 3L)
+                .thenRequest(2)
+                .expectNextCount(2)
+                .verifyComplete();
+    }
+
+    @Test
+    void getUsersByEmailStartWith_PrefixIndexReady_UsesIndex() {
+        // given
+        when(userPrefixIndex.canServe("user")).thenReturn(true);
+        when(userPrefixIndex.findByEmailPrefix("user", null, 10)).thenReturn(List.of(2L, 1L));
+        when(reactiveUserRepository.findUsersByIdxIn(List.of(2L, 1L))).thenReturn(Flux.just(user(2L), user(1L)));
+
+        // when & then
+        StepVerifier.create(userReactiveService.getUsersByEmailStartWith(null, "user", 10))
+                .expectNextCount(2)
+                .verifyComplete();
+        verify(reactiveUserRepository, never()).findUsersByEmailStartsWith(any(), any(), anyInt());
+    }
+
+    @Test
+    void getUsersByEmailStartWith_StaleIndexEntries_RefillsPage() {
+        // given: 3은 다른 노드에서 탈퇴, 4는 이메일이 바뀌었지만 아직 색인에 남아 있음
+        User renamed = User.builder().idx(4L).email("renamed@test.com").name("User 4").status(Status.ACTIVE).build();
+        when(userPrefixIndex.canServe("user")).thenReturn(true);
+        when(userPrefixIndex.findByEmailPrefix("user", null, 3)).thenReturn(List.of(5L, 4L, 3L));
+        when(userPrefixIndex.findByEmailPrefix("user", 3L, 2)).thenReturn(List.of(2L, 1L));
+        when(reactiveUserRepository.findUsersByIdxIn(List.of(5L, 4L, 3L))).thenReturn(Flux.just(user(5L), renamed));
+        when(reactiveUserRepository.findUsersByIdxIn(List.of(2L, 1L))).thenReturn(Flux.just(user(2L), user(1L)));
+
+        // when & then
+        StepVerifier.create(userReactiveService.getUsersByEmailStartWith(null, "user", 3).map(User::getIdx))
+                .expectNext(5L, 2L, 1L)
+                .verifyComplete();
+    }
+
+    @Test
+    void getUsersByNameStartWith_PrefixIndexNotReady_UsesRepository() {
+        // given
+        when(userPrefixIndex.canServe("Al")).thenReturn(false);
+        when(reactiveUserRepository.findUsersByNameStartsWith(null, "Al", 10)).thenReturn(Flux.just(user(1L)));
+
+        // when & then
+        StepVerifier.create(userReactiveService.getUsersByNameStartWith(null, "Al", 10))
+                .expectNextCount(1)
+                .verifyComplete();
+    }
+
+    private User user(Long idx) {
+        return User.builder()
+                .idx(idx)
+                .email("user" + idx + "@test.com")
+                .name("User " + idx)
+                .status(Status.ACTIVE)
+                .build();
+    }
+}
@@ -1,15 +1,30 @@
 package com.trip.user.service;
 
+import com.trip.auth.repository.RefreshTokenStore;
+import com.trip.auth.revocation.TokenRevocationList;
+import com.trip.common.exception.PasswordHashingBusyException;
+import com.trip.common.password.PasswordHasher;
 import com.trip.kafka.KafkaEvent;
 import com.trip.kafka.KafkaProducer;
 import com.trip.kafka.code.KafkaActions;
+import com.trip.user.cache.UserCache;
+import com.trip.user.code.BatchResult;
 import com.trip.user.code.Status;
+import com.trip.user.dto.CreateUser;
+import com.trip.user.dto.CreateUsers;
 import com.trip.user.dto.User;
+import com.trip.user.dto.UserLookup;
+import com.trip.user.dto.UserSlice;
 import com.trip.user.entity.UserEntity;
 import com.trip.user.exception.EmailAlreadyExistsException;
 import com.trip.user.exception.IncorrectPasswordException;
 import com.trip.user.exception.UserNotFoundException;
+import com.trip.user.exception.UserVersionMismatchException;
+import com.trip.user.index.UserPrefixIndex;
+import com.trip.user.repository.UserBatchRepository;
+import com.trip.user.repository.UserInsertResult;
 import com.trip.user.repository.UserRepository;
+import com.trip.user.status.UserStatusBitmap;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
@@ -17,11 +32,15 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.domain.PageRequest;
+import org.springframework.dao.DuplicateKeyException;
 
 import java.time.LocalDateTime;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.LongStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -32,9 +51,30 @@ class UserServiceImplTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private UserBatchRepository userBatchRepository;
+
     @Mock
     private KafkaProducer kafkaProducer;
 
+    @Mock
+    private UserCache userCache;
+
+    @Mock
+    private UserPrefixIndex userPrefixIndex;
+
+    @Mock
+    private RefreshTokenStore refreshTokenStore;
+
+    @Mock
+    private TokenRevocationList tokenRevocationList;
+
+    @Mock
+    private UserStatusBitmap userStatusBitmap;
+
+    @Mock
+    private PasswordHasher passwordHasher;
+
     @InjectMocks
     private UserServiceImpl userService;
 
@@ -62,6 +102,7 @@ class UserServiceImplTest {
 
 
         when(userRepository.findByEmail(email)).thenReturn(Optional.empty());
+        when(passwordHasher.hash(password)).thenReturn("hashed");
         when(userRepository.save(any(UserEntity.class))).thenReturn(userEntity);
         doNothing().when(kafkaProducer).sendUserEvent(any(KafkaEvent.class));
 
@@ -74,7 +115,9 @@ class UserServiceImplTest {
         assertEquals(name, createdUser.getName());
 
         verify(userRepository, times(1)).findByEmail(email);
-        verify(userRepository, times(1)).save(any(UserEntity.class));
+        ArgumentCaptor<UserEntity> userEntityCaptor = ArgumentCaptor.forClass(UserEntity.class);
+        verify(userRepository, times(1)).save(userEntityCaptor.capture());
+        assertEquals("hashed", userEntityCaptor.getValue().getPassword());
 
         ArgumentCaptor<KafkaEvent> kafkaEventCaptor = ArgumentCaptor.forClass(KafkaEvent.class);
         verify(kafkaProducer, times(1)).sendUserEvent(kafkaEventCaptor.capture());
@@ -120,45 +163,145 @@ class UserServiceImplTest {
         verify(kafkaProducer, never()).sendUserEvent(any(KafkaEvent.class));
     }
 
+    @Test
+    void createUsers_ReportsPerItemResult() {
+        // Given
+        List<CreateUser.Req> reqs = List.of(
+                CreateUser.Req.builder().email("new@test.com").name("new").password("password").build(),
+                CreateUser.Req.builder().email("exists@test.com").name("exists").password("password").build(),
+                CreateUser.Req.builder().email("new@test.com").name("again").password("password").build(),
+                CreateUser.Req.builder().email("invalid").name("invalid").password("password").build()
+        );
+
+        when(userRepository.findExistingEmails(List.of("new@test.com", "exists@test.com"))).thenReturn(Set.of("exists@test.com"));
+        when(passwordHasher.hashAll(List.of("password"))).thenReturn(List.of("hashed"));
+        when(userBatchRepository.insertAllOrEach(anyList())).thenReturn(List.of(UserInsertResult.created(10L)));
+
+        // When
+        List<CreateUsers.Result> results = userService.createUsers(reqs);
+
+        // Then
+        assertEquals(BatchResult.CREATED, results.get(0).getResult());
+        assertEquals(10L, results.get(0).getIdx());
+        assertEquals(BatchResult.DUPLICATE_EMAIL, results.get(1).getResult());
+        assertEquals(BatchResult.DUPLICATE_EMAIL, results.get(2).getResult());
+        assertEquals(BatchResult.INVALID, results.get(3).getResult());
+
+        ArgumentCaptor<KafkaEvent> kafkaEventCaptor = ArgumentCaptor.forClass(KafkaEvent.class);
+        verify(kafkaProducer, times(1)).sendUserEvent(kafkaEventCaptor.capture());
+        assertEquals(KafkaActions.CREATED, kafkaEventCaptor.getValue().getAction());
+        assertEquals(1, kafkaEventCaptor.getValue().getAfterUsers().size());
+    }
+
+    @Test
+    void createUsers_TooManyUsers_ThrowsException() {
+        // Given
+        List<CreateUser.Req> reqs = LongStream.rangeClosed(1, 101)
+                .mapToObj(i -> CreateUser.Req.builder().email(i + "@test.com").name("user" + i).password("password").build())
+                .toList();
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> userService.createUsers(reqs));
+        verify(passwordHasher, never()).hashAll(anyList());
+        verify(userBatchRepository, never()).insertAllOrEach(anyList());
+    }
+
+    @Test
+    void createUsers_PartialInsertFailure_ReportsEachRow() {
+        // Given: 중복 조회 이후 다른 요청이 같은 이메일로 먼저 가입
+        List<CreateUser.Req> reqs = List.of(
+                CreateUser.Req.builder().email("first@test.com").name("first").password("password").build(),
+                CreateUser.Req.builder().email("raced@test.com").name("raced").password("password").build()
+        );
+
+        when(userRepository.findExistingEmails(anyList())).thenReturn(Set.of());
+        when(passwordHasher.hashAll(anyList())).thenReturn(List.of("hashed", "hashed"));
+        when(userBatchRepository.insertAllOrEach(anyList())).thenReturn(List.of(
+                UserInsertResult.created(10L),
+                UserInsertResult.failed(new DuplicateKeyException("duplicate email"))));
+
+        // When
+        List<CreateUsers.Result> results = userService.createUsers(reqs);
+
+        // Then
+        assertEquals(BatchResult.CREATED, results.get(0).getResult());
+        assertEquals(BatchResult.DUPLICATE_EMAIL, results.get(1).getResult());
+
+        ArgumentCaptor<KafkaEvent> kafkaEventCaptor = ArgumentCaptor.forClass(KafkaEvent.class);
+        verify(kafkaProducer, times(1)).sendUserEvent(kafkaEventCaptor.capture());
+        assertEquals(List.of(10L), kafkaEventCaptor.getValue().getAfterUsers().stream().map(User::getIdx).toList());
+    }
+
     @Test
     void getAllUsers_Success() {
         // Given
-        Long cursor = 1L;
-        int pageSize = 10;
+        Long cursor = 10L;
+        int pageSize = 2;
 
-        List<UserEntity> userEntities = List.of(
-                UserEntity.builder().email("test1@test.com").name("User1").build(),
-                UserEntity.builder().email("test2@test.com").name("User2").build()
+        List<User> users = List.of(
+                User.builder().idx(9L).email("test1@test.com").name("User1").build(),
+                User.builder().idx(8L).email("test2@test.com").name("User2").build()
         );
 
-        Mockito.when(userRepository.existsByIdx(cursor)).thenReturn(true);
-        Mockito.when(userRepository.findAllByOrderByIdxDesc(cursor, PageRequest.of(0, pageSize))).thenReturn(userEntities);
+        Mockito.when(userRepository.findAllUsersByOrderByIdxDesc(cursor, pageSize + 1)).thenReturn(users);
 
         // When
-        List<User> users = userService.getAllUsers(cursor, pageSize);
+        UserSlice userSlice = userService.getAllUsers(cursor, pageSize);
 
         // Then
-        assertEquals(2, users.size());
+        assertEquals(2, userSlice.getUsers().size());
+        assertFalse(userSlice.isHasNext());
+        assertNull(userSlice.getNextCursor());
         verify(kafkaProducer, times(1)).sendUserEvent(Mockito.any(KafkaEvent.class));
     }
 
     @Test
-    void getAllUsers_CursorNotFound_ThrowsException() {
+    void getAllUsers_MoreThanPageSize_HasNext() {
         // Given
-        Long cursor = null;
+        Long cursor = 10L;
+        int pageSize = 2;
 
-        // When & Then
-        assertThrows(UserNotFoundException.class, () -> userService.getAllUsers(cursor, 10));
-        verify(kafkaProducer, never()).sendUserEvent(Mockito.any(KafkaEvent.class));
+        List<User> users = List.of(
+                User.builder().idx(9L).email("test1@test.com").name("User1").build(),
+                User.builder().idx(8L).email("test2@test.com").name("User2").build(),
+                User.builder().idx(7L).email("test3@test.com").name("User3").build()
+        );
+
+        Mockito.when(userRepository.findAllUsersByOrderByIdxDesc(cursor, pageSize + 1)).thenReturn(users);
+
+        // When
+        UserSlice userSlice = userService.getAllUsers(cursor, pageSize);
+
+        // Then
+        assertEquals(2, userSlice.getUsers().size());
+        assertTrue(userSlice.isHasNext());
+        assertEquals(8L, userSlice.getNextCursor());
+    }
+
+    @Test
+    void getAllUsers_NullCursor_StartsFromNewest() {
+        // Given
+        int pageSize = 10;
+
+        Mockito.when(userRepository.findAllUsersByOrderByIdxDesc(null, pageSize + 1)).thenReturn(List.of());
+
+        // When
+        UserSlice userSlice = userService.getAllUsers(null, pageSize);
+
+        // Then
+        assertTrue(userSlice.getUsers().isEmpty());
+        assertFalse(userSlice.isHasNext());
+        verify(userRepository, times(1)).findAllUsersByOrderByIdxDesc(null, pageSize + 1);
+        verify(kafkaProducer, times(1)).sendUserEvent(Mockito.any(KafkaEvent.class));
     }
 
     @Test
     void getUserByIdx_Success() {
         // Given
         Long idx = 1L;
-        UserEntity userEntity = UserEntity.builder().email("test@test.com").name("Test User").build();
+        User loadedUser = User.builder().idx(idx).email("test@test.com").name("Test User").build();
 
-        when(userRepository.findById(idx)).thenReturn(Optional.of(userEntity));
+        when(userRepository.findUserByIdx(idx)).thenReturn(Optional.of(loadedUser));
 
         // When
         User user = userService.getUserByIdx(idx);
@@ -166,38 +309,121 @@ class UserServiceImplTest {
         // Then
         assertNotNull(user);
         assertEquals("test@test.com", user.getEmail());
+        verify(userCache, times(1)).put(user);
         verify(kafkaProducer, times(1)).sendUserEvent(Mockito.any(KafkaEvent.class));
     }
 
+    @Test
+    void getUserByIdx_CacheHit_SkipsRepository() {
+        // Given
+        Long idx = 1L;
+        User cachedUser = User.builder().idx(idx).email("test@test.com").name("Test User").build();
+
+        when(userCache.get(idx)).thenReturn(Optional.of(cachedUser));
+
+        // When
+        User user = userService.getUserByIdx(idx);
+
+        // Then
+        assertEquals("test@test.com", user.getEmail());
+        verify(userRepository, never()).findUserByIdx(idx);
+        verify(kafkaProducer, times(1)).sendUserEvent(Mockito.any(KafkaEvent.class));
+    }
+
+    @Test
+    void getUsersByIdxList_PreservesOrderAndReportsMissing() {
+        // Given
+        User cachedUser = User.builder().idx(3L).email("cached@test.com").name("Cached").build();
+        User loadedUser = User.builder().idx(1L).email("loaded@test.com").name("Loaded").build();
+
+        when(userCache.getAll(Mockito.anyCollection())).thenReturn(new HashMap<>(Map.of(3L, cachedUser)));
+        when(userRepository.findUsersByIdxIn(List.of(2L, 1L))).thenReturn(List.of(loadedUser));
+
+        // When
+        UserLookup userLookup = userService.getUsersByIdxList(List.of(3L, 2L, 1L, 3L));
+
+        // Then
+        assertEquals(List.of(3L, 1L), userLookup.getUsers().stream().map(User::getIdx).toList());
+        assertEquals(List.of(2L), userLookup.getMissingIdx());
+        verify(userCache, times(1)).putAll(List.of(loadedUser));
+        verify(kafkaProducer, times(1)).sendUserEvent(Mockito.any(KafkaEvent.class));
+    }
+
+    @Test
+    void getUsersByIdxList_TooManyIds_ThrowsException() {
+        // Given
+        List<Long> idxList = LongStream.rangeClosed(1, 1_001).boxed().toList();
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> userService.getUsersByIdxList(idxList));
+        verify(userRepository, never()).findUsersByIdxIn(Mockito.anyCollection());
+    }
+
     @Test
     void getUserByIdx_NotFound_ThrowsException() {
         // Given
         Long idx = 1L;
 
-        when(userRepository.findById(idx)).thenReturn(Optional.empty());
+        when(userRepository.findUserByIdx(idx)).thenReturn(Optional.empty());
 
         // When & Then
         assertThrows(UserNotFoundException.class, () -> userService.getUserByIdx(idx));
         verify(kafkaProducer, never()).sendUserEvent(Mockito.any(KafkaEvent.class));
     }
 
+    @Test
+    void patchUser_Success() {
+        // Given
+        Long idx = 1L;
+        User user = User.builder().name("Patched").build();
+
+        when(userRepository.updateProfile(idx, null, "Patched", null)).thenReturn(1L);
+
+        // When
+        long updatedCount = userService.patchUser(idx, user, null);
+
+        // Then
+        assertEquals(1L, updatedCount);
+        verify(userRepository, never()).findUserByIdx(idx);
+        verify(userCache, times(1)).evict(idx);
+        verify(kafkaProducer, times(1)).sendUserEvent(Mockito.any(KafkaEvent.class));
+    }
+
+    @Test
+    void patchUser_DeletedOrMissing_ThrowsException() {
+        // Given
+        Long idx = 1L;
+        User user = User.builder().name("Patched").build();
+
+        when(userRepository.updateProfile(idx, null, "Patched", null)).thenReturn(0L);
+
+        // When & Then
+        assertThrows(UserNotFoundException.class, () -> userService.patchUser(idx, user, null));
+        verify(kafkaProducer, never()).sendUserEvent(Mockito.any(KafkaEvent.class));
+    }
+
+    @Test
+    void patchUser_NoFields_ThrowsException() {
+        assertThrows(IllegalArgumentException.class, () -> userService.patchUser(1L, User.builder().build(), null));
+        verify(userRepository, never()).updateProfile(any(), any(), any(), any());
+    }
+
     @Test
     void updateUser_Success() {
         // Given
         Long idx = 1L;
         User user = User.builder().email("updated@test.com").build();
+        User updatedUser = User.builder().idx(idx).email("updated@test.com").name("Test User").build();
 
-        UserEntity existingEntity = UserEntity.builder().email("test@test.com").name("Test User").build();
-        UserEntity updatedEntity = UserEntity.builder().email("updated@test.com").name("Test User").build();
-
-        when(userRepository.findByIdx(idx)).thenReturn(Optional.of(existingEntity));
-        when(userRepository.save(Mockito.any(UserEntity.class))).thenReturn(updatedEntity);
+        when(userRepository.updateProfile(idx, "updated@test.com", null, null)).thenReturn(1L);
+        when(userRepository.findUserByIdx(idx)).thenReturn(Optional.of(updatedUser));
 
         // When
-        User updatedUser = userService.updateUser(idx, user);
+        User result = userService.updateUser(idx, user, null);
 
         // Then
-        assertEquals("updated@test.com", updatedUser.getEmail());
+        assertEquals("updated@test.com", result.getEmail());
+        verify(userRepository, never()).save(Mockito.any(UserEntity.class));
         verify(kafkaProducer, times(1)).sendUserEvent(Mockito.any(KafkaEvent.class));
     }
 
@@ -207,13 +433,66 @@ class UserServiceImplTest {
         Long idx = 1L;
         User user = User.builder().email("updated@test.com").build();
 
-        when(userRepository.findByIdx(idx)).thenReturn(Optional.empty());
+        when(userRepository.updateProfile(idx, "updated@test.com", null, null)).thenReturn(0L);
 
         // When & Then
-        assertThrows(UserNotFoundException.class, () -> userService.updateUser(idx, user));
+        assertThrows(UserNotFoundException.class, () -> userService.updateUser(idx, user, null));
         verify(kafkaProducer, never()).sendUserEvent(Mockito.any(KafkaEvent.class));
     }
 
+    @Test
+    void updateUser_VersionMismatch_ThrowsException() {
+        // Given
+        Long idx = 1L;
+        User user = User.builder().email("updated@test.com").build();
+
+        when(userRepository.updateProfile(idx, "updated@test.com", null, 3L)).thenReturn(0L);
+        when(userRepository.findVersionByIdx(idx)).thenReturn(Optional.of(4L));
+
+        // When & Then
+        assertThrows(UserVersionMismatchException.class, () -> userService.updateUser(idx, user, 3L));
+        verify(userCache, never()).evict(idx);
+        verify(kafkaProducer, never()).sendUserEvent(Mockito.any(KafkaEvent.class));
+    }
+
+    @Test
+    void patchUser_VersionMatches_Success() {
+        // Given
+        Long idx = 1L;
+        User user = User.builder().name("Patched").build();
+
+        when(userRepository.updateProfile(idx, null, "Patched", 3L)).thenReturn(1L);
+
+        // When
+        long updatedCount = userService.patchUser(idx, user, 3L);
+
+        // Then
+        assertEquals(1L, updatedCount);
+        verify(userRepository, never()).findVersionByIdx(idx);
+    }
+
+    @Test
+    void getUserVersion_StaleCachedUser_ReadsVersionColumn() {
+        // Given
+        Long idx = 1L;
+        lenient().when(userCache.getLocal(idx)).thenReturn(Optional.of(User.builder().idx(idx).version(5L).build()));
+        when(userRepository.findVersionByIdx(idx)).thenReturn(Optional.of(6L));
+
+        // When & Then
+        assertEquals(Optional.of(6L), userService.getUserVersion(idx));
+    }
+
+    @Test
+    void getUserVersion_ReadsVersionColumn() {
+        // Given
+        Long idx = 1L;
+        when(userRepository.findVersionByIdx(idx)).thenReturn(Optional.of(2L));
+
+        // When & Then
+        assertEquals(Optional.of(2L), userService.getUserVersion(idx));
+        verify(userRepository, never()).findUserByIdx(idx);
+    }
+
     @Test
     void updatePassword_Success() {
         // Given
@@ -221,10 +500,10 @@ class UserServiceImplTest {
         String oldPassword = "oldpass";
         String newPassword = "newpass";
 
-        UserEntity existingEntity = UserEntity.builder().password(oldPassword).build();
-
-        when(userRepository.findByIdx(idx)).thenReturn(Optional.of(existingEntity));
-        when(userRepository.save(Mockito.any(UserEntity.class))).thenReturn(existingEntity);
+        when(userRepository.findPasswordByIdx(idx)).thenReturn(Optional.of("old-hash"));
+        when(passwordHasher.matches(oldPassword, "old-hash")).thenReturn(true);
+        when(passwordHasher.hash(newPassword)).thenReturn("new-hash");
+        when(userRepository.updatePassword(idx, "new-hash")).thenReturn(1L);
 
         // When
         User updatedUser = userService.updatePassword(idx, oldPassword, newPassword);
@@ -241,28 +520,60 @@ class UserServiceImplTest {
         String oldPassword = "wrongpass";
         String newPassword = "newpass";
 
-        UserEntity existingEntity = UserEntity.builder().password("oldpass").build();
-
-        when(userRepository.findByIdx(idx)).thenReturn(Optional.of(existingEntity));
+        when(userRepository.findPasswordByIdx(idx)).thenReturn(Optional.of("old-hash"));
+        when(passwordHasher.matches(oldPassword, "old-hash")).thenReturn(false);
 
         // When & Then
         assertThrows(IncorrectPasswordException.class, () -> userService.updatePassword(idx, oldPassword, newPassword));
+        verify(userRepository, never()).updatePassword(any(), any());
         verify(kafkaProducer, never()).sendUserEvent(Mockito.any(KafkaEvent.class));
     }
 
+    @Test
+    void upgradePasswordHash_ReplacesOnlyUnchangedPassword() {
+        // Given
+        Long idx = 1L;
+
+        when(passwordHasher.hash("password")).thenReturn("hashed");
+        when(userRepository.replacePassword(idx, "password", "hashed")).thenReturn(1L);
+
+        // When
+        userService.upgradePasswordHash(idx, "password", "password");
+
+        // Then
+        verify(userRepository, times(1)).replacePassword(idx, "password", "hashed");
+        verify(kafkaProducer, never()).sendUserEvent(any(KafkaEvent.class));
+    }
+
+    @Test
+    void upgradePasswordHash_HashingBusy_Skips() {
+        // Given
+        when(passwordHasher.hash("password")).thenThrow(new PasswordHashingBusyException());
+
+        // When
+        userService.upgradePasswordHash(1L, "password", "password");
+
+        // Then
+        verify(userRepository, never()).replacePassword(any(), any(), any());
+    }
+
     @Test
     void deleteUser_Success() {
         // Given
         Long idx = 1L;
-        UserEntity existingEntity = UserEntity.builder().build();
 
-        when(userRepository.findByIdx(idx)).thenReturn(Optional.of(existingEntity));
+        when(userRepository.markDeleted(idx)).thenReturn(1L);
 
         // When
         boolean result = userService.deleteUser(idx);
 
         // Then
         assertTrue(result);
+        verify(userCache, times(1)).evict(idx);
+        verify(userPrefixIndex, times(1)).remove(idx);
+        verify(refreshTokenStore, times(1)).deleteAll(idx);
+        verify(tokenRevocationList, times(1)).revokeUser(idx);
+        verify(userStatusBitmap, times(1)).update(idx, Status.DELETED);
         verify(kafkaProducer, times(1)).sendUserEvent(Mockito.any(KafkaEvent.class));
     }
 
@@ -271,10 +582,10 @@ class UserServiceImplTest {
         // Given
         Long idx = 1L;
 
-        when(userRepository.findByIdx(idx)).thenReturn(Optional.empty());
+        when(userRepository.markDeleted(idx)).thenReturn(0L);
 
         // When & Then
         assertThrows(UserNotFoundException.class, () -> userService.deleteUser(idx));
         verify(kafkaProducer, never()).sendUserEvent(Mockito.any(KafkaEvent.class));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,77 @@
+package com.trip.user.status;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.BitSet;
+import java.util.SplittableRandom;
+import java.util.function.LongPredicate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 사용자 1,000만 명 기준 상태 비트맵 메모리와 조회 비용
+ * ACTIVE 가 아닌 사용자 비율(무작위 0.1%, 1%, 10%)과 오래된 구간에 몰린 경우를 java.util.BitSet 과 비교합니다.
+ * ./gradlew benchmark 로 실행합니다.
+ */
+@Tag("benchmark")
+class UserStatusBitmapBenchmarkTest {
+
+    private static final int USER_COUNT = 10_000_000;
+    private static final int LOOKUPS = 20_000_000;
+
+    @Test
+    void compareMemoryAndLookup() {
+        measure("random 0.1%", 0.001, false);
+        measure("random 1%", 0.01, false);
+        measure("random 10%", 0.1, false);
+        measure("clustered 10%", 0.1, true);
+    }
+
+    private void measure(String name, double ratio, boolean clustered) {
+        SplittableRandom random = new SplittableRandom(42);
+        IdxBitmap.Builder builder = new IdxBitmap.Builder();
+        BitSet bitSet = new BitSet(USER_COUNT + 1);
+        for (int idx = 1; idx <= USER_COUNT; idx++) {
+            // 클러스터: 가입 순서상 앞쪽 사용자가 탈퇴, 휴면 상태로 몰려 있는 경우
+            boolean inactive = clustered ? idx <= USER_COUNT * ratio : random.nextDouble() < ratio;
+            if (inactive) {
+                builder.add(idx);
+                bitSet.set(idx);
+            }
+        }
+        IdxBitmap bitmap = builder.build();
+        assertEquals(bitSet.cardinality(), bitmap.cardinality());
+
+        long[] probes = random.longs(LOOKUPS, 1, USER_COUNT + 1).toArray();
+        Result bitmapResult = lookup(bitmap::contains, probes);
+        Result bitSetResult = lookup(idx -> bitSet.get((int) idx), probes);
+        assertEquals(bitSetResult.hits(), bitmapResult.hits());
+
+        System.out.printf("%-14s : %,9d users, bitmap %,10d bytes (%,4d ns, %d bytes allocated), BitSet %,10d bytes (%,4d ns)%n",
+                name, bitmap.cardinality(), bitmap.sizeInBytes(), bitmapResult.nanos(), bitmapResult.allocatedBytes(),
+                bitSet.size() / 8, bitSetResult.nanos());
+    }
+
+    private Result lookup(LongPredicate contains, long[] probes) {
+        for (int i = 0; i < probes.length / 4; i++) {
+            contains.test(probes[i]);
+        }
+
+        com.sun.management.ThreadMXBean threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long allocatedBefore = threadMXBean.getCurrentThreadAllocatedBytes();
+        long startedAt = System.nanoTime();
+        long hits = 0;
+        for (long probe : probes) {
+            if (contains.test(probe)) {
+                hits++;
+            }
+        }
+        long nanos = (System.nanoTime() - startedAt) / probes.length;
+        return new Result(hits, nanos, threadMXBean.getCurrentThreadAllocatedBytes() - allocatedBefore);
+    }
+
+    private record Result(long hits, long nanos, long allocatedBytes) {
+    }
+}
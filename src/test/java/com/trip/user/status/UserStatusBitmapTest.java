@@ -0,0 +1,123 @@
+package com.trip.user.status;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.trip.user.code.Status;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UserStatusBitmapTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private UserStatusBitmap userStatusBitmap;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        userStatusBitmap = new UserStatusBitmap(meterRegistry);
+    }
+
+    @Test
+    void update_NonActiveStatus_MarksInactiveUntilActive() {
+        userStatusBitmap.update(1L, Status.SUSPENDED);
+        userStatusBitmap.update(70_000L, Status.DELETED);
+
+        assertTrue(userStatusBitmap.isInactive(1L));
+        assertTrue(userStatusBitmap.isInactive(70_000L));
+        assertFalse(userStatusBitmap.isInactive(2L));
+
+        userStatusBitmap.update(1L, Status.ACTIVE);
+
+        assertFalse(userStatusBitmap.isInactive(1L));
+        assertEquals(1, meterRegistry.get("member.user.status-bitmap.users").gauge().value());
+    }
+
+    @Test
+    void eventListener_AppliesOnlyStateChangingEvents() {
+        UserStatusEventListener listener = new UserStatusEventListener(userStatusBitmap, new ObjectMapper());
+
+        listener.consumeMessage("""
+                {"action":"UPDATED","afterUser":{"idx":1,"status":"SUSPENDED"}}""");
+        // 정지 이전에 읽은 로그인 이벤트의 상태로 되돌리지 않음
+        listener.consumeMessage("""
+                {"action":"LOGIN","afterUser":{"idx":1,"status":"ACTIVE"}}""");
+        listener.consumeMessage("""
+                {"action":"DELETED","beforeUser":{"idx":2,"status":"DELETED"}}""");
+        listener.consumeMessage("""
+                {"action":"CREATED","afterUsers":[{"idx":3,"status":"INACTIVE"}]}""");
+
+        assertTrue(userStatusBitmap.isInactive(1L));
+        assertTrue(userStatusBitmap.isInactive(2L));
+        assertTrue(userStatusBitmap.isInactive(3L));
+    }
+
+    @Test
+    void load_KeepsChangesMadeWhileLoading() {
+        // 적재 쿼리가 끝나기 전에 2는 다시 활성화되고 3은 정지됨
+        Iterator<Long> rows = new Iterator<>() {
+            private final Iterator<Long> delegate = List.of(1L, 2L).iterator();
+
+            @Override
+            public boolean hasNext() {
+                return delegate.hasNext();
+            }
+
+            @Override
+            public Long next() {
+                Long idx = delegate.next();
+                if (idx == 2L) {
+                    userStatusBitmap.update(2L, Status.ACTIVE);
+                    userStatusBitmap.update(3L, Status.SUSPENDED);
+                }
+                return idx;
+            }
+        };
+
+        userStatusBitmap.load(rows);
+
+        assertTrue(userStatusBitmap.isReady());
+        assertTrue(userStatusBitmap.isInactive(1L));
+        assertFalse(userStatusBitmap.isInactive(2L));
+        assertTrue(userStatusBitmap.isInactive(3L));
+    }
+
+    @Test
+    void idxBitmap_SwitchesBetweenArrayAndBitmapContainers() {
+        IdxBitmap.Builder builder = new IdxBitmap.Builder();
+        LongStream.range(0, 4096).forEach(i -> builder.add(i * 2));
+        IdxBitmap array = builder.build();
+        long arrayBytes = array.sizeInBytes();
+
+        IdxBitmap bitmap = array.with(1L);
+        IdxBitmap compacted = bitmap.without(1L);
+
+        assertEquals(4096, array.cardinality());
+        assertFalse(array.contains(1L));
+        assertTrue(bitmap.contains(1L) && bitmap.contains(8190L));
+        assertEquals(4097, bitmap.cardinality());
+        // 4,096개를 넘으면 8KB 비트맵, 다시 줄면 배열로 되돌림
+        assertTrue(bitmap.sizeInBytes() > 8192);
+        assertEquals(arrayBytes, compacted.sizeInBytes());
+        assertFalse(compacted.contains(1L));
+        assertTrue(compacted.contains(8190L));
+    }
+
+    @Test
+    void idxBitmap_OutOfRangeIdx_NotStored() {
+        IdxBitmap bitmap = IdxBitmap.EMPTY.with(IdxBitmap.MAX_IDX);
+
+        assertTrue(bitmap.contains(IdxBitmap.MAX_IDX));
+        assertFalse(bitmap.contains(IdxBitmap.MAX_IDX + 1));
+        assertFalse(bitmap.contains(-1L));
+        assertThrows(IllegalArgumentException.class, () -> bitmap.with(IdxBitmap.MAX_IDX + 1));
+
+        userStatusBitmap.update(IdxBitmap.MAX_IDX + 1, Status.DELETED);
+        assertFalse(userStatusBitmap.isInactive(IdxBitmap.MAX_IDX + 1));
+    }
+}